@@ -18,6 +18,7 @@ import com.aws.greengrass.clientdevices.auth.iot.usecases.CreateIoTThingSession;
 import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionConfig;
+import com.aws.greengrass.clientdevices.auth.session.SessionCreator;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
 import com.aws.greengrass.dependency.State;
 import com.aws.greengrass.deployment.exceptions.DeviceConfigurationException;
@@ -73,6 +74,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -142,8 +144,9 @@ public class MetricsEmitterTest {
         clock = Clock.systemUTC();
         metricSpy = spy(new ClientDeviceAuthMetrics(clock));
         domainEvents = new DomainEvents();
-        sessionManager = new SessionManager(domainEvents);
         kernel = new Kernel();
+        sessionManager = new SessionManager(domainEvents, kernel.getContext().get(ScheduledExecutorService.class),
+                kernel.getContext().get(SessionCreator.class));
         kernel.getContext().put(DomainEvents.class, domainEvents);
         kernel.getContext().put(Clock.class, clock);
         kernel.getContext().put(ClientDeviceAuthMetrics.class, metricSpy);
@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Authorization request for several actions performed by the same session, such as an MQTT SUBSCRIBE with multiple
+ * topic filters. Decisions are returned in the order of {@link #getActions()}.
+ */
+@Value
+@Builder
+public class BatchAuthorizationRequest {
+    @NonNull String sessionId;
+    @NonNull
+    @Singular
+    List<Action> actions;
+
+    @Value
+    public static class Action {
+        @NonNull String operation;
+        @NonNull String resource;
+    }
+}
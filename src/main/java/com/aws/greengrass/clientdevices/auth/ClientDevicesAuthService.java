@@ -12,26 +12,32 @@ import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CACertificateChainChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CAConfigurationChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CertificateRotationHandler;
+import com.aws.greengrass.clientdevices.auth.certificate.handlers.ComponentCertificateValidationHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.SecurityConfigurationChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.infra.BackgroundCertificateRefresh;
 import com.aws.greengrass.clientdevices.auth.configuration.CDAConfiguration;
-import com.aws.greengrass.clientdevices.auth.configuration.GroupConfiguration;
-import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
+import com.aws.greengrass.clientdevices.auth.configuration.GroupConfigurationUpdater;
 import com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration;
 import com.aws.greengrass.clientdevices.auth.configuration.RuntimeConfiguration;
 import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
 import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInfoCache;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
+import com.aws.greengrass.clientdevices.auth.iot.GreengrassV2DataClientFactory;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.RestoreIoTThingSession;
 import com.aws.greengrass.clientdevices.auth.metrics.MetricsEmitter;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDeviceActionsMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateSubscriptionEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.MetricsConfigurationChangedHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceErrorEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionCreationEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionExpiredEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionStoreSizeEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.VerifyClientDeviceIdentityEventHandler;
 import com.aws.greengrass.clientdevices.auth.session.MqttSessionFactory;
 import com.aws.greengrass.clientdevices.auth.session.SessionConfig;
 import com.aws.greengrass.clientdevices.auth.session.SessionCreator;
+import com.aws.greengrass.clientdevices.auth.session.SessionJournal;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
 import com.aws.greengrass.clientdevices.auth.util.ResizableLinkedBlockingQueue;
 import com.aws.greengrass.config.Node;
@@ -44,8 +50,6 @@ import com.aws.greengrass.ipc.SubscribeToCertificateUpdatesOperationHandler;
 import com.aws.greengrass.ipc.VerifyClientDeviceIdentityOperationHandler;
 import com.aws.greengrass.lifecyclemanager.PluginService;
 import com.aws.greengrass.util.Coerce;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import software.amazon.awssdk.aws.greengrass.GreengrassCoreIPCService;
 
 import java.net.URISyntaxException;
@@ -75,6 +79,11 @@ public class ClientDevicesAuthService extends PluginService {
     public static final String MAX_ACTIVE_AUTH_TOKENS_TOPIC = "maxActiveAuthTokens";
     public static final String CLOUD_REQUEST_QUEUE_SIZE_TOPIC = "cloudRequestQueueSize";
     public static final String MAX_CONCURRENT_CLOUD_REQUESTS_TOPIC = "maxConcurrentCloudRequests";
+    public static final String SESSION_IDLE_TIMEOUT_SECONDS_TOPIC = "sessionIdleTimeoutSeconds";
+    public static final String MAX_SESSION_LIFETIME_SECONDS_TOPIC = "maxSessionLifetimeSeconds";
+    public static final String PERSIST_SESSIONS_TOPIC = "persistSessions";
+    public static final String MAX_SESSION_MEMORY_BYTES_TOPIC = "maxSessionMemoryBytes";
+    public static final String MAX_CLOUD_CONNECTIONS_TOPIC = "maxCloudConnections";
     // Limit the queue size before we start rejecting requests
     private static final int DEFAULT_CLOUD_CALL_QUEUE_SIZE = 100;
     private static final int DEFAULT_THREAD_POOL_SIZE = 1;
@@ -120,6 +129,18 @@ public class ClientDevicesAuthService extends PluginService {
         return newSize;
     }
 
+    private void updateMaxCloudConnections() {
+        int maxConnections = Coerce.toInt(
+                this.config.findOrDefault(GreengrassV2DataClientFactory.DEFAULT_MAX_CONNECTIONS,
+                        CONFIGURATION_CONFIG_KEY, PERFORMANCE_TOPIC, MAX_CLOUD_CONNECTIONS_TOPIC));
+        if (maxConnections <= 0) {
+            logger.atWarn().log("{} illegal value, using default of {}", MAX_CLOUD_CONNECTIONS_TOPIC,
+                    GreengrassV2DataClientFactory.DEFAULT_MAX_CONNECTIONS);
+            maxConnections = GreengrassV2DataClientFactory.DEFAULT_MAX_CONNECTIONS;
+        }
+        context.get(GreengrassV2DataClientFactory.class).setMaxConnections(maxConnections);
+    }
+
     private void initializeInfrastructure() {
         // Infra setup
         RuntimeConfiguration runtimeConfiguration = RuntimeConfiguration.from(getRuntimeConfig());
@@ -137,22 +158,26 @@ public class ClientDevicesAuthService extends PluginService {
         cloudCallThreadPool = new ThreadPoolExecutor(1, DEFAULT_THREAD_POOL_SIZE, 60, TimeUnit.SECONDS,
                 new ResizableLinkedBlockingQueue<>(cloudCallQueueSize));
         cloudCallThreadPool.allowCoreThreadTimeOut(true); // act as a cached threadpool
+        context.get(CloudCallThreadPool.class).setThreadPool(cloudCallThreadPool);
     }
 
     private void initializeHandlers() {
         // Register auth session handlers
         context.get(SessionManager.class).setSessionConfig(new SessionConfig(getConfig()));
-        SessionCreator.registerSessionFactory("mqtt", context.get(MqttSessionFactory.class));
+        context.get(SessionCreator.class).registerSessionFactory("mqtt", context.get(MqttSessionFactory.class));
 
         // Register domain event handlers
         context.get(CACertificateChainChangedHandler.class).listen();
         context.get(CAConfigurationChangedHandler.class).listen();
         context.get(CertificateRotationHandler.class).listen();
+        context.get(ComponentCertificateValidationHandler.class).listen();
         context.get(SecurityConfigurationChangedHandler.class).listen();
         context.get(CertificateSubscriptionEventHandler.class).listen();
         context.get(VerifyClientDeviceIdentityEventHandler.class).listen();
         context.get(AuthorizeClientDeviceActionsMetricHandler.class).listen();
         context.get(SessionCreationEventHandler.class).listen();
+        context.get(SessionExpiredEventHandler.class).listen();
+        context.get(SessionStoreSizeEventHandler.class).listen();
         context.get(ServiceErrorEventHandler.class).listen();
         context.get(MetricsConfigurationChangedHandler.class).listen();
     }
@@ -191,6 +216,8 @@ public class ClientDevicesAuthService extends PluginService {
             logger.atWarn().log("Unable to update CDA threadpool size due to {}", e.getMessage());
         }
 
+        updateMaxCloudConnections();
+
         if (whatHappened != WhatHappened.initialized && node != null && node.childOf(CLOUD_REQUEST_QUEUE_SIZE_TOPIC)) {
             // NOTE: Extract this to a method these are infrastructure concerns.
             BlockingQueue<Runnable> q = cloudCallThreadPool.getQueue();
@@ -209,6 +236,9 @@ public class ClientDevicesAuthService extends PluginService {
 
     @Override
     protected void startup() throws InterruptedException {
+        // Restored on every start, since the journal is closed on shutdown
+        context.get(SessionManager.class).restoreSessions(context.get(SessionJournal.class),
+                context.get(UseCases.class).get(RestoreIoTThingSession.class));
         context.get(CertificateManager.class).startMonitors();
         super.startup();
     }
@@ -219,6 +249,10 @@ public class ClientDevicesAuthService extends PluginService {
         context.get(CertificateManager.class).stopMonitors();
         context.get(BackgroundCertificateRefresh.class).stop();
         context.get(MetricsEmitter.class).stop();
+        context.get(SessionManager.class).closeJournal();
+        context.get(SessionManager.class).stopExpiringSessions();
+        // Released here and rebuilt on next use, so that a restarted service doesn't keep idle connections open
+        context.get(GreengrassV2DataClientFactory.class).close();
     }
 
     @Override
@@ -237,16 +271,17 @@ public class ClientDevicesAuthService extends PluginService {
         GreengrassCoreIPCService greengrassCoreIPCService = context.get(GreengrassCoreIPCService.class);
         ClientDevicesAuthServiceApi serviceApi = context.get(ClientDevicesAuthServiceApi.class);
         CertificateManager certificateManager = context.get(CertificateManager.class);
+        CloudCallThreadPool cloudCallExecutor = context.get(CloudCallThreadPool.class);
 
         greengrassCoreIPCService.setSubscribeToCertificateUpdatesHandler(
                 context -> new SubscribeToCertificateUpdatesOperationHandler(context, certificateManager,
                         authorizationHandler));
         greengrassCoreIPCService.setVerifyClientDeviceIdentityHandler(
                 context -> new VerifyClientDeviceIdentityOperationHandler(context, serviceApi, authorizationHandler,
-                        cloudCallThreadPool));
+                        cloudCallExecutor));
         greengrassCoreIPCService.setGetClientDeviceAuthTokenHandler(
                 context -> new GetClientDeviceAuthTokenOperationHandler(context, serviceApi, authorizationHandler,
-                        cloudCallThreadPool));
+                        cloudCallExecutor));
         greengrassCoreIPCService.setAuthorizeClientDeviceActionHandler(
                 context -> new AuthorizeClientDeviceActionOperationHandler(context, serviceApi, authorizationHandler));
     }
@@ -256,12 +291,8 @@ public class ClientDevicesAuthService extends PluginService {
     }
 
     private void updateDeviceGroups(WhatHappened whatHappened, Topics deviceGroupsTopics) {
-        final ObjectMapper objectMapper = new ObjectMapper().enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS,
-                MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
-
         try {
-            context.get(GroupManager.class).setGroupConfiguration(
-                    objectMapper.convertValue(deviceGroupsTopics.toPOJO(), GroupConfiguration.class));
+            context.get(GroupConfigurationUpdater.class).update(deviceGroupsTopics.toPOJO());
         } catch (IllegalArgumentException e) {
             logger.atError().kv("event", whatHappened).kv("node", deviceGroupsTopics.getFullName()).setCause(e)
                     .log("Unable to parse group configuration");
@@ -5,57 +5,52 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
-import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
+import com.aws.greengrass.clientdevices.auth.certificate.ComponentCertificateValidator;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
+import com.aws.greengrass.clientdevices.auth.configuration.PermissionIndex;
 import com.aws.greengrass.clientdevices.auth.exception.AuthorizationException;
 import com.aws.greengrass.clientdevices.auth.exception.InvalidSessionException;
 import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
+import com.aws.greengrass.clientdevices.auth.iot.ParsedCertificate;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+import com.aws.greengrass.clientdevices.auth.session.AuthorizationDecisionCache;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeSlots;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
-import software.amazon.awssdk.utils.StringInputStream;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertPath;
-import java.security.cert.CertPathValidator;
-import java.security.cert.CertPathValidatorException;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.PKIXParameters;
-import java.security.cert.TrustAnchor;
-import java.security.cert.X509Certificate;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
+
+import java.util.BitSet;
 import java.util.List;
 import javax.inject.Inject;
 
 public class DeviceAuthClient {
     private static final String ALLOW_ALL_SESSION = "ALLOW_ALL";
     private static final Logger logger = LogManager.getLogger(DeviceAuthClient.class);
+    private static final int COMPONENT_ATTRIBUTE_SLOT = AttributeSlots.of(Component.NAMESPACE, "component");
 
     private final SessionManager sessionManager;
     private final GroupManager groupManager;
-    private final CertificateStore certificateStore;
+    private final ComponentCertificateValidator componentCertificateValidator;
+    private final ClientDeviceAuthMetrics metrics;
 
     /**
      * Constructor.
      *
-     * @param sessionManager   Session manager
-     * @param groupManager     Group manager
-     * @param certificateStore Certificate store
+     * @param sessionManager                Session manager
+     * @param groupManager                  Group manager
+     * @param componentCertificateValidator Component certificate validator
+     * @param metrics                       Client Device Auth metrics
      */
     @Inject
     public DeviceAuthClient(SessionManager sessionManager, GroupManager groupManager,
-                            CertificateStore certificateStore) {
+                            ComponentCertificateValidator componentCertificateValidator,
+                            ClientDeviceAuthMetrics metrics) {
         this.sessionManager = sessionManager;
         this.groupManager = groupManager;
-        this.certificateStore = certificateStore;
+        this.componentCertificateValidator = componentCertificateValidator;
+        this.metrics = metrics;
     }
 
     /**
@@ -65,54 +60,24 @@ public class DeviceAuthClient {
      * @return true if the certificate was provided to a Greengrass component.
      */
     public boolean isGreengrassComponent(String certificatePem) {
-        try {
-            CertificateFactory cf = CertificateFactory.getInstance("X.509");
-            try (InputStream is = new StringInputStream(certificatePem)) {
-                List<X509Certificate> leafCertificate;
-
-                // Note: We are just reading the leaf certificate (the one that CDA signed and provided to the
-                // client/server component) and checking that one against out leaf level core CA certificate.
-                if (is.available() > 0) {
-                    try {
-                        leafCertificate = Arrays.asList((X509Certificate) cf.generateCertificate(is));
-                        CertPath leafCertPath = cf.generateCertPath(leafCertificate);
-                        return isGreengrassComponent(leafCertPath);
-                    } catch (CertificateException e) {
-                        // This doesn't necessarily mean there's a bad certificate.
-                        // It could be that the string just has some extra newlines
-                        // characters. Log warning and continue. If this is a meaningful
-                        // failure, then let chain validation catch it.
-                        logger.atWarn().log("Unable to parse entire certificate chain");
-                    }
-                }
-            }
-        } catch (CertificateException | IOException e) {
-            logger.atError().cause(e).kv("pem", certificatePem).log("Unable to parse certificate");
+        if (certificatePem == null || certificatePem.isEmpty()) {
+            return false;
         }
-        return false;
-    }
-
-    private boolean isGreengrassComponent(CertPath certPath) {
+        ParsedCertificate certificate;
         try {
-            X509Certificate caCertificate = certificateStore.getCACertificate();
-            if (certPath.getCertificates() == null || certPath.getCertificates().isEmpty() || caCertificate == null) {
-                return false;
-            }
-            CertPathValidator cpv = CertPathValidator.getInstance("PKIX");
-            TrustAnchor trustAnchor = new TrustAnchor(caCertificate, null);
-            PKIXParameters validationParams = new PKIXParameters(new HashSet<>(Collections.singletonList(trustAnchor)));
-            validationParams.setRevocationEnabled(false);
-            cpv.validate(certPath, validationParams);
-            return true;
-        } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
-            logger.atError().cause(e).log("Unable to load certificate validator");
-        } catch (CertPathValidatorException e) {
-            logger.atDebug().log("Certificate was not issued by local CA");
-        } catch (KeyStoreException e) {
-            logger.atError().cause(e).log("Unable to load CA keystore");
+            // Note: We are just reading the leaf certificate (the one that CDA signed and provided to the
+            // client/server component) and checking that one against out leaf level core CA certificate.
+            certificate = ParsedCertificate.of(certificatePem);
+        } catch (InvalidCertificateException e) {
+            // This doesn't necessarily mean there's a bad certificate.
+            // It could be that the string just has some extra newlines
+            // characters. Log warning and continue. If this is a meaningful
+            // failure, then let chain validation catch it.
+            logger.atWarn().log("Unable to parse entire certificate chain");
+            return false;
         }
 
-        return false;
+        return componentCertificateValidator.isIssuedByLocalCa(certificate);
     }
 
     /**
@@ -131,17 +96,104 @@ public class DeviceAuthClient {
             return true;
         }
 
-        Session session = sessionManager.findSession(request.getSessionId());
-        if (session == null) {
-            throw new InvalidSessionException(String.format("Invalid session ID (%s)", request.getSessionId()));
-        }
-        // Allow all operations from internal components
-        // Keep the workaround above (ALLOW_ALL_SESSION) for Moquette since it is using the older session management
-        if (session.getSessionAttribute(Component.NAMESPACE, "component") != null) {
+        Session session = findSession(request.getSessionId());
+        if (isComponentSession(session)) {
             return true;
         }
 
-        return PermissionEvaluationUtils.isAuthorized(request.getOperation(), request.getResource(),
-                groupManager.getApplicablePolicyPermissions(session));
+        // Read the configuration version before evaluating, so a decision made against a configuration which is
+        // replaced concurrently is cached under the outdated version
+        long configurationVersion = groupManager.getConfigurationVersion();
+        AuthorizationDecisionCache decisionCache = session.getAuthorizationDecisionCache();
+        Boolean cachedDecision =
+                getCachedDecision(decisionCache, configurationVersion, request.getOperation(), request.getResource());
+        if (cachedDecision != null) {
+            return cachedDecision;
+        }
+
+        boolean decision = PermissionEvaluationUtils.isAuthorized(request.getOperation(), request.getResource(),
+                groupManager.getApplicablePermissionIndexes(session));
+        if (decisionCache != null) {
+            decisionCache.put(configurationVersion, request.getOperation(), request.getResource(), decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Determine which of a batch of device operations are allowed. The session and the permissions applicable to it
+     * are resolved once for the whole batch.
+     *
+     * @param request batch authorization request including sessionId and the (operation, resource) pairs
+     * @return decisions, where bit i is set if the i-th action of the request is allowed
+     * @throws AuthorizationException if session is invalid
+     */
+    public BitSet canDevicePerform(BatchAuthorizationRequest request) throws AuthorizationException {
+        List<BatchAuthorizationRequest.Action> actions = request.getActions();
+        logger.atDebug().kv("sessionId", request.getSessionId()).kv("actions", actions.size())
+                .log("Processing batch authorization request");
+
+        BitSet decisions = new BitSet(actions.size());
+        // TODO: Remove this workaround
+        if (request.getSessionId().equals(ALLOW_ALL_SESSION)) {
+            decisions.set(0, actions.size());
+            return decisions;
+        }
+
+        Session session = findSession(request.getSessionId());
+        if (isComponentSession(session)) {
+            decisions.set(0, actions.size());
+            return decisions;
+        }
+
+        long configurationVersion = groupManager.getConfigurationVersion();
+        AuthorizationDecisionCache decisionCache = session.getAuthorizationDecisionCache();
+        // Only resolved on the first cache miss
+        List<PermissionIndex> permissionIndexes = null;
+        for (int i = 0; i < actions.size(); i++) {
+            BatchAuthorizationRequest.Action action = actions.get(i);
+            Boolean decision =
+                    getCachedDecision(decisionCache, configurationVersion, action.getOperation(), action.getResource());
+            if (decision == null) {
+                if (permissionIndexes == null) {
+                    permissionIndexes = groupManager.getApplicablePermissionIndexes(session);
+                }
+                decision = PermissionEvaluationUtils.isAuthorized(action.getOperation(), action.getResource(),
+                        permissionIndexes);
+                if (decisionCache != null) {
+                    decisionCache.put(configurationVersion, action.getOperation(), action.getResource(), decision);
+                }
+            }
+            decisions.set(i, decision);
+        }
+        return decisions;
+    }
+
+    private Session findSession(String sessionId) throws InvalidSessionException {
+        Session session = sessionManager.findSession(sessionId);
+        if (session == null) {
+            throw new InvalidSessionException(String.format("Invalid session ID (%s)", sessionId));
+        }
+        return session;
+    }
+
+    // Allow all operations from internal components
+    // Keep the workaround above (ALLOW_ALL_SESSION) for Moquette since it is using the older session management
+    private static boolean isComponentSession(Session session) {
+        return session.getSessionAttribute(COMPONENT_ATTRIBUTE_SLOT) != null;
+    }
+
+    @SuppressWarnings("PMD.AvoidUsingNullBoolean")
+    private Boolean getCachedDecision(AuthorizationDecisionCache decisionCache, long configurationVersion,
+                                      String operation, String resource) {
+        if (decisionCache == null) {
+            return null;
+        }
+        Boolean cachedDecision = decisionCache.get(configurationVersion, operation, resource);
+        if (cachedDecision == null) {
+            metrics.authorizationCacheMiss();
+        } else {
+            metrics.authorizationCacheHit();
+        }
+        return cachedDecision;
     }
 }
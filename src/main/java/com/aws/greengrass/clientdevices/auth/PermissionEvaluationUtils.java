@@ -6,33 +6,33 @@
 package com.aws.greengrass.clientdevices.auth;
 
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
+import com.aws.greengrass.clientdevices.auth.configuration.PermissionIndex;
+import com.aws.greengrass.clientdevices.auth.util.BoundedCache;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 import com.aws.greengrass.util.Utils;
-import lombok.Builder;
-import lombok.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class PermissionEvaluationUtils {
     private static final Logger logger = LogManager.getLogger(PermissionEvaluationUtils.class);
-    private static final String ANY_REGEX = "*";
-    private static final String SERVICE_PATTERN_STRING = "([a-zA-Z]+)";
-    private static final String SERVICE_OPERATION_PATTERN_STRING = "([a-zA-Z0-9-_]+)";
-    private static final String SERVICE_RESOURCE_TYPE_PATTERN_STRING = "([a-zA-Z]+)";
-    // Characters, digits, special chars, space (Allowed in MQTT topics)
-    private static final String SERVICE_RESOURCE_NAME_PATTERN_STRING = "([\\w -\\/:-@\\[-\\`{-~]+)";
-    private static final String SERVICE_OPERATION_FORMAT = "%s:%s";
-    private static final String SERVICE_RESOURCE_FORMAT = "%s:%s:%s";
-    private static final Pattern SERVICE_OPERATION_PATTERN = Pattern.compile(
-            String.format(SERVICE_OPERATION_FORMAT, SERVICE_PATTERN_STRING, SERVICE_OPERATION_PATTERN_STRING));
-    private static final Pattern SERVICE_RESOURCE_PATTERN = Pattern.compile(
-            String.format(SERVICE_RESOURCE_FORMAT, SERVICE_PATTERN_STRING, SERVICE_RESOURCE_TYPE_PATTERN_STRING,
-                    SERVICE_RESOURCE_NAME_PATTERN_STRING), Pattern.UNICODE_CHARACTER_CLASS);
-
+    private static final char SEPARATOR = ':';
+    private static final String OPERATION_FORM = "service:action";
+    private static final String RESOURCE_FORM = "service:resourceType:resourceName";
+    private static final int ZERO_WIDTH_NON_JOINER = 0x200C;
+    private static final int ZERO_WIDTH_JOINER = 0x200D;
+    private static final int INTERN_CACHE_CAPACITY = 4096;
+    // Devices choose topics, so only short ones are interned. This bounds the caches to a few megabytes
+    static final int MAX_INTERNED_LENGTH = 256;
+    // Parsed operations and resources by their string form, so that repeated requests reuse the same tokens
+    private static final BoundedCache<String, Operation> OPERATION_CACHE =
+            new BoundedCache<>(INTERN_CACHE_CAPACITY);
+    private static final BoundedCache<String, Resource> RESOURCE_CACHE = new BoundedCache<>(INTERN_CACHE_CAPACITY);
 
     private PermissionEvaluationUtils() {
     }
@@ -47,6 +47,26 @@ public final class PermissionEvaluationUtils {
      */
     public static boolean isAuthorized(String operation, String resource,
                                        Map<String, Set<Permission>> groupToPermissionsMap) {
+        if (groupToPermissionsMap == null) {
+            return isAuthorized(operation, resource, Collections.emptyList());
+        }
+        List<PermissionIndex> permissionIndexes = new ArrayList<>(groupToPermissionsMap.size());
+        for (Set<Permission> permissions : groupToPermissionsMap.values()) {
+            permissionIndexes.add(PermissionIndex.compile(permissions));
+        }
+        return isAuthorized(operation, resource, permissionIndexes);
+    }
+
+    /**
+     * utility method of authorizing operation to resource against precompiled group permissions.
+     *
+     * @param operation         operation in the form of 'service:action'
+     * @param resource          resource in the form of 'service:resourceType:resourceName'
+     * @param permissionIndexes compiled permissions of the device matching groups
+     * @return whether operation to resource in authorized
+     */
+    public static boolean isAuthorized(String operation, String resource,
+                                       Collection<PermissionIndex> permissionIndexes) {
         Operation op = parseOperation(operation);
         Resource rsc = parseResource(resource);
         if (!rsc.getService().equals(op.getService())) {
@@ -54,121 +74,204 @@ public final class PermissionEvaluationUtils {
                     String.format("Operation %s service is not same as resource %s service", op, rsc));
 
         }
-        if (groupToPermissionsMap == null || groupToPermissionsMap.isEmpty()) {
+        if (permissionIndexes == null || permissionIndexes.isEmpty()) {
             logger.atDebug().kv("operation", operation).kv("resource", resource)
                     .log("No authorization group matches, " + "deny the request");
             return false;
         }
 
-        for (Map.Entry<String, Set<Permission>> entry : groupToPermissionsMap.entrySet()) {
-            String principal = entry.getKey();
-            Set<Permission> permissions = entry.getValue();
-            if (Utils.isEmpty(permissions)) {
+        // An explicit deny in any matching group overrides allows from every group
+        boolean allowed = false;
+        for (PermissionIndex permissionIndex : permissionIndexes) {
+            if (permissionIndex == null) {
                 continue;
             }
-
-            // Find the first matching permission since we don't support 'deny' operation yet.
-            //TODO add support of 'deny' operation
-            Permission permission = permissions.stream().filter(e -> {
-                if (!comparePrincipal(principal, e.getPrincipal())) {
-                    return false;
-                }
-                if (!compareOperation(op, e.getOperation())) {
-                    return false;
-                }
-                return compareResource(rsc, e.getResource());
-            }).findFirst().orElse(null);
-
-            if (permission != null) {
-                logger.atDebug().log("Hit policy with permission {}", permission);
-                return true;
+            if (permissionIndex.isDenied(op.getService(), op.getAction(), rsc.getResourceType(),
+                    rsc.getResourceName())) {
+                logger.atDebug().kv("operation", operation).kv("resource", resource).log("Hit deny policy");
+                return false;
+            }
+            if (!allowed && permissionIndex.isAllowed(op.getService(), op.getAction(), rsc.getResourceType(),
+                    rsc.getResourceName())) {
+                logger.atDebug().kv("operation", operation).kv("resource", resource).log("Hit policy");
+                allowed = true;
             }
         }
 
-        return false;
+        return allowed;
     }
 
-    private static boolean comparePrincipal(String requestPrincipal, String policyPrincipal) {
-        if (requestPrincipal.equals(policyPrincipal)) {
-            return true;
+    private static Operation parseOperation(String operationStr) {
+        if (Utils.isEmpty(operationStr)) {
+            throw new IllegalArgumentException("Operation can't be empty");
+        }
+        Operation operation = OPERATION_CACHE.get(operationStr);
+        if (operation != null) {
+            return operation;
         }
 
-        return ANY_REGEX.equals(policyPrincipal);
+        int separator = operationStr.indexOf(SEPARATOR);
+        if (separator <= 0 || !isServiceName(operationStr, 0, separator)
+                || !isActionName(operationStr, separator + 1, operationStr.length())) {
+            throw new IllegalArgumentException(String.format("Operation %s is not in the form of %s", operationStr,
+                    OPERATION_FORM));
+        }
+        operation = new Operation(operationStr, operationStr.substring(0, separator),
+                operationStr.substring(separator + 1));
+        intern(OPERATION_CACHE, operationStr, operation);
+        return operation;
     }
 
-    private static boolean compareOperation(Operation requestOperation, String policyOperation) {
-        if (requestOperation.toString().equals(policyOperation)) {
-            return true;
+    private static Resource parseResource(String resourceStr) {
+        if (Utils.isEmpty(resourceStr)) {
+            throw new IllegalArgumentException("Resource can't be empty");
         }
-        if (String.format(SERVICE_OPERATION_FORMAT, requestOperation.getService(), ANY_REGEX).equals(policyOperation)) {
-            return true;
+        Resource resource = RESOURCE_CACHE.get(resourceStr);
+        if (resource != null) {
+            return resource;
         }
-        return ANY_REGEX.equals(policyOperation);
-    }
 
-    private static boolean compareResource(Resource requestResource, String policyResource) {
-        if (requestResource.toString().equals(policyResource)) {
-            return true;
+        int serviceEnd = resourceStr.indexOf(SEPARATOR);
+        int typeEnd = serviceEnd < 0 ? -1 : resourceStr.indexOf(SEPARATOR, serviceEnd + 1);
+        if (serviceEnd <= 0 || typeEnd < 0 || !isServiceName(resourceStr, 0, serviceEnd)
+                || !isServiceName(resourceStr, serviceEnd + 1, typeEnd)
+                || !isResourceName(resourceStr, typeEnd + 1, resourceStr.length())) {
+            throw new IllegalArgumentException(String.format("Resource %s is not in the form of %s", resourceStr,
+                    RESOURCE_FORM));
         }
+        resource = new Resource(resourceStr, resourceStr.substring(0, serviceEnd),
+                resourceStr.substring(serviceEnd + 1, typeEnd), resourceStr.substring(typeEnd + 1));
+        intern(RESOURCE_CACHE, resourceStr, resource);
+        return resource;
+    }
 
-        if (String.format(SERVICE_RESOURCE_FORMAT, requestResource.getService(), requestResource.getResourceType(),
-                ANY_REGEX).equals(policyResource)) {
-            return true;
+    private static <T> void intern(BoundedCache<String, T> cache, String key, T value) {
+        if (key.length() <= MAX_INTERNED_LENGTH) {
+            cache.put(key, value);
         }
+    }
 
-        return ANY_REGEX.equals(policyResource);
+    static int internedResources() {
+        return RESOURCE_CACHE.size();
     }
 
-    private static Operation parseOperation(String operationStr) {
-        if (Utils.isEmpty(operationStr)) {
-            throw new IllegalArgumentException("Operation can't be empty");
+    // [a-zA-Z]+, used for services and resource types
+    private static boolean isServiceName(String s, int start, int end) {
+        if (start >= end) {
+            return false;
         }
-
-        Matcher matcher = SERVICE_OPERATION_PATTERN.matcher(operationStr);
-        if (matcher.matches()) {
-            return Operation.builder().service(matcher.group(1)).action(matcher.group(2)).build();
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
         }
-        throw new IllegalArgumentException(String.format("Operation %s is not in the form of %s", operationStr,
-                SERVICE_OPERATION_PATTERN.pattern()));
+        return true;
     }
 
-    private static Resource parseResource(String resourceStr) {
-        if (Utils.isEmpty(resourceStr)) {
-            throw new IllegalArgumentException("Resource can't be empty");
+    // [a-zA-Z0-9-_]+
+    private static boolean isActionName(String s, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        Matcher matcher = SERVICE_RESOURCE_PATTERN.matcher(resourceStr);
-        if (matcher.matches()) {
-            return Resource.builder().service(matcher.group(1)).resourceType(matcher.group(2))
-                    .resourceName(matcher.group(3)).build();
+    // Printable ASCII, including space, and unicode word characters (as allowed in MQTT topics)
+    private static boolean isResourceName(String s, int start, int end) {
+        if (start >= end) {
+            return false;
         }
+        int i = start;
+        while (i < end) {
+            int c = s.codePointAt(i);
+            if (c < 0x80) {
+                if (c < ' ' || c > '~') {
+                    return false;
+                }
+            } else if (!isUnicodeWordCharacter(c)) {
+                return false;
+            }
+            i += Character.charCount(c);
+        }
+        return true;
+    }
 
-        throw new IllegalArgumentException(
-                String.format("Resource %s is not in the form of %s", resourceStr, SERVICE_RESOURCE_PATTERN.pattern()));
+    // Same definition as \w with Pattern.UNICODE_CHARACTER_CLASS
+    private static boolean isUnicodeWordCharacter(int c) {
+        if (Character.isAlphabetic(c) || Character.isDigit(c)) {
+            return true;
+        }
+        switch (Character.getType(c)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                return c == ZERO_WIDTH_NON_JOINER || c == ZERO_WIDTH_JOINER;
+        }
     }
 
-    @Value
-    @Builder
-    private static class Operation {
-        String service;
-        String action;
+    private static final class Operation {
+        private final String value;
+        private final String service;
+        private final String action;
+
+        Operation(String value, String service, String action) {
+            this.value = value;
+            this.service = service;
+            this.action = action;
+        }
+
+        String getService() {
+            return service;
+        }
+
+        String getAction() {
+            return action;
+        }
 
         @Override
         public String toString() {
-            return String.format(SERVICE_OPERATION_FORMAT, service, action);
+            return value;
         }
     }
 
-    @Value
-    @Builder
-    private static class Resource {
-        String service;
-        String resourceType;
-        String resourceName;
+    private static final class Resource {
+        private final String value;
+        private final String service;
+        private final String resourceType;
+        private final String resourceName;
+
+        Resource(String value, String service, String resourceType, String resourceName) {
+            this.value = value;
+            this.service = service;
+            this.resourceType = resourceType;
+            this.resourceName = resourceName;
+        }
+
+        String getService() {
+            return service;
+        }
+
+        String getResourceType() {
+            return resourceType;
+        }
+
+        String getResourceName() {
+            return resourceName;
+        }
 
         @Override
         public String toString() {
-            return String.format(SERVICE_RESOURCE_FORMAT, service, resourceType, resourceName);
+            return value;
         }
     }
 }
@@ -5,13 +5,39 @@
 
 package com.aws.greengrass.clientdevices.auth.api;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
+@Getter
 public class AuthorizeClientDeviceActionEvent implements DomainEvent {
-    @Getter
-    private AuthorizationStatus status;
+    private final AuthorizationStatus status;
+    private final int successCount;
+    private final int failureCount;
+
+    /**
+     * Event for a single authorization decision.
+     *
+     * @param status authorization status
+     */
+    public AuthorizeClientDeviceActionEvent(AuthorizationStatus status) {
+        this(status, status == AuthorizationStatus.SUCCESS ? 1 : 0, status == AuthorizationStatus.FAIL ? 1 : 0);
+    }
+
+    /**
+     * Aggregated event for a batch of authorization decisions. The status is FAIL if any action was denied.
+     *
+     * @param successCount number of allowed actions
+     * @param failureCount number of denied actions
+     */
+    public AuthorizeClientDeviceActionEvent(int successCount, int failureCount) {
+        this(failureCount == 0 ? AuthorizationStatus.SUCCESS : AuthorizationStatus.FAIL, successCount,
+                failureCount);
+    }
+
+    private AuthorizeClientDeviceActionEvent(AuthorizationStatus status, int successCount, int failureCount) {
+        this.status = status;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+    }
 
     public enum AuthorizationStatus {
         SUCCESS,
@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.api;
 
 import com.aws.greengrass.clientdevices.auth.AuthorizationRequest;
+import com.aws.greengrass.clientdevices.auth.BatchAuthorizationRequest;
 import com.aws.greengrass.clientdevices.auth.CertificateManager;
 import com.aws.greengrass.clientdevices.auth.DeviceAuthClient;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
@@ -18,7 +19,10 @@ import com.aws.greengrass.clientdevices.auth.session.SessionManager;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
+import java.util.BitSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.inject.Inject;
 
 public class ClientDevicesAuthServiceApi {
@@ -99,6 +103,34 @@ public class ClientDevicesAuthServiceApi {
         }
     }
 
+    /**
+     * Get client auth token asynchronously. The calling thread is not blocked while client credentials are verified
+     * with the cloud.
+     *
+     * @param credentialType    Type of client credentials
+     * @param deviceCredentials Client credential map
+     * @return future which completes with the client auth token to be used for future authorization requests, or
+     *     exceptionally with an {@link AuthenticationException} if unable to authenticate client credentials
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<String> getClientDeviceAuthTokenAsync(String credentialType,
+                                                                   Map<String, String> deviceCredentials) {
+        CompletableFuture<String> sessionId;
+        try {
+            sessionId = sessionManager.createSessionAsync(credentialType, deviceCredentials);
+        } catch (RuntimeException e) {
+            sessionId = new CompletableFuture<>();
+            sessionId.completeExceptionally(e);
+        }
+        return sessionId.whenComplete((id, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                domainEvents.emit(new ServiceErrorEvent());
+                logger.atError().cause(cause).log("Unable to create session");
+            }
+        });
+    }
+
     /**
      * Close client auth session.
      *
@@ -138,6 +170,36 @@ public class ClientDevicesAuthServiceApi {
         }
     }
 
+    /**
+     * Authorize a batch of client actions performed with the same auth token, such as the topic filters of an MQTT
+     * subscribe. A single aggregated {@link AuthorizeClientDeviceActionEvent} is emitted for the batch.
+     *
+     * @param batchAuthorizationRequest Batch authorization request, including auth token and (operation, resource)
+     *                                  pairs
+     * @return decisions, where bit i is set if the i-th action of the request is allowed
+     * @throws AuthorizationException if the auth token is invalid
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public BitSet authorizeClientDeviceActions(BatchAuthorizationRequest batchAuthorizationRequest)
+            throws AuthorizationException {
+        int actionCount = batchAuthorizationRequest.getActions().size();
+        try {
+            BitSet decisions = deviceAuthClient.canDevicePerform(batchAuthorizationRequest);
+            logger.atDebug().log("Successfully authorized client device actions");
+            int successCount = decisions.cardinality();
+            domainEvents.emit(new AuthorizeClientDeviceActionEvent(successCount, actionCount - successCount));
+
+            return decisions;
+        } catch (AuthorizationException e) {
+            domainEvents.emit(new AuthorizeClientDeviceActionEvent(0, actionCount));
+            throw e;
+        } catch (RuntimeException e) {
+            domainEvents.emit(new ServiceErrorEvent());
+            logger.atError().cause(e).log("Unable to authorize client device actions");
+            throw e;
+        }
+    }
+
     /**
      * Subscribe to certificate updates.
      *
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.iot.ParsedCertificate;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertPath;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+
+/**
+ * Validates whether certificates were issued by the local CA, such as those provided to Greengrass components.
+ *
+ * <p>Components reconnect with the same certificates, so validation results are remembered on each parsed
+ * certificate together with the version of the CA certificate chain they were computed against. The version is
+ * bumped whenever the CA certificate chain changes, which discards all results at once. The PKIX trust anchor and
+ * parameters are likewise built once per version rather than for every validation.</p>
+ *
+ * <p>Only whether the certificate chains to the CA is remembered. Its validity period is checked on every call, so a
+ * certificate stops being accepted once it expires, and a result is never recorded for a certificate outside its
+ * validity period.</p>
+ */
+public class ComponentCertificateValidator {
+    private static final Logger logger = LogManager.getLogger(ComponentCertificateValidator.class);
+    // Parsed certificates are shared by all validators, so versions are unique across them
+    private static final AtomicLong versions = new AtomicLong();
+
+    private final CertificateStore certificateStore;
+    private final Clock clock;
+    private volatile long caChainVersion = versions.incrementAndGet();
+    private volatile ValidationParameters validationParameters;
+
+    /**
+     * Constructor.
+     *
+     * @param certificateStore certificate store holding the local CA
+     * @param clock            clock the validity period of certificates is checked against
+     */
+    @Inject
+    public ComponentCertificateValidator(CertificateStore certificateStore, Clock clock) {
+        this.certificateStore = certificateStore;
+        this.clock = clock;
+    }
+
+    /**
+     * Check if a certificate was issued by the local CA.
+     *
+     * @param certificate parsed certificate
+     * @return true if the certificate is currently valid and chains to the local CA
+     */
+    public boolean isIssuedByLocalCa(ParsedCertificate certificate) {
+        Instant now = clock.instant();
+        if (now.isBefore(certificate.getNotBefore()) || !now.isBefore(certificate.getNotAfter())) {
+            logger.atDebug().log("Certificate is not within its validity period");
+            return false;
+        }
+        // Read the version before the CA, so that a result is never recorded against a newer version than the CA
+        // it was computed with
+        long version = caChainVersion;
+        Boolean issuedByLocalCa = certificate.getCaValidation(version);
+        if (issuedByLocalCa != null) {
+            return issuedByLocalCa;
+        }
+
+        ValidationParameters parameters = getValidationParameters(version);
+        if (parameters == null) {
+            return false;
+        }
+        try {
+            CertPath certPath = CertificateFactory.getInstance("X.509")
+                    .generateCertPath(Collections.singletonList(certificate.getCertificate()));
+            // Validate at the instant the validity period was checked at, so that the result only reflects the chain
+            PKIXParameters pkixParameters = (PKIXParameters) parameters.pkixParameters.clone();
+            pkixParameters.setDate(Date.from(now));
+            CertPathValidator.getInstance("PKIX").validate(certPath, pkixParameters);
+            issuedByLocalCa = true;
+        } catch (CertificateException e) {
+            logger.atError().cause(e).log("Unable to build certificate path");
+            return false;
+        } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
+            logger.atError().cause(e).log("Unable to load certificate validator");
+            return false;
+        } catch (CertPathValidatorException e) {
+            logger.atDebug().log("Certificate was not issued by local CA");
+            issuedByLocalCa = false;
+        }
+        certificate.setCaValidation(version, issuedByLocalCa);
+        return issuedByLocalCa;
+    }
+
+    /**
+     * Discard validation results and trust parameters after the CA certificate chain changed.
+     */
+    public void caCertificateChainChanged() {
+        caChainVersion = versions.incrementAndGet();
+        validationParameters = null;
+    }
+
+    private ValidationParameters getValidationParameters(long version) {
+        ValidationParameters parameters = validationParameters;
+        if (parameters != null && parameters.caChainVersion == version) {
+            return parameters;
+        }
+
+        X509Certificate caCertificate;
+        try {
+            caCertificate = certificateStore.getCACertificate();
+        } catch (KeyStoreException e) {
+            logger.atError().cause(e).log("Unable to load CA keystore");
+            return null;
+        }
+        if (caCertificate == null) {
+            return null;
+        }
+        try {
+            PKIXParameters pkixParameters =
+                    new PKIXParameters(Collections.singleton(new TrustAnchor(caCertificate, null)));
+            pkixParameters.setRevocationEnabled(false);
+            // Copied for each validation, which only sets its date
+            parameters = new ValidationParameters(version, pkixParameters);
+        } catch (InvalidAlgorithmParameterException e) {
+            logger.atError().cause(e).log("Unable to load certificate validator");
+            return null;
+        }
+        validationParameters = parameters;
+        return parameters;
+    }
+
+    private static final class ValidationParameters {
+        private final long caChainVersion;
+        private final PKIXParameters pkixParameters;
+
+        ValidationParameters(long caChainVersion, PKIXParameters pkixParameters) {
+            this.caChainVersion = caChainVersion;
+            this.pkixParameters = pkixParameters;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.ComponentCertificateValidator;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CACertificateChainChanged;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class ComponentCertificateValidationHandler implements Consumer<CACertificateChainChanged> {
+    private final DomainEvents domainEvents;
+    private final ComponentCertificateValidator componentCertificateValidator;
+
+    /**
+     * Invalidate component certificate validation results when the CA changes.
+     *
+     * @param domainEvents                  Domain event router
+     * @param componentCertificateValidator Component certificate validator
+     */
+    @Inject
+    public ComponentCertificateValidationHandler(DomainEvents domainEvents,
+                                                 ComponentCertificateValidator componentCertificateValidator) {
+        this.domainEvents = domainEvents;
+        this.componentCertificateValidator = componentCertificateValidator;
+    }
+
+    /**
+     * Listen for certificate authority change events.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, CACertificateChainChanged.class);
+    }
+
+    @Override
+    public void accept(CACertificateChainChanged event) {
+        componentCertificateValidator.caCertificateChainChanged();
+    }
+}
@@ -44,5 +44,7 @@ public class SecurityConfigurationChangedHandler implements Consumer<SecurityCon
         SecurityConfiguration configuration = event.getConfiguration();
         Certificate.updateMetadataTrustDurationMinutes(configuration.getClientDeviceTrustDurationMinutes());
         Thing.updateMetadataTrustDurationMinutes(configuration.getClientDeviceTrustDurationMinutes());
+        Certificate.updateMetadataRefreshSeconds(configuration.getClientDeviceTrustRefreshSeconds());
+        Thing.updateMetadataRefreshSeconds(configuration.getClientDeviceTrustRefreshSeconds());
     }
 }
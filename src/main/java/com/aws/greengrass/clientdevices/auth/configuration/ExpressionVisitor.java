@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.configuration;
 
 import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTAnd;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTAttribute;
 import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTOr;
 import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTStart;
 import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTThing;
@@ -54,4 +55,11 @@ public class ExpressionVisitor implements RuleExpressionVisitor {
         DeviceAttribute attribute = session.getSessionAttribute("Thing", "ThingName");
         return attribute != null && attribute.matches((String) node.jjtGetValue());
     }
+
+    @Override
+    public Object visit(ASTAttribute node, Object data) {
+        Session session = (Session) data;
+        DeviceAttribute attribute = session.getSessionAttribute(node.getNamespace(), node.getAttributeName());
+        return attribute != null && attribute.matches((String) node.jjtGetValue());
+    }
 }
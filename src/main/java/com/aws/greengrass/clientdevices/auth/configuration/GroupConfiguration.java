@@ -36,20 +36,56 @@ public class GroupConfiguration {
 
     Map<String, Set<Permission>> groupToPermissionsMap;
 
+    //group name to compiled permissions
+    Map<String, PermissionIndex> groupToPermissionIndexMap;
+
+    //selection rules indexed by thing name
+    GroupSelectorIndex groupSelectorIndex;
+
     @Builder
     GroupConfiguration(ConfigurationFormatVersion formatVersion, Map<String, GroupDefinition> definitions,
                        Map<String, Map<String, AuthorizationPolicyStatement>> policies) throws AuthorizationException {
+        this(null, formatVersion, definitions, policies);
+    }
+
+    private GroupConfiguration(GroupConfiguration previous, ConfigurationFormatVersion formatVersion,
+                               Map<String, GroupDefinition> definitions,
+                               Map<String, Map<String, AuthorizationPolicyStatement>> policies)
+            throws AuthorizationException {
         this.formatVersion = formatVersion == null ? ConfigurationFormatVersion.MAR_05_2021 : formatVersion;
         this.definitions = definitions == null ? Collections.emptyMap() : definitions;
         this.policies = policies == null ? Collections.emptyMap() : policies;
-        this.groupToPermissionsMap = constructGroupToPermissionsMap();
+        this.groupToPermissionsMap = constructGroupToPermissionsMap(previous);
+        this.groupToPermissionIndexMap = constructGroupToPermissionIndexMap(previous);
+        this.groupSelectorIndex = GroupSelectorIndex.of(this.definitions);
+    }
+
+    /**
+     * Create a group configuration, reusing the permissions compiled by a previous configuration. The permissions of
+     * a group are reused when the group existed before with the same policy name, and its policy is the same
+     * instance as in the previous configuration. Callers should therefore pass unchanged definitions and policies
+     * through as is.
+     *
+     * @param previous      previous group configuration, may be null
+     * @param formatVersion configuration format version
+     * @param definitions   group name to group definition map
+     * @param policies      policy name to policy map
+     * @return group configuration
+     * @throws AuthorizationException if a group refers to a policy which doesn't exist
+     */
+    public static GroupConfiguration from(GroupConfiguration previous, ConfigurationFormatVersion formatVersion,
+                                          Map<String, GroupDefinition> definitions,
+                                          Map<String, Map<String, AuthorizationPolicyStatement>> policies)
+            throws AuthorizationException {
+        return new GroupConfiguration(previous, formatVersion, definitions, policies);
     }
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class GroupConfigurationBuilder {
     }
 
-    private Map<String, Set<Permission>> constructGroupToPermissionsMap() throws AuthorizationException {
+    private Map<String, Set<Permission>> constructGroupToPermissionsMap(GroupConfiguration previous)
+            throws AuthorizationException {
         Map<String, Set<Permission>> groupToPermissionsMap = new HashMap<>();
 
         for (Map.Entry<String, GroupDefinition> groupDefinitionEntry : definitions.entrySet()) {
@@ -58,21 +94,50 @@ public class GroupConfiguration {
                 throw new AuthorizationException(
                         String.format("Policies doesn't have policy named %s", groupDefinition.getPolicyName()));
             }
-            groupToPermissionsMap.put(groupDefinitionEntry.getKey(),
-                    constructGroupPermission(groupDefinitionEntry.getKey(),
-                            policies.get(groupDefinition.getPolicyName())));
+            String groupName = groupDefinitionEntry.getKey();
+            if (hasSamePermissions(previous, groupName)) {
+                groupToPermissionsMap.put(groupName, previous.groupToPermissionsMap.get(groupName));
+            } else {
+                groupToPermissionsMap.put(groupName,
+                        constructGroupPermission(groupName, policies.get(groupDefinition.getPolicyName())));
+            }
         }
         return groupToPermissionsMap;
     }
 
+    private Map<String, PermissionIndex> constructGroupToPermissionIndexMap(GroupConfiguration previous) {
+        Map<String, PermissionIndex> groupToPermissionIndexMap = new HashMap<>();
+        for (Map.Entry<String, Set<Permission>> entry : groupToPermissionsMap.entrySet()) {
+            String groupName = entry.getKey();
+            if (hasSamePermissions(previous, groupName)) {
+                groupToPermissionIndexMap.put(groupName, previous.groupToPermissionIndexMap.get(groupName));
+            } else {
+                groupToPermissionIndexMap.put(groupName, PermissionIndex.compile(entry.getValue()));
+            }
+        }
+        return Collections.unmodifiableMap(groupToPermissionIndexMap);
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private boolean hasSamePermissions(GroupConfiguration previous, String groupName) {
+        if (previous == null) {
+            return false;
+        }
+        GroupDefinition previousDefinition = previous.definitions.get(groupName);
+        if (previousDefinition == null) {
+            return false;
+        }
+        String policyName = definitions.get(groupName).getPolicyName();
+        return policyName.equals(previousDefinition.getPolicyName())
+                && policies.get(policyName) == previous.policies.get(policyName);
+    }
+
     private Set<Permission> constructGroupPermission(String groupName,
                                                      Map<String, AuthorizationPolicyStatement> policyStatementMap) {
         Set<Permission> permissions = new HashSet<>();
         for (Map.Entry<String, AuthorizationPolicyStatement> statementEntry : policyStatementMap.entrySet()) {
             AuthorizationPolicyStatement statement = statementEntry.getValue();
-            // only accept 'ALLOW' effect for beta launch
-            // TODO add 'DENY' effect support
-            if (statement.getEffect() == AuthorizationPolicyStatement.Effect.ALLOW) {
+            if (statement.getEffect() != null) {
                 permissions.addAll(convertPolicyStatementToPermission(groupName, statement));
             }
         }
@@ -90,8 +155,8 @@ public class GroupConfiguration {
                 if (Utils.isEmpty(resource)) {
                     continue;
                 }
-                permissions.add(
-                        Permission.builder().principal(groupName).operation(operation).resource(resource).build());
+                permissions.add(Permission.builder().principal(groupName).operation(operation).resource(resource)
+                        .effect(statement.getEffect()).build());
             }
         }
         return permissions;
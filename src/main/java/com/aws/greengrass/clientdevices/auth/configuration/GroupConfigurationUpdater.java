@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.exception.AuthorizationException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.inject.Inject;
+
+/**
+ * Applies changes of the deviceGroups configuration to the {@link GroupManager}. Only group definitions and policies
+ * whose configuration changed since the last update are deserialized again, so unchanged selection rules are not
+ * re-parsed and unchanged group permissions are not recompiled. Each update publishes a complete new
+ * {@link GroupConfiguration} at once.
+ */
+public class GroupConfigurationUpdater {
+    private static final String FORMAT_VERSION_KEY = "formatVersion";
+    private static final String DEFINITIONS_KEY = "definitions";
+    private static final String POLICIES_KEY = "policies";
+    private static final TypeReference<Map<String, AuthorizationPolicyStatement>> POLICY_TYPE =
+            new TypeReference<Map<String, AuthorizationPolicyStatement>>() {
+            };
+
+    private final GroupManager groupManager;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS,
+            MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+
+    // Last published configuration, and the raw configuration it was built from
+    private GroupConfiguration groupConfiguration;
+    private Map<String, Object> rawDefinitions = Collections.emptyMap();
+    private Map<String, Object> rawPolicies = Collections.emptyMap();
+
+    /**
+     * Constructor.
+     *
+     * @param groupManager group manager
+     */
+    @Inject
+    public GroupConfigurationUpdater(GroupManager groupManager) {
+        this.groupManager = groupManager;
+    }
+
+    /**
+     * Build a group configuration from the deviceGroups configuration and set it on the group manager.
+     *
+     * @param deviceGroups deviceGroups configuration, as a map of plain java objects
+     * @throws IllegalArgumentException if the configuration is invalid. The current group configuration is kept
+     */
+    public synchronized void update(Map<String, Object> deviceGroups) {
+        Object rawFormatVersion = null;
+        Map<String, Object> newRawDefinitions = Collections.emptyMap();
+        Map<String, Object> newRawPolicies = Collections.emptyMap();
+        for (Map.Entry<String, Object> entry : deviceGroups.entrySet()) {
+            if (FORMAT_VERSION_KEY.equalsIgnoreCase(entry.getKey())) {
+                rawFormatVersion = entry.getValue();
+            } else if (DEFINITIONS_KEY.equalsIgnoreCase(entry.getKey())) {
+                newRawDefinitions = asMap(entry.getKey(), entry.getValue());
+            } else if (POLICIES_KEY.equalsIgnoreCase(entry.getKey())) {
+                newRawPolicies = asMap(entry.getKey(), entry.getValue());
+            } else {
+                throw new IllegalArgumentException(
+                        String.format("Unrecognized field \"%s\" in group configuration", entry.getKey()));
+            }
+        }
+
+        Map<String, GroupDefinition> definitions = new HashMap<>();
+        for (Map.Entry<String, Object> entry : newRawDefinitions.entrySet()) {
+            GroupDefinition definition = null;
+            if (groupConfiguration != null && Objects.equals(entry.getValue(), rawDefinitions.get(entry.getKey()))) {
+                definition = groupConfiguration.getDefinitions().get(entry.getKey());
+            }
+            if (definition == null) {
+                definition = objectMapper.convertValue(entry.getValue(), GroupDefinition.class);
+            }
+            definitions.put(entry.getKey(), definition);
+        }
+
+        Map<String, Map<String, AuthorizationPolicyStatement>> policies = new HashMap<>();
+        for (Map.Entry<String, Object> entry : newRawPolicies.entrySet()) {
+            Map<String, AuthorizationPolicyStatement> policy = null;
+            if (groupConfiguration != null && Objects.equals(entry.getValue(), rawPolicies.get(entry.getKey()))) {
+                policy = groupConfiguration.getPolicies().get(entry.getKey());
+            }
+            if (policy == null) {
+                policy = objectMapper.convertValue(entry.getValue(), POLICY_TYPE);
+            }
+            policies.put(entry.getKey(), policy);
+        }
+
+        ConfigurationFormatVersion formatVersion = rawFormatVersion == null ? null
+                : objectMapper.convertValue(rawFormatVersion, ConfigurationFormatVersion.class);
+        GroupConfiguration newGroupConfiguration;
+        try {
+            newGroupConfiguration = GroupConfiguration.from(groupConfiguration, formatVersion, definitions, policies);
+        } catch (AuthorizationException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+
+        groupManager.setGroupConfiguration(newGroupConfiguration);
+        groupConfiguration = newGroupConfiguration;
+        rawDefinitions = newRawDefinitions;
+        rawPolicies = newRawPolicies;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(String key, Object value) {
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(String.format("Group configuration field \"%s\" must be a map", key));
+        }
+        return (Map<String, Object>) value;
+    }
+}
@@ -23,12 +23,14 @@ public class GroupDefinition {
 
     ASTStart expressionTree;
     String policyName;
+    SelectionRule compiledSelectionRule;
 
 
     @Builder
     GroupDefinition(@NonNull String selectionRule, @NonNull String policyName) throws ParseException {
         this.expressionTree = new RuleExpression(new StringReader(selectionRule)).Start();
         this.policyName = policyName;
+        this.compiledSelectionRule = SelectionRule.compile(expressionTree);
     }
 
     @JsonPOJOBuilder(withPrefix = "")
@@ -42,7 +44,6 @@ public class GroupDefinition {
      * @return true if the client device belongs to the group
      */
     public boolean containsClientDevice(Session session) {
-        ExpressionVisitor visitor = new ExpressionVisitor();
-        return (boolean) visitor.visit(expressionTree, session);
+        return compiledSelectionRule.test(session);
     }
 }
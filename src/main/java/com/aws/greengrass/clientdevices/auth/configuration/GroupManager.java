@@ -7,10 +7,12 @@ package com.aws.greengrass.clientdevices.auth.configuration;
 
 import com.aws.greengrass.clientdevices.auth.session.Session;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -21,9 +23,28 @@ import java.util.stream.Collectors;
  */
 public class GroupManager {
     private final AtomicReference<GroupConfiguration> groupConfigurationRef = new AtomicReference<>();
+    private final AtomicLong configurationVersion = new AtomicLong();
 
+    /**
+     * Set the group configuration, invalidating everything derived from the previous configuration.
+     *
+     * @param groupConfiguration group configuration
+     */
     public void setGroupConfiguration(GroupConfiguration groupConfiguration) {
         groupConfigurationRef.set(groupConfiguration);
+        // Bump the version only after publishing the configuration, so that anything computed against an older
+        // configuration is always recorded under an older version
+        configurationVersion.incrementAndGet();
+    }
+
+    /**
+     * Get the version of the current group configuration. The version increases every time a new group configuration
+     * is set.
+     *
+     * @return group configuration version
+     */
+    public long getConfigurationVersion() {
+        return configurationVersion.get();
     }
 
     /**
@@ -37,21 +58,57 @@ public class GroupManager {
         if (config == null) {
             return Collections.emptyMap();
         }
-        Set<String> matchingGroups = findMatchingGroups(config.getDefinitions(), session);
+        Set<String> matchingGroups = config.getGroupSelectorIndex().findMatchingGroups(session);
         return matchingGroups.stream()
                 .collect(Collectors.toMap(group -> group, group -> config.getGroupToPermissionsMap().get(group)));
     }
 
-    private Set<String> findMatchingGroups(Map<String, GroupDefinition> groupDefinitionMap, Session session) {
-        Set<String> matchingGroups = new HashSet<>();
+    /**
+     * find the compiled permissions of the groups the given device belongs to.
+     *
+     * @param session session used to retrieve cached device attributes
+     * @return compiled permissions of each matching group
+     */
+    public List<PermissionIndex> getApplicablePermissionIndexes(Session session) {
+        return getGroupMembership(session).getPermissionIndexes();
+    }
+
+    /**
+     * Resolve the device groups a session belongs to, with group permissions bound to the session's policy variables.
+     * The result is memoized on the session and only recomputed once the group configuration changes.
+     *
+     * @param session session used to retrieve cached device attributes
+     * @return group membership for the current group configuration
+     */
+    public GroupMembership getGroupMembership(Session session) {
+        // Read the version before the configuration, so the membership is never stamped newer than its data
+        long version = configurationVersion.get();
+        GroupMembership membership = session.getGroupMembership();
+        if (membership != null && membership.getConfigurationVersion() == version) {
+            return membership;
+        }
 
-        for (String groupName : groupDefinitionMap.keySet()) {
-            GroupDefinition group = groupDefinitionMap.get(groupName);
-            if (group.containsClientDevice(session)) {
-                matchingGroups.add(groupName);
+        GroupConfiguration config = groupConfigurationRef.get();
+        if (config == null) {
+            membership = new GroupMembership(version, Collections.emptySet(), Collections.emptyList());
+        } else {
+            Set<String> matchingGroups = config.getGroupSelectorIndex().findMatchingGroups(session);
+            List<PermissionIndex> permissionIndexes = new ArrayList<>(matchingGroups.size());
+            Map<PolicyVariable, String> policyVariables = null;
+            for (String group : matchingGroups) {
+                PermissionIndex permissionIndex = config.getGroupToPermissionIndexMap().get(group);
+                if (permissionIndex.hasTemplates()) {
+                    if (policyVariables == null) {
+                        policyVariables = PolicyVariable.resolve(session);
+                    }
+                    permissionIndex = permissionIndex.bind(policyVariables);
+                }
+                permissionIndexes.add(permissionIndex);
             }
+            membership = new GroupMembership(version, Collections.unmodifiableSet(matchingGroups),
+                    Collections.unmodifiableList(permissionIndexes));
         }
-
-        return matchingGroups;
+        session.setGroupMembership(membership);
+        return membership;
     }
 }
@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Device groups a session belongs to, together with the compiled permissions of those groups, as resolved under a
+ * given group configuration version.
+ */
+@Value
+public class GroupMembership {
+    long configurationVersion;
+    @NonNull Set<String> groupNames;
+    @NonNull List<PermissionIndex> permissionIndexes;
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
+import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
+import com.aws.greengrass.clientdevices.auth.util.PrefixTrieMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index from attribute selectors to device groups. Selection rules which are a selector such as
+ * <code>thingName: sensor*</code> or <code>certificateId: abc</code>, or an OR of selectors, are indexed per session
+ * attribute by exact value in a hash map and by prefix in a trie, so the groups of a session are found with a couple
+ * of lookups per attribute. Only the remaining rules are evaluated against each session.
+ */
+public final class GroupSelectorIndex {
+    public static final GroupSelectorIndex EMPTY =
+            new GroupSelectorIndex(Collections.emptyList(), Collections.emptyMap());
+
+    private static final char WILDCARD = '*';
+
+    private final List<AttributeIndex> attributeIndexes;
+    // groups whose selection rule cannot be indexed
+    private final Map<String, GroupDefinition> unindexedGroups;
+
+    private GroupSelectorIndex(List<AttributeIndex> attributeIndexes, Map<String, GroupDefinition> unindexedGroups) {
+        this.attributeIndexes = attributeIndexes;
+        this.unindexedGroups = unindexedGroups;
+    }
+
+    /**
+     * Build an index of group definitions.
+     *
+     * @param definitions group name to group definition map
+     * @return group selector index
+     */
+    public static GroupSelectorIndex of(Map<String, GroupDefinition> definitions) {
+        if (definitions == null || definitions.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Integer, AttributeIndex.Builder> builders = new LinkedHashMap<>();
+        Map<String, GroupDefinition> unindexedGroups = new HashMap<>();
+
+        for (Map.Entry<String, GroupDefinition> entry : definitions.entrySet()) {
+            List<SelectionRule.Selector> selectors = entry.getValue().getCompiledSelectionRule().getSelectors();
+            if (selectors == null) {
+                unindexedGroups.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            for (SelectionRule.Selector selector : selectors) {
+                builders.computeIfAbsent(selector.getSlot(), AttributeIndex.Builder::new)
+                        .add(selector.getExpression(), entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<AttributeIndex> attributeIndexes = new ArrayList<>(builders.size());
+        for (AttributeIndex.Builder builder : builders.values()) {
+            attributeIndexes.add(builder.build());
+        }
+        return new GroupSelectorIndex(attributeIndexes, unindexedGroups);
+    }
+
+    /**
+     * Find the device groups a session belongs to.
+     *
+     * @param session session
+     * @return names of the matching groups
+     */
+    public Set<String> findMatchingGroups(Session session) {
+        Set<String> matchingGroups = new HashSet<>();
+        for (AttributeIndex index : attributeIndexes) {
+            index.findMatchingGroups(session, matchingGroups);
+        }
+        return evaluate(unindexedGroups, session, matchingGroups);
+    }
+
+    private static Set<String> evaluate(Map<String, GroupDefinition> groups, Session session,
+                                        Set<String> matchingGroups) {
+        for (Map.Entry<String, GroupDefinition> entry : groups.entrySet()) {
+            if (entry.getValue().containsClientDevice(session)) {
+                matchingGroups.add(entry.getKey());
+            }
+        }
+        return matchingGroups;
+    }
+
+    private static final class AttributeIndex {
+        private final int slot;
+        private final Map<String, List<String>> groupsByValue;
+        private final PrefixTrieMap<List<String>> groupsByPrefix;
+        // all groups selecting on this attribute
+        private final Map<String, GroupDefinition> groups;
+
+        private AttributeIndex(Builder builder) {
+            this.slot = builder.slot;
+            this.groupsByValue = builder.groupsByValue;
+            this.groupsByPrefix = PrefixTrieMap.of(builder.groupsByPrefix);
+            this.groups = builder.groups;
+        }
+
+        void findMatchingGroups(Session session, Set<String> matchingGroups) {
+            DeviceAttribute attribute = session.getSessionAttribute(slot);
+            if (attribute == null) {
+                return;
+            }
+            if (!(attribute instanceof WildcardSuffixAttribute)) {
+                // Unknown matching semantics, so the indexed values may not apply
+                evaluate(groups, session, matchingGroups);
+                return;
+            }
+            String value = ((WildcardSuffixAttribute) attribute).getValue();
+            List<String> exactMatches = groupsByValue.get(value);
+            if (exactMatches != null) {
+                matchingGroups.addAll(exactMatches);
+            }
+            groupsByPrefix.forEachPrefixOf(value, matchingGroups::addAll);
+        }
+
+        private static final class Builder {
+            private final int slot;
+            private final Map<String, List<String>> groupsByValue = new HashMap<>();
+            private final Map<String, List<String>> groupsByPrefix = new HashMap<>();
+            private final Map<String, GroupDefinition> groups = new HashMap<>();
+
+            Builder(int slot) {
+                this.slot = slot;
+            }
+
+            void add(String expression, String groupName, GroupDefinition definition) {
+                if (!expression.isEmpty() && expression.charAt(expression.length() - 1) == WILDCARD) {
+                    groupsByPrefix.computeIfAbsent(expression.substring(0, expression.length() - 1),
+                            k -> new ArrayList<>()).add(groupName);
+                } else {
+                    groupsByValue.computeIfAbsent(expression, k -> new ArrayList<>()).add(groupName);
+                }
+                groups.put(groupName, definition);
+            }
+
+            AttributeIndex build() {
+                return new AttributeIndex(this);
+            }
+        }
+    }
+}
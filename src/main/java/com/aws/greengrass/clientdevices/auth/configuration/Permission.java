@@ -5,16 +5,27 @@
 
 package com.aws.greengrass.clientdevices.auth.configuration;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.Value;
 
 @Value
 @Builder
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class Permission {
     @NonNull String principal;
 
     @NonNull String operation;
 
     @NonNull String resource;
+
+    @NonNull
+    @Builder.Default
+    AuthorizationPolicyStatement.Effect effect = AuthorizationPolicyStatement.Effect.ALLOW;
+
+    Permission(String principal, String operation, String resource) {
+        this(principal, operation, resource, AuthorizationPolicyStatement.Effect.ALLOW);
+    }
 }
@@ -0,0 +1,384 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.util.PrefixTrie;
+import com.aws.greengrass.clientdevices.auth.util.TopicFilterTrie;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, precompiled view of the permissions granted to a device group. Permissions are indexed by operation
+ * service and action, and then by resource service and resource type. Exact resource names are kept in hash sets,
+ * names ending with a '*' wildcard are kept in a prefix trie, and MQTT topic and topic filter resources using '+' or
+ * '#' wildcards are kept in a topic filter trie. Evaluating a request therefore costs a few hash lookups rather than a
+ * scan over every permission.
+ *
+ * <p>Allow and deny permissions are compiled into separate indexes of the same shape, so that a request is checked
+ * with one deny probe and one allow probe.</p>
+ *
+ * <p>Permissions whose resource uses {@link PolicyVariable}s are kept as templates, parsed once at compile time. They
+ * do not match anything until the index is bound to a session with {@link #bind(Map)}.</p>
+ */
+public final class PermissionIndex {
+    public static final PermissionIndex EMPTY = new PermissionIndex(OperationIndex.EMPTY, OperationIndex.EMPTY,
+            OperationIndex.EMPTY, OperationIndex.EMPTY, Collections.emptyList());
+
+    private static final String ANY = "*";
+    private static final char SEPARATOR = ':';
+    private static final String MQTT_SERVICE = "mqtt";
+    private static final String MQTT_TOPIC_TYPE = "topic";
+    private static final String MQTT_TOPIC_FILTER_TYPE = "topicfilter";
+
+    private final OperationIndex allowed;
+    private final OperationIndex denied;
+    // permissions bound from the templates for one session
+    private final OperationIndex boundAllowed;
+    private final OperationIndex boundDenied;
+    private final List<PermissionTemplate> templates;
+    // number and total length of the resources bound for one session
+    private final int boundPermissions;
+    private final long boundResourceLength;
+
+    private PermissionIndex(OperationIndex allowed, OperationIndex denied, OperationIndex boundAllowed,
+                            OperationIndex boundDenied, List<PermissionTemplate> templates) {
+        this(allowed, denied, boundAllowed, boundDenied, templates, 0, 0L);
+    }
+
+    private PermissionIndex(OperationIndex allowed, OperationIndex denied, OperationIndex boundAllowed,
+                            OperationIndex boundDenied, List<PermissionTemplate> templates, int boundPermissions,
+                            long boundResourceLength) {
+        this.allowed = allowed;
+        this.denied = denied;
+        this.boundAllowed = boundAllowed;
+        this.boundDenied = boundDenied;
+        this.templates = templates;
+        this.boundPermissions = boundPermissions;
+        this.boundResourceLength = boundResourceLength;
+    }
+
+    /**
+     * Compile a set of permissions into an index. Permissions whose operation or resource cannot be parsed can never
+     * match a valid request, so they are dropped.
+     *
+     * @param permissions permissions to compile
+     * @return permission index
+     */
+    public static PermissionIndex compile(Collection<Permission> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        OperationIndex.Builder allowBuilder = new OperationIndex.Builder();
+        OperationIndex.Builder denyBuilder = new OperationIndex.Builder();
+        List<PermissionTemplate> templates = new ArrayList<>();
+        for (Permission permission : permissions) {
+            ResourceTemplate template = ResourceTemplate.parse(permission.getResource());
+            if (template != null) {
+                templates.add(new PermissionTemplate(permission.getEffect(), permission.getOperation(), template));
+            } else if (permission.getEffect() == AuthorizationPolicyStatement.Effect.DENY) {
+                denyBuilder.add(permission.getOperation(), permission.getResource());
+            } else {
+                allowBuilder.add(permission.getOperation(), permission.getResource());
+            }
+        }
+        return new PermissionIndex(allowBuilder.build(), denyBuilder.build(), OperationIndex.EMPTY,
+                OperationIndex.EMPTY, templates.isEmpty() ? Collections.emptyList()
+                : Collections.unmodifiableList(templates));
+    }
+
+    /**
+     * Bind the templated permissions of this index to the policy variable values of a session. Only the templates
+     * are compiled, the rest of the index is shared. Templates using a variable without a value are dropped.
+     *
+     * @param values policy variable values, see {@link PolicyVariable#resolve}
+     * @return permission index for the session, or this index if it has no templates
+     */
+    public PermissionIndex bind(Map<PolicyVariable, String> values) {
+        if (templates.isEmpty()) {
+            return this;
+        }
+        OperationIndex.Builder allowBuilder = new OperationIndex.Builder();
+        OperationIndex.Builder denyBuilder = new OperationIndex.Builder();
+        int bound = 0;
+        long boundLength = 0;
+        for (PermissionTemplate template : templates) {
+            String resource = template.resource.bind(values);
+            if (resource == null) {
+                continue;
+            }
+            bound++;
+            boundLength += resource.length();
+            if (template.effect == AuthorizationPolicyStatement.Effect.DENY) {
+                denyBuilder.add(template.operation, resource);
+            } else {
+                allowBuilder.add(template.operation, resource);
+            }
+        }
+        return new PermissionIndex(allowed, denied, allowBuilder.build(), denyBuilder.build(), templates, bound,
+                boundLength);
+    }
+
+    public boolean hasTemplates() {
+        return !templates.isEmpty();
+    }
+
+    /**
+     * Get the number of permissions bound to the session this index was bound to.
+     *
+     * @return number of bound permissions, or 0 if the index is not bound
+     */
+    public int getBoundPermissions() {
+        return boundPermissions;
+    }
+
+    /**
+     * Get the total length of the resources bound to the session this index was bound to.
+     *
+     * @return number of characters of the bound resources
+     */
+    public long getBoundResourceLength() {
+        return boundResourceLength;
+    }
+
+    /**
+     * Check whether a parsed request matches an allow permission of this index. The operation and resource of a
+     * request always share the same service. Deny permissions are not considered, see
+     * {@link #isDenied(String, String, String, String)}.
+     *
+     * @param service      request service
+     * @param action       request action
+     * @param resourceType request resource type
+     * @param resourceName request resource name
+     * @return true if a compiled allow permission matches the request
+     */
+    public boolean isAllowed(String service, String action, String resourceType, String resourceName) {
+        return allowed.matches(service, action, resourceType, resourceName)
+                || boundAllowed.matches(service, action, resourceType, resourceName);
+    }
+
+    /**
+     * Check whether a parsed request matches a deny permission of this index.
+     *
+     * @param service      request service
+     * @param action       request action
+     * @param resourceType request resource type
+     * @param resourceName request resource name
+     * @return true if a compiled deny permission matches the request
+     */
+    public boolean isDenied(String service, String action, String resourceType, String resourceName) {
+        return denied.matches(service, action, resourceType, resourceName)
+                || boundDenied.matches(service, action, resourceType, resourceName);
+    }
+
+    public boolean isEmpty() {
+        return allowed.isEmpty() && denied.isEmpty() && templates.isEmpty();
+    }
+
+    private static final class PermissionTemplate {
+        private final AuthorizationPolicyStatement.Effect effect;
+        private final String operation;
+        private final ResourceTemplate resource;
+
+        PermissionTemplate(AuthorizationPolicyStatement.Effect effect, String operation, ResourceTemplate resource) {
+            this.effect = effect;
+            this.operation = operation;
+            this.resource = resource;
+        }
+    }
+
+    private static final class OperationIndex {
+        private static final OperationIndex EMPTY = new OperationIndex(Collections.emptyMap(), null);
+
+        // operation service -> operation action ('*' for any action of that service) -> matching resources
+        private final Map<String, Map<String, ResourceIndex>> operations;
+        // resources matching the '*' operation
+        private final ResourceIndex anyOperation;
+
+        private OperationIndex(Map<String, Map<String, ResourceIndex>> operations, ResourceIndex anyOperation) {
+            this.operations = operations;
+            this.anyOperation = anyOperation;
+        }
+
+        boolean matches(String service, String action, String resourceType, String resourceName) {
+            Map<String, ResourceIndex> actions = operations.get(service);
+            if (actions != null) {
+                if (matches(actions.get(action), service, resourceType, resourceName)) {
+                    return true;
+                }
+                if (matches(actions.get(ANY), service, resourceType, resourceName)) {
+                    return true;
+                }
+            }
+            return matches(anyOperation, service, resourceType, resourceName);
+        }
+
+        boolean isEmpty() {
+            return operations.isEmpty() && anyOperation == null;
+        }
+
+        private static boolean matches(ResourceIndex resources, String service, String resourceType,
+                                       String resourceName) {
+            return resources != null && resources.matches(service, resourceType, resourceName);
+        }
+
+        private static final class Builder {
+            private final Map<String, Map<String, ResourceIndex.Builder>> operationBuilders = new HashMap<>();
+            private ResourceIndex.Builder anyOperationBuilder;
+
+            void add(String operation, String resource) {
+                ResourceIndex.Builder builder;
+                if (ANY.equals(operation)) {
+                    if (anyOperationBuilder == null) {
+                        anyOperationBuilder = new ResourceIndex.Builder();
+                    }
+                    builder = anyOperationBuilder;
+                } else {
+                    int idx = operation.indexOf(SEPARATOR);
+                    if (idx <= 0 || idx == operation.length() - 1) {
+                        return;
+                    }
+                    builder = operationBuilders.computeIfAbsent(operation.substring(0, idx), k -> new HashMap<>())
+                            .computeIfAbsent(operation.substring(idx + 1), k -> new ResourceIndex.Builder());
+                }
+                builder.add(resource);
+            }
+
+            OperationIndex build() {
+                if (operationBuilders.isEmpty() && anyOperationBuilder == null) {
+                    return EMPTY;
+                }
+                Map<String, Map<String, ResourceIndex>> compiled = new HashMap<>();
+                for (Map.Entry<String, Map<String, ResourceIndex.Builder>> service : operationBuilders.entrySet()) {
+                    Map<String, ResourceIndex> actions = new HashMap<>();
+                    for (Map.Entry<String, ResourceIndex.Builder> action : service.getValue().entrySet()) {
+                        actions.put(action.getKey(), action.getValue().build());
+                    }
+                    compiled.put(service.getKey(), Collections.unmodifiableMap(actions));
+                }
+                return new OperationIndex(Collections.unmodifiableMap(compiled),
+                        anyOperationBuilder == null ? null : anyOperationBuilder.build());
+            }
+        }
+    }
+
+    private static final class ResourceIndex {
+        private final boolean anyResource;
+        // resource service -> resource type -> resource names
+        private final Map<String, Map<String, NameIndex>> resources;
+
+        private ResourceIndex(boolean anyResource, Map<String, Map<String, NameIndex>> resources) {
+            this.anyResource = anyResource;
+            this.resources = resources;
+        }
+
+        boolean matches(String service, String resourceType, String resourceName) {
+            if (anyResource) {
+                return true;
+            }
+            Map<String, NameIndex> types = resources.get(service);
+            if (types == null) {
+                return false;
+            }
+            NameIndex names = types.get(resourceType);
+            return names != null && names.matches(resourceName);
+        }
+
+        private static final class Builder {
+            private boolean anyResource;
+            private final Map<String, Map<String, Set<String>>> exactNames = new HashMap<>();
+            private final Map<String, Map<String, Set<String>>> prefixes = new HashMap<>();
+            private final Map<String, Map<String, Set<String>>> topicFilters = new HashMap<>();
+
+            void add(String resource) {
+                if (ANY.equals(resource)) {
+                    anyResource = true;
+                    return;
+                }
+                int serviceEnd = resource.indexOf(SEPARATOR);
+                if (serviceEnd <= 0) {
+                    return;
+                }
+                int typeEnd = resource.indexOf(SEPARATOR, serviceEnd + 1);
+                if (typeEnd <= serviceEnd + 1 || typeEnd == resource.length() - 1) {
+                    return;
+                }
+                String service = resource.substring(0, serviceEnd);
+                String type = resource.substring(serviceEnd + 1, typeEnd);
+                String name = resource.substring(typeEnd + 1);
+
+                if (name.charAt(name.length() - 1) == '*') {
+                    prefixes.computeIfAbsent(service, k -> new HashMap<>()).computeIfAbsent(type, k -> new HashSet<>())
+                            .add(name.substring(0, name.length() - 1));
+                } else if (isMqttTopicFilter(service, type, name)) {
+                    topicFilters.computeIfAbsent(service, k -> new HashMap<>())
+                            .computeIfAbsent(type, k -> new HashSet<>()).add(name);
+                } else {
+                    exactNames.computeIfAbsent(service, k -> new HashMap<>())
+                            .computeIfAbsent(type, k -> new HashSet<>()).add(name);
+                }
+            }
+
+            ResourceIndex build() {
+                if (anyResource) {
+                    return new ResourceIndex(true, Collections.emptyMap());
+                }
+                Map<String, Map<String, NameIndex>> compiled = new HashMap<>();
+                Set<String> services = new HashSet<>(exactNames.keySet());
+                services.addAll(prefixes.keySet());
+                services.addAll(topicFilters.keySet());
+                for (String service : services) {
+                    Map<String, Set<String>> exactByType =
+                            exactNames.getOrDefault(service, Collections.emptyMap());
+                    Map<String, Set<String>> prefixesByType = prefixes.getOrDefault(service, Collections.emptyMap());
+                    Map<String, Set<String>> topicFiltersByType =
+                            topicFilters.getOrDefault(service, Collections.emptyMap());
+                    Set<String> types = new HashSet<>(exactByType.keySet());
+                    types.addAll(prefixesByType.keySet());
+                    types.addAll(topicFiltersByType.keySet());
+
+                    Map<String, NameIndex> nameIndexes = new HashMap<>();
+                    for (String type : types) {
+                        nameIndexes.put(type, new NameIndex(exactByType.getOrDefault(type, Collections.emptySet()),
+                                PrefixTrie.of(prefixesByType.get(type)),
+                                TopicFilterTrie.of(topicFiltersByType.get(type))));
+                    }
+                    compiled.put(service, Collections.unmodifiableMap(nameIndexes));
+                }
+                return new ResourceIndex(false, Collections.unmodifiableMap(compiled));
+            }
+
+            private static boolean isMqttTopicFilter(String service, String type, String name) {
+                return MQTT_SERVICE.equals(service) && (MQTT_TOPIC_TYPE.equals(type) || MQTT_TOPIC_FILTER_TYPE
+                        .equals(type)) && TopicFilterTrie.hasWildcardLevel(name) && TopicFilterTrie
+                        .isValidTopicFilter(name);
+            }
+        }
+    }
+
+    private static final class NameIndex {
+        private final Set<String> exactNames;
+        private final PrefixTrie prefixes;
+        private final TopicFilterTrie topicFilters;
+
+        NameIndex(Set<String> exactNames, PrefixTrie prefixes, TopicFilterTrie topicFilters) {
+            this.exactNames = Collections.unmodifiableSet(new HashSet<>(exactNames));
+            this.prefixes = prefixes;
+            this.topicFilters = topicFilters;
+        }
+
+        boolean matches(String resourceName) {
+            return exactNames.contains(resourceName) || prefixes.matchesPrefixOf(resourceName)
+                    || topicFilters.matches(resourceName);
+        }
+    }
+}
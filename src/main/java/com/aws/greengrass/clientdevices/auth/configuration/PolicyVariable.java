@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Variables which may be used in policy resources, written as <code>${name}</code>. They are substituted with the
+ * value of the session the policy is evaluated for.
+ */
+public enum PolicyVariable {
+    THING_NAME("iot:Connection.Thing.ThingName"),
+    CLIENT_ID("iot:ClientId");
+
+    private final String variableName;
+
+    PolicyVariable(String variableName) {
+        this.variableName = variableName;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    /**
+     * Look up a policy variable by name.
+     *
+     * @param variableName variable name, without the enclosing <code>${}</code>
+     * @return policy variable, or null if there is no variable with this name
+     */
+    public static PolicyVariable fromVariableName(String variableName) {
+        for (PolicyVariable variable : values()) {
+            if (variable.variableName.equals(variableName)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the values of the policy variables for a session. Variables the session has no value for are absent
+     * from the result.
+     *
+     * @param session session
+     * @return policy variable values
+     */
+    public static Map<PolicyVariable, String> resolve(Session session) {
+        AttributeProvider thing = session.getAttributeProvider(Thing.NAMESPACE);
+        if (!(thing instanceof Thing)) {
+            return Collections.emptyMap();
+        }
+        String thingName = ((Thing) thing).getThingName();
+        Map<PolicyVariable, String> values = new EnumMap<>(PolicyVariable.class);
+        values.put(THING_NAME, thingName);
+        // MQTT sessions are created for the thing named after the client ID, see CreateIoTThingSession
+        values.put(CLIENT_ID, thingName);
+        return values;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Policy resource containing {@link PolicyVariable}s. The resource is split into literal segments and variable slots
+ * once, so binding it to a session only concatenates the segments with the session's variable values.
+ */
+final class ResourceTemplate {
+    private static final String VARIABLE_START = "${";
+    private static final char VARIABLE_END = '}';
+
+    // literals[i] precedes variables[i]; the last literal follows the last variable
+    private final String[] literals;
+    private final PolicyVariable[] variables;
+    private final int literalLength;
+
+    private ResourceTemplate(String[] literals, PolicyVariable[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a policy resource. Text looking like a variable but not naming a known {@link PolicyVariable} is kept
+     * literally.
+     *
+     * @param resource policy resource
+     * @return resource template, or null if the resource does not contain any policy variable
+     */
+    static ResourceTemplate parse(String resource) {
+        List<String> literals = new ArrayList<>();
+        List<PolicyVariable> variables = new ArrayList<>();
+        int literalStart = 0;
+        int searchFrom = 0;
+        while (true) {
+            int start = resource.indexOf(VARIABLE_START, searchFrom);
+            if (start < 0) {
+                break;
+            }
+            int end = resource.indexOf(VARIABLE_END, start + VARIABLE_START.length());
+            if (end < 0) {
+                break;
+            }
+            PolicyVariable variable =
+                    PolicyVariable.fromVariableName(resource.substring(start + VARIABLE_START.length(), end));
+            if (variable != null) {
+                literals.add(resource.substring(literalStart, start));
+                variables.add(variable);
+                literalStart = end + 1;
+            }
+            searchFrom = end + 1;
+        }
+        if (variables.isEmpty()) {
+            return null;
+        }
+        literals.add(resource.substring(literalStart));
+        return new ResourceTemplate(literals.toArray(new String[0]), variables.toArray(new PolicyVariable[0]));
+    }
+
+    /**
+     * Substitute the variables of this template.
+     *
+     * @param values policy variable values
+     * @return bound resource, or null if a variable has no value
+     */
+    String bind(Map<PolicyVariable, String> values) {
+        StringBuilder sb = new StringBuilder(literalLength + 32 * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                return null;
+            }
+            sb.append(literals[i]).append(value);
+        }
+        return sb.append(literals[variables.length]).toString();
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Objects;
  * |---- configuration
  * |    |---- security:
  * |          |---- clientDeviceTrustDurationMinutes: "..."
+ * |          |---- clientDeviceTrustRefreshSeconds: "..."
  * </p>
  */
 @Getter
@@ -28,12 +29,18 @@ public final class SecurityConfiguration {
     public static final String CLIENT_DEVICE_TRUST_DURATION_MINUTES_TOPIC = "clientDeviceTrustDurationMinutes";
     public static final int DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES = 1;
     public static final int MIN_CLIENT_DEVICE_TRUST_DURATION_MINUTES = 1;
+    // Age after which a trusted client device status is refreshed in the background while it keeps being used. Zero
+    // disables this, so that statuses are verified with the cloud before use whenever the network is up
+    public static final String CLIENT_DEVICE_TRUST_REFRESH_SECONDS_TOPIC = "clientDeviceTrustRefreshSeconds";
+    public static final int DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS = 0;
 
     private int clientDeviceTrustDurationMinutes;
+    private int clientDeviceTrustRefreshSeconds;
 
 
-    private SecurityConfiguration(int clientDeviceTrustDurationMinutes) {
+    private SecurityConfiguration(int clientDeviceTrustDurationMinutes, int clientDeviceTrustRefreshSeconds) {
         this.clientDeviceTrustDurationMinutes = clientDeviceTrustDurationMinutes;
+        this.clientDeviceTrustRefreshSeconds = clientDeviceTrustRefreshSeconds;
     }
 
     /**
@@ -44,7 +51,8 @@ public final class SecurityConfiguration {
     public static SecurityConfiguration from(Topics configurationTopics) {
         Topics securityTopics = configurationTopics.lookupTopics(SECURITY_TOPIC);
 
-        return new SecurityConfiguration(getClientDeviceTrustDurationMinutes(securityTopics));
+        return new SecurityConfiguration(getClientDeviceTrustDurationMinutes(securityTopics),
+                getClientDeviceTrustRefreshSeconds(securityTopics));
     }
 
     /**
@@ -57,7 +65,9 @@ public final class SecurityConfiguration {
             return true;
         }
 
-        return !Objects.equals(newConfig.getClientDeviceTrustDurationMinutes(), getClientDeviceTrustDurationMinutes());
+        return !Objects.equals(newConfig.getClientDeviceTrustDurationMinutes(), getClientDeviceTrustDurationMinutes())
+                || !Objects.equals(newConfig.getClientDeviceTrustRefreshSeconds(),
+                getClientDeviceTrustRefreshSeconds());
     }
 
     private static int getClientDeviceTrustDurationMinutes(Topics securityTopics) {
@@ -70,4 +80,15 @@ public final class SecurityConfiguration {
         }
         return configValue;
     }
+
+    private static int getClientDeviceTrustRefreshSeconds(Topics securityTopics) {
+        int configValue = Coerce.toInt(securityTopics.findOrDefault(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS,
+                CLIENT_DEVICE_TRUST_REFRESH_SECONDS_TOPIC));
+        if (configValue < 0) {
+            logger.warn("Illegal value {} for configuration {}. Using default value {}", configValue,
+                    CLIENT_DEVICE_TRUST_REFRESH_SECONDS_TOPIC, DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS);
+            configValue = DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
+        }
+        return configValue;
+    }
 }
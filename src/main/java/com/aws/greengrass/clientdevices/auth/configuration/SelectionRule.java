@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTAnd;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTAttribute;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTOr;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTStart;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTThing;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.Node;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeSlots;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Selection rule compiled from a rule expression AST. Nested ANDs and ORs are flattened into n-ary terms, and the
+ * session's thing name attribute is looked up once per evaluation rather than at every thing name term.
+ */
+public final class SelectionRule implements Predicate<Session> {
+    private static final String THING_NAME_ATTRIBUTE = "ThingName";
+    private static final int THING_NAME_SLOT = AttributeSlots.of(Thing.NAMESPACE, THING_NAME_ATTRIBUTE);
+
+    private final Term root;
+    private final List<Selector> selectors;
+
+    private SelectionRule(Term root) {
+        this.root = root;
+        this.selectors = collectSelectors(root);
+    }
+
+    /**
+     * Compile a rule expression.
+     *
+     * @param expressionTree parsed rule expression
+     * @return compiled selection rule
+     * @throws IllegalArgumentException if the expression contains an unsupported node
+     */
+    public static SelectionRule compile(ASTStart expressionTree) {
+        if (expressionTree.jjtGetNumChildren() != 1) {
+            throw new IllegalArgumentException("Selection rule must have a single expression");
+        }
+        return new SelectionRule(compile(expressionTree.jjtGetChild(0)));
+    }
+
+    @Override
+    public boolean test(Session session) {
+        return root.test(session, session.getSessionAttribute(THING_NAME_SLOT));
+    }
+
+    /**
+     * Get the attribute selectors of a rule which matches a session if and only if any one of them matches.
+     *
+     * @return selectors, or null if the rule has terms other than ORs of selectors
+     */
+    List<Selector> getSelectors() {
+        return selectors;
+    }
+
+    private static List<Selector> collectSelectors(Term term) {
+        if (term instanceof Selector) {
+            return Collections.singletonList((Selector) term);
+        }
+        if (!(term instanceof AnyOf)) {
+            return null;
+        }
+        List<Selector> selectors = new ArrayList<>();
+        for (Term operand : ((AnyOf) term).operands) {
+            if (!(operand instanceof Selector)) {
+                return null;
+            }
+            selectors.add((Selector) operand);
+        }
+        return Collections.unmodifiableList(selectors);
+    }
+
+    private static Term compile(Node node) {
+        if (node instanceof ASTOr || node instanceof ASTAnd) {
+            List<Term> terms = new ArrayList<>();
+            flatten(node, node.getClass(), terms);
+            Term[] operands = terms.toArray(new Term[0]);
+            return node instanceof ASTOr ? new AnyOf(operands) : new AllOf(operands);
+        }
+        if (node instanceof ASTThing) {
+            return new Selector(Thing.NAMESPACE, THING_NAME_ATTRIBUTE, (String) ((ASTThing) node).jjtGetValue());
+        }
+        if (node instanceof ASTAttribute) {
+            ASTAttribute attribute = (ASTAttribute) node;
+            return new Selector(attribute.getNamespace(), attribute.getAttributeName(),
+                    (String) attribute.jjtGetValue());
+        }
+        throw new IllegalArgumentException(String.format("Unsupported selection rule node %s", node));
+    }
+
+    // Collect the operands of directly nested nodes of the same type, e.g. a OR (b OR c) becomes [a, b, c]
+    private static void flatten(Node node, Class<?> type, List<Term> terms) {
+        for (int i = 0; i < node.jjtGetNumChildren(); i++) {
+            Node child = node.jjtGetChild(i);
+            if (child.getClass() == type) {
+                flatten(child, type, terms);
+            } else {
+                terms.add(compile(child));
+            }
+        }
+    }
+
+    private interface Term {
+        // The thing name is used by most rules, so it is resolved once up front
+        boolean test(Session session, DeviceAttribute thingName);
+    }
+
+    private static final class AnyOf implements Term {
+        private final Term[] operands;
+
+        AnyOf(Term[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(Session session, DeviceAttribute thingName) {
+            for (Term operand : operands) {
+                if (operand.test(session, thingName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class AllOf implements Term {
+        private final Term[] operands;
+
+        AllOf(Term[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        public boolean test(Session session, DeviceAttribute thingName) {
+            for (Term operand : operands) {
+                if (!operand.test(session, thingName)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Term matching a session attribute against an expression, such as <code>thingName: sensor*</code>.
+     */
+    @Getter
+    static final class Selector implements Term {
+        private final int slot;
+        private final String expression;
+
+        Selector(String namespace, String attributeName, String expression) {
+            this.slot = AttributeSlots.of(namespace, attributeName);
+            this.expression = expression;
+        }
+
+        @Override
+        public boolean test(Session session, DeviceAttribute thingName) {
+            DeviceAttribute attribute = slot == THING_NAME_SLOT ? thingName : session.getSessionAttribute(slot);
+            return attribute != null && attribute.matches(expression);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/* Generated By:JJTree: Do not edit this line. ASTAttribute.java Version 7.0 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=false,NODE_PREFIX=AST,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.aws.greengrass.clientdevices.auth.configuration.parser;
+
+public
+class ASTAttribute extends SimpleNode {
+  private String namespace;
+  private String attributeName;
+
+  public ASTAttribute(int id) {
+    super(id);
+  }
+
+  public ASTAttribute(RuleExpression p, int id) {
+    super(p, id);
+  }
+
+  /** Set the session attribute this term matches. **/
+  public void setAttribute(String namespace, String attributeName) {
+    this.namespace = namespace;
+    this.attributeName = attributeName;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getAttributeName() {
+    return attributeName;
+  }
+
+  /** Accept the visitor. **/
+  public Object jjtAccept(RuleExpressionVisitor visitor, Object data) {
+
+    return
+    visitor.visit(this, data);
+  }
+}
+/* JavaCC - OriginalChecksum=fdcaeaca6b7367b8ba8f134c516157f3 (do not edit this line) */
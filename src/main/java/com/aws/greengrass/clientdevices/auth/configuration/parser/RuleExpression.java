@@ -121,7 +121,22 @@ if (jjtc001) {
 }
 
   final public void unaryExpression() throws ParseException {
-    thingExpression();
+    switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+    case 9:{
+      thingExpression();
+      break;
+      }
+    case ATTRIBUTENAME:
+    case 10:
+    case 11:{
+      attributeExpression();
+      break;
+      }
+    default:
+      jj_la1[2] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
+    }
 }
 
   final public void thingExpression() throws ParseException {/*@bgen(jjtree) Thing */
@@ -129,7 +144,48 @@ if (jjtc001) {
     boolean jjtc000 = true;
     jjtree.openNodeScope(jjtn000);Token t;
     try {
-      jj_consume_token(8);
+      jj_consume_token(9);
+      t = jj_consume_token(THINGNAME);
+jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+jjtn000.value = t.image;
+    } finally {
+if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+      }
+    }
+}
+
+  final public void attributeExpression() throws ParseException {/*@bgen(jjtree) Attribute */
+    ASTAttribute jjtn000 = new ASTAttribute(JJTATTRIBUTE);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);Token name;
+    Token t;
+    try {
+      switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+      case 10:{
+        jj_consume_token(10);
+jjtn000.setAttribute("Certificate", "CertificateId");
+        break;
+        }
+      case 11:{
+        jj_consume_token(11);
+// Sessions are created for the thing named after the MQTT client ID
+            jjtn000.setAttribute("Thing", "ThingName");
+        break;
+        }
+      case ATTRIBUTENAME:{
+        name = jj_consume_token(ATTRIBUTENAME);
+int separator = name.image.indexOf('.');
+            jjtn000.setAttribute(name.image.substring(0, separator),
+                name.image.substring(separator + 1, name.image.length() - 1));
+        break;
+        }
+      default:
+        jj_la1[3] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
       t = jj_consume_token(THINGNAME);
 jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
@@ -150,13 +206,13 @@ if (jjtc000) {
   public Token jj_nt;
   private int jj_ntk;
   private int jj_gen;
-  final private int[] jj_la1 = new int[2];
+  final private int[] jj_la1 = new int[4];
   static private int[] jj_la1_0;
   static {
 	   jj_la1_init_0();
 	}
 	private static void jj_la1_init_0() {
-	   jj_la1_0 = new int[] {0x10,0x20,};
+	   jj_la1_0 = new int[] {0x10,0x20,0xe80,0xc80,};
 	}
 
   /** Constructor with InputStream. */
@@ -170,7 +226,7 @@ if (jjtc000) {
 	 token = new Token();
 	 jj_ntk = -1;
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -185,7 +241,7 @@ if (jjtc000) {
 	 jj_ntk = -1;
 	 jjtree.reset();
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   /** Constructor. */
@@ -195,7 +251,7 @@ if (jjtc000) {
 	 token = new Token();
 	 jj_ntk = -1;
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -214,7 +270,7 @@ if (jjtc000) {
 	 jj_ntk = -1;
 	 jjtree.reset();
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   /** Constructor with generated Token Manager. */
@@ -223,7 +279,7 @@ if (jjtc000) {
 	 token = new Token();
 	 jj_ntk = -1;
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -233,7 +289,7 @@ if (jjtc000) {
 	 jj_ntk = -1;
 	 jjtree.reset();
 	 jj_gen = 0;
-	 for (int i = 0; i < 2; i++) jj_la1[i] = -1;
+	 for (int i = 0; i < 4; i++) jj_la1[i] = -1;
   }
 
   private Token jj_consume_token(int kind) throws ParseException {
@@ -284,12 +340,12 @@ if (jjtc000) {
   /** Generate ParseException. */
   public ParseException generateParseException() {
 	 jj_expentries.clear();
-	 boolean[] la1tokens = new boolean[9];
+	 boolean[] la1tokens = new boolean[12];
 	 if (jj_kind >= 0) {
 	   la1tokens[jj_kind] = true;
 	   jj_kind = -1;
 	 }
-	 for (int i = 0; i < 2; i++) {
+	 for (int i = 0; i < 4; i++) {
 	   if (jj_la1[i] == jj_gen) {
 		 for (int j = 0; j < 32; j++) {
 		   if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -298,7 +354,7 @@ if (jjtc000) {
 		 }
 	   }
 	 }
-	 for (int i = 0; i < 9; i++) {
+	 for (int i = 0; i < 12; i++) {
 	   if (la1tokens[i]) {
 		 jj_expentry = new int[1];
 		 jj_expentry[0] = i;
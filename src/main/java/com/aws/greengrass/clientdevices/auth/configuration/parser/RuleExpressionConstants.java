@@ -22,7 +22,9 @@ public interface RuleExpressionConstants {
   /** RegularExpression Id. */
   int THINGNAME = 6;
   /** RegularExpression Id. */
-  int ALPHANUMERIC = 7;
+  int ATTRIBUTENAME = 7;
+  /** RegularExpression Id. */
+  int ALPHANUMERIC = 8;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -36,8 +38,11 @@ public interface RuleExpressionConstants {
     "\"OR\"",
     "\"AND\"",
     "<THINGNAME>",
+    "<ATTRIBUTENAME>",
     "<ALPHANUMERIC>",
     "\"thingName:\"",
+    "\"certificateId:\"",
+    "\"clientId:\"",
   };
 
 }
@@ -26,5 +26,8 @@ public class RuleExpressionDefaultVisitor implements RuleExpressionVisitor{
   public Object visit(ASTThing node, Object data){
     return defaultVisit(node, data);
   }
+  public Object visit(ASTAttribute node, Object data){
+    return defaultVisit(node, data);
+  }
 }
-/* JavaCC - OriginalChecksum=a8850fa05464eb13e5aca678b0c2b355 (do not edit this line) */
+/* JavaCC - OriginalChecksum=a5f431f538dd01149f70bb8cf1e77e9b (do not edit this line) */
@@ -18,14 +18,14 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
    switch (pos)
    {
       case 0:
-         if ((active0 & 0x130L) != 0L)
+         if ((active0 & 0xe30L) != 0L)
          {
             jjmatchedKind = 6;
             return 5;
          }
          return -1;
       case 1:
-         if ((active0 & 0x120L) != 0L)
+         if ((active0 & 0xe20L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 1;
@@ -35,7 +35,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
             return 5;
          return -1;
       case 2:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 2;
@@ -45,7 +45,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
             return 5;
          return -1;
       case 3:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 3;
@@ -53,7 +53,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
          }
          return -1;
       case 4:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 4;
@@ -61,7 +61,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
          }
          return -1;
       case 5:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 5;
@@ -69,7 +69,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
          }
          return -1;
       case 6:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 6;
@@ -77,7 +77,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
          }
          return -1;
       case 7:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0xe00L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 7;
@@ -85,13 +85,45 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0){
          }
          return -1;
       case 8:
-         if ((active0 & 0x100L) != 0L)
+         if ((active0 & 0x600L) != 0L)
          {
             jjmatchedKind = 6;
             jjmatchedPos = 8;
             return 5;
          }
          return -1;
+      case 9:
+         if ((active0 & 0x400L) != 0L)
+         {
+            jjmatchedKind = 6;
+            jjmatchedPos = 9;
+            return 5;
+         }
+         return -1;
+      case 10:
+         if ((active0 & 0x400L) != 0L)
+         {
+            jjmatchedKind = 6;
+            jjmatchedPos = 10;
+            return 5;
+         }
+         return -1;
+      case 11:
+         if ((active0 & 0x400L) != 0L)
+         {
+            jjmatchedKind = 6;
+            jjmatchedPos = 11;
+            return 5;
+         }
+         return -1;
+      case 12:
+         if ((active0 & 0x400L) != 0L)
+         {
+            jjmatchedKind = 6;
+            jjmatchedPos = 12;
+            return 5;
+         }
+         return -1;
       default :
          return -1;
    }
@@ -112,10 +144,12 @@ private int jjMoveStringLiteralDfa0_0(){
          return jjMoveStringLiteralDfa1_0(0x20L);
       case 79:
          return jjMoveStringLiteralDfa1_0(0x10L);
+      case 99:
+         return jjMoveStringLiteralDfa1_0(0xc00L);
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x100L);
+         return jjMoveStringLiteralDfa1_0(0x200L);
       default :
-         return jjMoveNfa_0(4, 0);
+         return jjMoveNfa_0(8, 0);
    }
 }
 private int jjMoveStringLiteralDfa1_0(long active0){
@@ -132,8 +166,12 @@ private int jjMoveStringLiteralDfa1_0(long active0){
          if ((active0 & 0x10L) != 0L)
             return jjStartNfaWithStates_0(1, 4, 5);
          break;
+      case 101:
+         return jjMoveStringLiteralDfa2_0(active0, 0x400L);
       case 104:
-         return jjMoveStringLiteralDfa2_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x200L);
+      case 108:
+         return jjMoveStringLiteralDfa2_0(active0, 0x800L);
       default :
          break;
    }
@@ -154,7 +192,9 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0){
             return jjStartNfaWithStates_0(2, 5, 5);
          break;
       case 105:
-         return jjMoveStringLiteralDfa3_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa3_0(active0, 0xa00L);
+      case 114:
+         return jjMoveStringLiteralDfa3_0(active0, 0x400L);
       default :
          break;
    }
@@ -170,8 +210,12 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0){
    }
    switch(curChar)
    {
+      case 101:
+         return jjMoveStringLiteralDfa4_0(active0, 0x800L);
       case 110:
-         return jjMoveStringLiteralDfa4_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x200L);
+      case 116:
+         return jjMoveStringLiteralDfa4_0(active0, 0x400L);
       default :
          break;
    }
@@ -188,7 +232,11 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0){
    switch(curChar)
    {
       case 103:
-         return jjMoveStringLiteralDfa5_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x200L);
+      case 105:
+         return jjMoveStringLiteralDfa5_0(active0, 0x400L);
+      case 110:
+         return jjMoveStringLiteralDfa5_0(active0, 0x800L);
       default :
          break;
    }
@@ -205,7 +253,11 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0){
    switch(curChar)
    {
       case 78:
-         return jjMoveStringLiteralDfa6_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x200L);
+      case 102:
+         return jjMoveStringLiteralDfa6_0(active0, 0x400L);
+      case 116:
+         return jjMoveStringLiteralDfa6_0(active0, 0x800L);
       default :
          break;
    }
@@ -221,8 +273,12 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0){
    }
    switch(curChar)
    {
+      case 73:
+         return jjMoveStringLiteralDfa7_0(active0, 0x800L);
       case 97:
-         return jjMoveStringLiteralDfa7_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x200L);
+      case 105:
+         return jjMoveStringLiteralDfa7_0(active0, 0x400L);
       default :
          break;
    }
@@ -238,8 +294,12 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0){
    }
    switch(curChar)
    {
+      case 99:
+         return jjMoveStringLiteralDfa8_0(active0, 0x400L);
+      case 100:
+         return jjMoveStringLiteralDfa8_0(active0, 0x800L);
       case 109:
-         return jjMoveStringLiteralDfa8_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x200L);
       default :
          break;
    }
@@ -255,8 +315,14 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0){
    }
    switch(curChar)
    {
+      case 58:
+         if ((active0 & 0x800L) != 0L)
+            return jjStopAtPos(8, 11);
+         break;
+      case 97:
+         return jjMoveStringLiteralDfa9_0(active0, 0x400L);
       case 101:
-         return jjMoveStringLiteralDfa9_0(active0, 0x100L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x200L);
       default :
          break;
    }
@@ -273,14 +339,86 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0){
    switch(curChar)
    {
       case 58:
-         if ((active0 & 0x100L) != 0L)
-            return jjStopAtPos(9, 8);
+         if ((active0 & 0x200L) != 0L)
+            return jjStopAtPos(9, 9);
          break;
+      case 116:
+         return jjMoveStringLiteralDfa10_0(active0, 0x400L);
       default :
          break;
    }
    return jjStartNfa_0(8, active0);
 }
+private int jjMoveStringLiteralDfa10_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(8, old0);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(9, active0);
+      return 10;
+   }
+   switch(curChar)
+   {
+      case 101:
+         return jjMoveStringLiteralDfa11_0(active0, 0x400L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(9, active0);
+}
+private int jjMoveStringLiteralDfa11_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(9, old0);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(10, active0);
+      return 11;
+   }
+   switch(curChar)
+   {
+      case 73:
+         return jjMoveStringLiteralDfa12_0(active0, 0x400L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(10, active0);
+}
+private int jjMoveStringLiteralDfa12_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(10, old0);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(11, active0);
+      return 12;
+   }
+   switch(curChar)
+   {
+      case 100:
+         return jjMoveStringLiteralDfa13_0(active0, 0x400L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(11, active0);
+}
+private int jjMoveStringLiteralDfa13_0(long old0, long active0){
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(11, old0);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(12, active0);
+      return 13;
+   }
+   switch(curChar)
+   {
+      case 58:
+         if ((active0 & 0x400L) != 0L)
+            return jjStopAtPos(13, 10);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(12, active0);
+}
 private int jjStartNfaWithStates_0(int pos, int kind, int state)
 {
    jjmatchedKind = kind;
@@ -292,7 +430,7 @@ private int jjStartNfaWithStates_0(int pos, int kind, int state)
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 5;
+   jjnewStateCnt = 9;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -307,25 +445,24 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 4:
+               case 5:
                   if ((0x3ff200000000000L & l) != 0L)
                   {
                      if (kind > 6)
                         kind = 6;
                      { jjCheckNAddStates(0, 2); }
                   }
+                  else if (curChar == 46)
+                     { jjCheckNAdd(6); }
                   else if (curChar == 42)
                   {
                      if (kind > 6)
                         kind = 6;
                   }
                   if ((0x3ff000000000000L & l) != 0L)
-                  {
-                     if (kind > 7)
-                        kind = 7;
-                  }
+                     { jjCheckNAddTwoStates(4, 5); }
                   break;
-               case 5:
+               case 8:
                   if ((0x3ff200000000000L & l) != 0L)
                   {
                      if (kind > 6)
@@ -337,6 +474,13 @@ private int jjMoveNfa_0(int startState, int curPos)
                      if (kind > 6)
                         kind = 6;
                   }
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 8)
+                        kind = 8;
+                  }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(4, 5); }
                   break;
                case 0:
                   if ((0x3ff200000000000L & l) == 0L)
@@ -348,13 +492,26 @@ private int jjMoveNfa_0(int startState, int curPos)
                case 1:
                   if (curChar != 58)
                      break;
-                  kind = 6;
+                  if (kind > 6)
+                     kind = 6;
                   { jjCheckNAddStates(0, 2); }
                   break;
                case 3:
                   if (curChar == 42)
                      kind = 6;
                   break;
+               case 4:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(4, 5); }
+                  break;
+               case 6:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(6, 7); }
+                  break;
+               case 7:
+                  if (curChar == 58 && kind > 7)
+                     kind = 7;
+                  break;
                default : break;
             }
          } while(i != startsAt);
@@ -366,30 +523,34 @@ private int jjMoveNfa_0(int startState, int curPos)
          {
             switch(jjstateSet[--i])
             {
-               case 4:
+               case 5:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddTwoStates(4, 5); }
+                  else if (curChar == 92)
+                     jjstateSet[jjnewStateCnt++] = 1;
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
                      if (kind > 6)
                         kind = 6;
                      { jjCheckNAddStates(0, 2); }
                   }
+                  break;
+               case 8:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddTwoStates(4, 5); }
                   else if (curChar == 92)
                      jjstateSet[jjnewStateCnt++] = 1;
-                  if ((0x7fffffe07fffffeL & l) != 0L)
-                  {
-                     if (kind > 7)
-                        kind = 7;
-                  }
-                  break;
-               case 5:
                   if ((0x7fffffe87fffffeL & l) != 0L)
                   {
                      if (kind > 6)
                         kind = 6;
                      { jjCheckNAddStates(0, 2); }
                   }
-                  else if (curChar == 92)
-                     jjstateSet[jjnewStateCnt++] = 1;
+                  if ((0x7fffffe07fffffeL & l) != 0L)
+                  {
+                     if (kind > 8)
+                        kind = 8;
+                  }
                   break;
                case 0:
                   if ((0x7fffffe87fffffeL & l) == 0L)
@@ -402,6 +563,14 @@ private int jjMoveNfa_0(int startState, int curPos)
                   if (curChar == 92)
                      jjstateSet[jjnewStateCnt++] = 1;
                   break;
+               case 4:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddTwoStates(4, 5); }
+                  break;
+               case 6:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjAddStates(3, 4); }
+                  break;
                default : break;
             }
          } while(i != startsAt);
@@ -425,7 +594,7 @@ private int jjMoveNfa_0(int startState, int curPos)
          kind = 0x7fffffff;
       }
       ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 5 - (jjnewStateCnt = startsAt)))
+      if ((i = jjnewStateCnt) == (startsAt = 9 - (jjnewStateCnt = startsAt)))
          return curPos;
       try { curChar = input_stream.readChar(); }
       catch(java.io.IOException e) { return curPos; }
@@ -434,8 +603,9 @@ private int jjMoveNfa_0(int startState, int curPos)
 
 /** Token literal values. */
 public static final String[] jjstrLiteralImages = {
-"", null, null, null, "\117\122", "\101\116\104", null, null, 
-"\164\150\151\156\147\116\141\155\145\72", };
+"", null, null, null, "\117\122", "\101\116\104", null, null, null, 
+"\164\150\151\156\147\116\141\155\145\72", "\143\145\162\164\151\146\151\143\141\164\145\111\144\72", 
+"\143\154\151\145\156\164\111\144\72", };
 protected Token jjFillToken()
 {
    final Token t;
@@ -460,7 +630,7 @@ protected Token jjFillToken()
    return t;
 }
 static final int[] jjnextStates = {
-   0, 2, 3, 
+   0, 2, 3, 6, 7, 
 };
 
 int curLexState = 0;
@@ -621,7 +791,7 @@ private void jjCheckNAddStates(int start, int end)
   {
     int i;
     jjround = 0x80000001;
-    for (i = 5; i-- > 0;)
+    for (i = 9; i-- > 0;)
       jjrounds[i] = 0x80000000;
   }
 
@@ -650,10 +820,10 @@ public static final String[] lexStateNames = {
 
 /** Lex State array. */
 public static final int[] jjnewLexState = {
-   -1, -1, -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
-   0x1f1L, 
+   0xff1L, 
 };
 static final long[] jjtoSkip = {
    0xeL, 
@@ -666,8 +836,8 @@ static final long[] jjtoMore = {
 };
     protected SimpleCharStream  input_stream;
 
-    private final int[] jjrounds = new int[5];
-    private final int[] jjstateSet = new int[2 * 5];
+    private final int[] jjrounds = new int[9];
+    private final int[] jjstateSet = new int[2 * 9];
     private final StringBuilder jjimage = new StringBuilder();
     private StringBuilder image = jjimage;
     private int jjimageLen;
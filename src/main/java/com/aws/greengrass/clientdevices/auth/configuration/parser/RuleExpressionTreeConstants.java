@@ -13,6 +13,7 @@ public interface RuleExpressionTreeConstants
   public int JJTOR = 2;
   public int JJTAND = 3;
   public int JJTTHING = 4;
+  public int JJTATTRIBUTE = 5;
 
 
   public String[] jjtNodeName = {
@@ -21,6 +22,7 @@ public interface RuleExpressionTreeConstants
     "Or",
     "And",
     "Thing",
+    "Attribute",
   };
 }
-/* JavaCC - OriginalChecksum=be39e2ea755df5f713cf8bf594306e43 (do not edit this line) */
+/* JavaCC - OriginalChecksum=a7cd944d45946f3c8ae3daad1f93e4a2 (do not edit this line) */
@@ -13,5 +13,6 @@ public interface RuleExpressionVisitor
   public Object visit(ASTOr node, Object data);
   public Object visit(ASTAnd node, Object data);
   public Object visit(ASTThing node, Object data);
+  public Object visit(ASTAttribute node, Object data);
 }
-/* JavaCC - OriginalChecksum=b026344da0e8d4122005aeb45b3d9f0d (do not edit this line) */
+/* JavaCC - OriginalChecksum=a8f5977920c99257811b54a3a9e03f43 (do not edit this line) */
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.infra;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs calls to the cloud on the bounded thread pool sized by maxConcurrentCloudRequests and cloudRequestQueueSize.
+ * Tasks are rejected when the pool is full, or not started yet.
+ *
+ * <p>The time each task was submitted is recorded, so that work running on the pool can reuse the results of cloud
+ * calls which completed while it was queued.</p>
+ *
+ * <p>Background tasks, such as refreshes of metadata which is still trusted, only take a few of the threads and queue
+ * slots, so that they don't delay or reject the calls which requests are waiting for.</p>
+ */
+public class CloudCallThreadPool implements Executor {
+    private static final ThreadLocal<Long> submittedAt = new ThreadLocal<>();
+    static final int MAX_BACKGROUND_TASKS = 2;
+
+    private volatile Pool pool;
+
+    /**
+     * Set the thread pool to run tasks on. Background tasks are limited per thread pool, so that tasks a replaced
+     * thread pool dropped without running them don't count against the new one.
+     *
+     * @param threadPool bounded thread pool
+     */
+    public void setThreadPool(Executor threadPool) {
+        this.pool = threadPool == null ? null : new Pool(threadPool);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        execute(currentPool(), task);
+    }
+
+    /**
+     * Run a task nobody waits for, unless too many background tasks are queued or running already.
+     *
+     * @param task background task
+     * @throws RejectedExecutionException if the task is not run
+     */
+    public void executeInBackground(Runnable task) {
+        Pool current = currentPool();
+        if (!current.backgroundTasks.tryAcquire()) {
+            throw new RejectedExecutionException("Too many background cloud calls");
+        }
+        try {
+            execute(current, () -> {
+                try {
+                    task.run();
+                } finally {
+                    current.backgroundTasks.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            current.backgroundTasks.release();
+            throw e;
+        }
+    }
+
+    private Pool currentPool() {
+        Pool current = pool;
+        if (current == null) {
+            throw new RejectedExecutionException("Cloud call thread pool is not started");
+        }
+        return current;
+    }
+
+    private static void execute(Pool pool, Runnable task) {
+        long submitted = System.nanoTime();
+        pool.threadPool.execute(() -> {
+            submittedAt.set(submitted);
+            try {
+                task.run();
+            } finally {
+                submittedAt.remove();
+            }
+        });
+    }
+
+    /**
+     * Get the time the task running on the current thread was requested.
+     *
+     * @return time the task was submitted to the pool, or the current time when not running on the pool, from
+     *     {@link System#nanoTime()}
+     */
+    public static long requestTime() {
+        Long submitted = submittedAt.get();
+        return submitted == null ? System.nanoTime() : submitted;
+    }
+
+    private static final class Pool {
+        private final Executor threadPool;
+        // Background tasks which are queued or running
+        private final Semaphore backgroundTasks = new Semaphore(MAX_BACKGROUND_TASKS);
+
+        Pool(Executor threadPool) {
+            this.threadPool = threadPool;
+        }
+    }
+}
@@ -7,20 +7,10 @@ package com.aws.greengrass.clientdevices.auth.iot;
 
 import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
-import com.aws.greengrass.clientdevices.auth.session.attribute.StringLiteralAttribute;
+import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
 import lombok.AccessLevel;
 import lombok.Getter;
-import org.bouncycastle.util.encoders.Hex;
-
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
+
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
@@ -28,12 +18,15 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
 
 @Getter
 public class Certificate implements AttributeProvider {
     public static final String NAMESPACE = "Certificate";
     private static final AtomicInteger metadataTrustDurationMinutes =
             new AtomicInteger(DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES);
+    private static final AtomicInteger metadataRefreshSeconds =
+            new AtomicInteger(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS);
 
     public enum Status {
         ACTIVE, UNKNOWN
@@ -43,6 +36,8 @@ public class Certificate implements AttributeProvider {
     @Getter(AccessLevel.NONE)
     private Status status;
     private Instant statusLastUpdated;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DeviceAttribute> deviceAttributes;
 
 
     /**
@@ -52,6 +47,8 @@ public class Certificate implements AttributeProvider {
      */
     Certificate(String certificateId) {
         this.certificateId = certificateId;
+        this.deviceAttributes =
+                Collections.singletonMap("CertificateId", new WildcardSuffixAttribute(certificateId));
         this.status = Status.UNKNOWN;
         this.statusLastUpdated = Instant.EPOCH; // Treat epoch as beginning of time
     }
@@ -64,12 +61,7 @@ public class Certificate implements AttributeProvider {
      * @throws InvalidCertificateException if certificate PEM is invalid
      */
     public static Certificate fromPem(String certificatePem) throws InvalidCertificateException {
-        try {
-            String certificateId = computeCertificateId(certificatePem);
-            return new Certificate(certificateId);
-        } catch (CertificateException | NoSuchAlgorithmException | IOException e) {
-            throw new InvalidCertificateException("Unable to parse certificate PEM", e);
-        }
+        return new Certificate(ParsedCertificate.of(certificatePem).getCertificateId());
     }
 
     /**
@@ -92,6 +84,17 @@ public class Certificate implements AttributeProvider {
         this.statusLastUpdated = lastUpdated;
     }
 
+    /**
+     * Copy this certificate, so that the copy's status can be changed independently.
+     *
+     * @return a new Certificate with the same id and status
+     */
+    public Certificate copy() {
+        Certificate cert = new Certificate(certificateId);
+        cert.setStatus(status, statusLastUpdated);
+        return cert;
+    }
+
     /**
      * Check certificate status.
      *
@@ -131,7 +134,7 @@ public class Certificate implements AttributeProvider {
 
     @Override
     public Map<String, DeviceAttribute> getDeviceAttributes() {
-        return Collections.singletonMap("CertificateId", new StringLiteralAttribute(getCertificateId()));
+        return deviceAttributes;
     }
 
     /**
@@ -155,19 +158,36 @@ public class Certificate implements AttributeProvider {
         metadataTrustDurationMinutes.set(newTrustDuration);
     }
 
+    /**
+     * Updates the age after which trusted certificate metadata is refreshed in the background.
+     *
+     * @param newRefreshSeconds desired refresh threshold in seconds, or zero to verify metadata before use instead
+     */
+    public static void updateMetadataRefreshSeconds(int newRefreshSeconds) {
+        metadataRefreshSeconds.set(newRefreshSeconds);
+    }
+
+    /**
+     * Check whether trusted certificate metadata is used as is and refreshed in the background.
+     *
+     * @return true if a refresh threshold is configured
+     */
+    public static boolean isMetadataRefreshedInBackground() {
+        return metadataRefreshSeconds.get() > 0;
+    }
+
+    /**
+     * Check whether certificate status is older than the refresh threshold.
+     *
+     * @return true if the status should be refreshed
+     */
+    public boolean isStatusStale() {
+        Instant freshTill = statusLastUpdated.plus(metadataRefreshSeconds.get(), ChronoUnit.SECONDS);
+        return !freshTill.isAfter(Instant.now());
+    }
+
     private boolean isStatusTrusted() {
         Instant validTill = statusLastUpdated.plus(metadataTrustDurationMinutes.get(), ChronoUnit.MINUTES);
         return validTill.isAfter(Instant.now());
     }
-
-    private static String computeCertificateId(String certificatePem)
-            throws CertificateException, NoSuchAlgorithmException, IOException {
-        CertificateFactory cf = CertificateFactory.getInstance("X.509");
-        try (InputStream is = new ByteArrayInputStream(certificatePem.getBytes(StandardCharsets.UTF_8))) {
-            X509Certificate cert = (X509Certificate) cf.generateCertificate(is);
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            digest.reset();
-            return new String(Hex.encode(digest.digest(cert.getEncoded())), StandardCharsets.UTF_8);
-        }
-    }
 }
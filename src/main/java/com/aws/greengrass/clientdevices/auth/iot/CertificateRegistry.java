@@ -57,6 +57,16 @@ public class CertificateRegistry {
         return dto.map(this::certificateV1DTOToCert);
     }
 
+    /**
+     * Retrieve certificate by certificate ID.
+     *
+     * @param certificateId certificate ID
+     * @return certificate object, if the certificate is known
+     */
+    public Optional<Certificate> getCertificateById(String certificateId) {
+        return runtimeConfiguration.getCertificateV1(certificateId).map(this::certificateV1DTOToCert);
+    }
+
     /**
      * Get a new certificate, creating and storing one if it does not exist.
      * </p>
@@ -5,11 +5,13 @@
 
 package com.aws.greengrass.clientdevices.auth.iot;
 
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
 import com.aws.greengrass.componentmanager.ClientConfigurationUtils;
 import com.aws.greengrass.deployment.DeviceConfiguration;
 import com.aws.greengrass.deployment.exceptions.DeviceConfigurationException;
 import com.aws.greengrass.util.Coerce;
 import com.aws.greengrass.util.Utils;
+import lombok.Value;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -18,47 +20,156 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.greengrassv2data.GreengrassV2DataClient;
 import software.amazon.awssdk.services.greengrassv2data.GreengrassV2DataClientBuilder;
 
+import java.io.Closeable;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 
 /**
- * Provides GG service clients built specifically for CDA use case. Ideally this factory should maintain the lifecycle
- * of its clients, but for now its upto the consumer of the clients to maintain their lifecycle.
+ * Provides GG service clients built specifically for CDA use case. The factory owns a single client, which is
+ * shared by all requests. The client is created on first use and rebuilt only when the settings it was built from
+ * change.
+ *
+ * <p>A client which was replaced may still be used by requests in flight, so it is only closed after a grace period
+ * which outlasts the timeouts of its HTTP client.</p>
  */
-public class GreengrassV2DataClientFactory {
+public class GreengrassV2DataClientFactory implements Closeable {
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+    // Outlasts the default connection acquisition, connect and socket timeouts of the HTTP client
+    static final Duration CLOSE_GRACE_PERIOD = Duration.ofMinutes(1);
+
     private final DeviceConfiguration deviceConfiguration;
+    private final ClientDeviceAuthMetrics metrics;
+    private final ScheduledExecutorService ses;
+    private volatile int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private GreengrassV2DataClient client;
+    private ClientSettings clientSettings;
+    // Replaced clients which are not closed yet. Guarded by this
+    private final Set<GreengrassV2DataClient> replacedClients = new HashSet<>();
 
     /**
      * Construct Greengrass Client Factory.
      *
      * @param deviceConfiguration GG Core Device Configuration
+     * @param metrics             Client Device Auth metrics
+     * @param ses                 executor which closes replaced clients
      */
     @Inject
-    public GreengrassV2DataClientFactory(DeviceConfiguration deviceConfiguration) {
+    public GreengrassV2DataClientFactory(DeviceConfiguration deviceConfiguration, ClientDeviceAuthMetrics metrics,
+                                         ScheduledExecutorService ses) {
         this.deviceConfiguration = deviceConfiguration;
+        this.metrics = metrics;
+        this.ses = ses;
     }
 
     /**
-     * Provides a new GG v2 Data client without implicit retry policy. Consumer should handle retries when appropriate
-     * and maintain the lifecycle of the client. The Nucleus provided V2DataClient has a built in retry policy which
-     * cannot be overridden.
+     * Provides the GG v2 Data client without implicit retry policy. Consumer should handle retries when appropriate.
+     * The Nucleus provided V2DataClient has a built in retry policy which cannot be overridden.
+     *
+     * <p>The client is shared, and must not be closed by the consumer.</p>
      *
      * @return GreengrassV2DataClient
      * @throws DeviceConfigurationException if configured AWS region is empty
      */
     public GreengrassV2DataClient getClient() throws DeviceConfigurationException {
-        String awsRegion = getAwsRegion(deviceConfiguration);
-        String ggServiceEndpoint = ClientConfigurationUtils.getGreengrassServiceEndpoint(deviceConfiguration);
-        ApacheHttpClient.Builder httpClient = ClientConfigurationUtils.getConfiguredClientBuilder(deviceConfiguration);
+        metrics.cloudClientAcquired();
+        ClientSettings settings = getClientSettings();
+        synchronized (this) {
+            if (client != null && settings.equals(clientSettings)) {
+                return client;
+            }
+            GreengrassV2DataClient newClient = buildClient(settings);
+            if (client != null) {
+                closeLater(client);
+            }
+            client = newClient;
+            clientSettings = settings;
+            metrics.cloudClientCreated();
+            return client;
+        }
+    }
+
+    /**
+     * Set the maximum number of connections the client keeps to the cloud. The client is rebuilt on next use if the
+     * value changed.
+     *
+     * @param maxConnections maximum number of connections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Close the client and the replaced clients which are not closed yet. Requests still in flight fail. A new client
+     * is built on next use.
+     */
+    @Override
+    public void close() {
+        List<GreengrassV2DataClient> clients;
+        synchronized (this) {
+            clients = new ArrayList<>(replacedClients);
+            replacedClients.clear();
+            if (client != null) {
+                clients.add(client);
+            }
+            client = null;
+            clientSettings = null;
+        }
+        clients.forEach(GreengrassV2DataClient::close);
+    }
+
+    private void closeLater(GreengrassV2DataClient replaced) {
+        replacedClients.add(replaced);
+        try {
+            ses.schedule(() -> closeReplaced(replaced), CLOSE_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down, so requests in flight are failing anyway
+            replacedClients.remove(replaced);
+            replaced.close();
+        }
+    }
+
+    private void closeReplaced(GreengrassV2DataClient replaced) {
+        synchronized (this) {
+            if (!replacedClients.remove(replaced)) {
+                // Already closed by close()
+                return;
+            }
+        }
+        replaced.close();
+    }
+
+    private ClientSettings getClientSettings() throws DeviceConfigurationException {
+        return new ClientSettings(getAwsRegion(deviceConfiguration),
+                ClientConfigurationUtils.getGreengrassServiceEndpoint(deviceConfiguration),
+                deviceConfiguration.getNetworkProxyNamespace().toPOJO(),
+                Coerce.toString(deviceConfiguration.getCertificateFilePath()),
+                Coerce.toString(deviceConfiguration.getPrivateKeyFilePath()),
+                Coerce.toString(deviceConfiguration.getRootCAFilePath()),
+                maxConnections);
+    }
+
+    GreengrassV2DataClient buildClient(ClientSettings settings) {
+        // The client is long lived, so let the reaper close connections which went idle in the pool
+        ApacheHttpClient.Builder httpClient = ClientConfigurationUtils.getConfiguredClientBuilder(deviceConfiguration)
+                .maxConnections(settings.getMaxConnections()).useIdleConnectionReaper(true);
 
         GreengrassV2DataClientBuilder clientBuilder =
                 GreengrassV2DataClient.builder().credentialsProvider(AnonymousCredentialsProvider.create())
-                        .httpClientBuilder(httpClient.useIdleConnectionReaper(false))
+                        .httpClientBuilder(httpClient)
                         .overrideConfiguration(ClientOverrideConfiguration.builder()
                                 .retryPolicy(RetryPolicy.none()).build());
 
-        clientBuilder.region(Region.of(awsRegion));
-        clientBuilder.endpointOverride(URI.create(ggServiceEndpoint));
+        clientBuilder.region(Region.of(settings.getAwsRegion()));
+        clientBuilder.endpointOverride(URI.create(settings.getGgServiceEndpoint()));
         return clientBuilder.build();
     }
 
@@ -70,4 +181,18 @@ public class GreengrassV2DataClientFactory {
         return awsRegion;
     }
 
+    /**
+     * Device configuration a client is built from. Proxy and TLS credentials are compared by their configuration
+     * rather than by content.
+     */
+    @Value
+    static class ClientSettings {
+        String awsRegion;
+        String ggServiceEndpoint;
+        Map<String, Object> networkProxy;
+        String certificateFilePath;
+        String privateKeyFilePath;
+        String rootCAFilePath;
+        int maxConnections;
+    }
 }
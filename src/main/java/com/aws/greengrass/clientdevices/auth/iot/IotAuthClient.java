@@ -84,7 +84,9 @@ public interface IotAuthClient {
 
             VerifyClientDeviceIdentityRequest request =
                     VerifyClientDeviceIdentityRequest.builder().clientDeviceCertificate(certificatePem).build();
-            try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
+            try {
+                // The client is shared by all requests, so it is not closed here
+                GreengrassV2DataClient client = ggV2DataClientFactory.getClient();
                 VerifyClientDeviceIdentityResponse response = client.verifyClientDeviceIdentity(request);
                 return Optional.of(response.clientDeviceCertificateId());
             } catch (ValidationException | ResourceNotFoundException e) {
@@ -111,7 +113,8 @@ public interface IotAuthClient {
 
             VerifyClientDeviceIdentityRequest request =
                     VerifyClientDeviceIdentityRequest.builder().clientDeviceCertificate(certificatePem).build();
-            try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
+            try {
+                GreengrassV2DataClient client = ggV2DataClientFactory.getClient();
                 // We can ignore the response since it contains only the cert ID, which we directly compute
                 client.verifyClientDeviceIdentity(request);
                 cert.setStatus(Certificate.Status.ACTIVE);
@@ -157,7 +160,8 @@ public interface IotAuthClient {
                     VerifyClientDeviceIoTCertificateAssociationRequest.builder()
                             .clientDeviceThingName(thing.getThingName()).clientDeviceCertificateId(certificateId)
                             .build();
-            try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
+            try {
+                GreengrassV2DataClient client = ggV2DataClientFactory.getClient();
                 client.verifyClientDeviceIoTCertificateAssociation(request);
                 logger.atDebug().kv("thingName", thing.getThingName()).kv("certificateId", certificateId)
                         .log("Thing is attached to certificate");
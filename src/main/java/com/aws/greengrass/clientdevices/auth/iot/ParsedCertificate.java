@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client certificate parsed from PEM, with the values every stage of client device verification needs. Parsed
+ * certificates are cached by PEM, so that verifying a device identity and then creating its session parses its
+ * certificate once rather than at every stage.
+ *
+ * <p>The cache is keyed by the PEM itself rather than by a digest of it, so that two PEMs which collide under the
+ * string hash can never share a parsed certificate. It holds up to {@link #CACHE_CAPACITY} certificates and evicts
+ * arbitrary ones beyond that, since a device parses its certificate in short bursts when it connects.</p>
+ *
+ * <p>Like the rest of the verification pipeline, only the first certificate of a PEM chain is read.</p>
+ */
+@Getter
+public final class ParsedCertificate {
+    static final int CACHE_CAPACITY = 1024;
+    private static final ConcurrentHashMap<String, ParsedCertificate> CACHE = new ConcurrentHashMap<>();
+
+    private final X509Certificate certificate;
+    // SHA-256 of the DER encoding, as computed by IoT Core
+    private final String certificateId;
+    private final Instant notBefore;
+    private final Instant notAfter;
+    // Version of the CA certificate chain the certificate was last validated against, and whether it chains to the CA.
+    // The validity period is not part of the result, and is checked by the validator on every use
+    @Getter(AccessLevel.NONE)
+    private volatile CaValidation caValidation;
+
+    private ParsedCertificate(X509Certificate certificate, String certificateId) {
+        this.certificate = certificate;
+        this.certificateId = certificateId;
+        this.notBefore = certificate.getNotBefore().toInstant();
+        this.notAfter = certificate.getNotAfter().toInstant();
+    }
+
+    /**
+     * Get a parsed certificate, parsing the PEM unless it was parsed recently.
+     *
+     * @param certificatePem Certificate PEM
+     * @return parsed certificate
+     * @throws InvalidCertificateException if certificate PEM is invalid
+     */
+    public static ParsedCertificate of(String certificatePem) throws InvalidCertificateException {
+        if (certificatePem == null) {
+            throw new InvalidCertificateException("Certificate PEM is missing");
+        }
+        ParsedCertificate cached = CACHE.get(certificatePem);
+        if (cached != null) {
+            return cached;
+        }
+        ParsedCertificate parsed = parse(certificatePem);
+        // Concurrent parses of the same PEM are equivalent, so the first one cached wins
+        cached = CACHE.putIfAbsent(certificatePem, parsed);
+        if (cached != null) {
+            return cached;
+        }
+        evictOverCapacity();
+        return parsed;
+    }
+
+    /**
+     * Get the result of validating the certificate against the local CA, if it was validated against this version of
+     * the CA certificate chain.
+     *
+     * @param caChainVersion version of the CA certificate chain
+     * @return true if the certificate chains to the CA, false if it does not, or null if it was not validated
+     *         against this version
+     */
+    @SuppressWarnings("PMD.AvoidUsingNullBoolean")
+    public Boolean getCaValidation(long caChainVersion) {
+        CaValidation validation = caValidation;
+        if (validation == null || validation.caChainVersion != caChainVersion) {
+            return null;
+        }
+        return validation.chainsToCa;
+    }
+
+    /**
+     * Remember the result of validating the certificate against the local CA.
+     *
+     * @param caChainVersion version of the CA certificate chain
+     * @param chainsToCa     whether the certificate chains to the CA
+     */
+    public void setCaValidation(long caChainVersion, boolean chainsToCa) {
+        caValidation = new CaValidation(caChainVersion, chainsToCa);
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    static int cacheSize() {
+        return CACHE.size();
+    }
+
+    private static ParsedCertificate parse(String certificatePem) throws InvalidCertificateException {
+        try (InputStream is = new ByteArrayInputStream(certificatePem.getBytes(StandardCharsets.UTF_8))) {
+            CertificateFactory cf = CertificateFactory.getInstance("X.509");
+            X509Certificate certificate = (X509Certificate) cf.generateCertificate(is);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String certificateId = new String(Hex.encode(digest.digest(certificate.getEncoded())),
+                    StandardCharsets.UTF_8);
+            return new ParsedCertificate(certificate, certificateId);
+        } catch (CertificateException | NoSuchAlgorithmException | IOException e) {
+            throw new InvalidCertificateException("Unable to parse certificate PEM", e);
+        }
+    }
+
+    private static void evictOverCapacity() {
+        Iterator<String> iterator = CACHE.keySet().iterator();
+        while (CACHE.size() > CACHE_CAPACITY && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class CaValidation {
+        private final long caChainVersion;
+        private final boolean chainsToCa;
+
+        CaValidation(long caChainVersion, boolean chainsToCa) {
+            this.caChainVersion = caChainVersion;
+            this.chainsToCa = chainsToCa;
+        }
+    }
+}
@@ -8,6 +8,7 @@ package com.aws.greengrass.clientdevices.auth.iot;
 import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.Duration;
@@ -22,6 +23,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
 
 /**
  * This is a versioned representation of an IoT Thing. It is **NOT** updated when the local Thing Registry is updated,
@@ -34,10 +36,14 @@ public final class Thing implements AttributeProvider, Cloneable {
     private static final String thingNamePattern = "[a-zA-Z0-9\\-_:]+";
     private static final AtomicInteger metadataTrustDurationMinutes =
             new AtomicInteger(DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES);
+    private static final AtomicInteger metadataRefreshSeconds =
+            new AtomicInteger(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS);
 
     private final String thingName;
     // map of certificate ID to the time this certificate was known to be attached to the Thing
     private final Map<String, Instant> attachedCertificateIds;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DeviceAttribute> deviceAttributes;
     private boolean modified = false;
 
     /**
@@ -129,6 +135,7 @@ public final class Thing implements AttributeProvider, Cloneable {
 
     private Thing(String thingName, Map<String, Instant> certificateIds) {
         this.thingName = thingName;
+        this.deviceAttributes = Collections.singletonMap("ThingName", new WildcardSuffixAttribute(thingName));
         if (certificateIds == null) {
             this.attachedCertificateIds = new ConcurrentHashMap<>();
         } else {
@@ -165,7 +172,7 @@ public final class Thing implements AttributeProvider, Cloneable {
 
     @Override
     public Map<String, DeviceAttribute> getDeviceAttributes() {
-        return Collections.singletonMap("ThingName", new WildcardSuffixAttribute(thingName));
+        return deviceAttributes;
     }
 
     /**
@@ -177,6 +184,28 @@ public final class Thing implements AttributeProvider, Cloneable {
         metadataTrustDurationMinutes.set(newTrustDuration);
     }
 
+    /**
+     * Updates the age after which a trusted certificate attachment is refreshed in the background.
+     *
+     * @param newRefreshSeconds desired refresh threshold in seconds, or zero to verify attachments before use instead
+     */
+    public static void updateMetadataRefreshSeconds(int newRefreshSeconds) {
+        metadataRefreshSeconds.set(newRefreshSeconds);
+    }
+
+    /**
+     * Check whether trusted certificate attachments are used as is and refreshed in the background.
+     *
+     * @return true if a refresh threshold is configured
+     */
+    public static boolean isMetadataRefreshedInBackground() {
+        return metadataRefreshSeconds.get() > 0;
+    }
+
+    public boolean isCertAttachmentStale(Instant lastVerified) {
+        return !lastVerified.plus(Duration.ofSeconds(metadataRefreshSeconds.get())).isAfter(Instant.now());
+    }
+
     public boolean isCertAttachmentTrusted(Instant lastVerified) {
         return getAttachmentExpiration(lastVerified).isAfter(Instant.now());
     }
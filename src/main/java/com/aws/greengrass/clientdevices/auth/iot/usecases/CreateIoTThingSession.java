@@ -21,6 +21,8 @@ import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.inject.Inject;
 
 public class CreateIoTThingSession implements UseCases.UseCase<Session, CreateSessionDTO> {
@@ -53,37 +55,85 @@ public class CreateIoTThingSession implements UseCases.UseCase<Session, CreateSe
      */
     @Override
     public Session apply(CreateSessionDTO dto) throws AuthenticationException {
-        String certificatePem = dto.getCertificatePem();
-        String thingName = dto.getThingName();
-        Optional<Certificate> certificate;
-
         try {
-            certificate = certificateRegistry.getCertificateFromPem(certificatePem);
-
-            if (!certificate.isPresent() || !certificate.get().isActive()) {
-                throw new AuthenticationException("Certificate isn't active");
-            }
-
-            Thing thing = thingRegistry.getOrCreateThing(thingName);
+            Certificate certificate = getActiveCertificate(dto.getCertificatePem());
+            Thing thing = thingRegistry.getOrCreateThing(dto.getThingName());
 
             VerifyThingAttachedToCertificate verify = useCases.get(VerifyThingAttachedToCertificate.class);
             VerifyThingAttachedToCertificate.Result result = verify.apply(
-                    new VerifyThingAttachedToCertificateDTO(thingName, certificate.get().getCertificateId()));
-
-            logger.atDebug()
-                    .kv("thingHasValidAttachment", result.isThingHasValidAttachmentToCertificate())
-                    .kv("lastAttachedOn", result.getLastAttached())
-                    .kv("attachmentExpiration", result.getAttachmentExpiration())
-                    .kv("source", result.getVerificationSource())
-                    .log("Attachment verification result");
-
-            if (result.isThingHasValidAttachmentToCertificate()) {
-                return new SessionImpl(certificate.get(), thing);
-            }
+                    new VerifyThingAttachedToCertificateDTO(dto.getThingName(), certificate.getCertificateId()));
+            return createSession(certificate, thing, result);
         } catch (CloudServiceInteractionException | InvalidCertificateException e) {
             throw new AuthenticationException("Failed to verify certificate with cloud", e);
         }
+    }
+
+    /**
+     * Creates an IoT session like {@link #apply(CreateSessionDTO)}, but without blocking the calling thread on the
+     * cloud. The local checks run on the calling thread, and only the attachment verification with the cloud runs
+     * on the cloud call thread pool.
+     *
+     * @param dto - VerifyCertificateAttachedToThingDTO
+     * @return future which completes with the session, or exceptionally with an {@link AuthenticationException} if
+     *     the session can not be created
+     */
+    public CompletableFuture<Session> applyAsync(CreateSessionDTO dto) {
+        Certificate certificate;
+        try {
+            certificate = getActiveCertificate(dto.getCertificatePem());
+        } catch (InvalidCertificateException e) {
+            return failedFuture(new AuthenticationException("Failed to verify certificate with cloud", e));
+        } catch (AuthenticationException e) {
+            return failedFuture(e);
+        }
+        Thing thing = thingRegistry.getOrCreateThing(dto.getThingName());
+
+        VerifyThingAttachedToCertificate verify = useCases.get(VerifyThingAttachedToCertificate.class);
+        return verify.applyAsync(
+                        new VerifyThingAttachedToCertificateDTO(dto.getThingName(), certificate.getCertificateId()))
+                .handle((result, e) -> {
+                    try {
+                        if (e == null) {
+                            return createSession(certificate, thing, result);
+                        }
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        if (cause instanceof CloudServiceInteractionException) {
+                            throw new AuthenticationException("Failed to verify certificate with cloud", cause);
+                        }
+                        throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+                    } catch (AuthenticationException authenticationException) {
+                        throw new CompletionException(authenticationException);
+                    }
+                });
+    }
 
+    private Certificate getActiveCertificate(String certificatePem)
+            throws AuthenticationException, InvalidCertificateException {
+        Optional<Certificate> certificate = certificateRegistry.getCertificateFromPem(certificatePem);
+        if (!certificate.isPresent() || !certificate.get().isActive()) {
+            throw new AuthenticationException("Certificate isn't active");
+        }
+        return certificate.get();
+    }
+
+    private Session createSession(Certificate certificate, Thing thing, VerifyThingAttachedToCertificate.Result result)
+            throws AuthenticationException {
+        logger.atDebug()
+                .kv("thingHasValidAttachment", result.isThingHasValidAttachmentToCertificate())
+                .kv("lastAttachedOn", result.getLastAttached())
+                .kv("attachmentExpiration", result.getAttachmentExpiration())
+                .kv("source", result.getVerificationSource())
+                .log("Attachment verification result");
+
+        if (result.isThingHasValidAttachmentToCertificate()) {
+            return new SessionImpl(certificate, thing);
+        }
         throw new AuthenticationException("Failed to verify certificate attached to thing");
     }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
 }
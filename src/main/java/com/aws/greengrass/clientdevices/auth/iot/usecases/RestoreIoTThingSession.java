@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot.usecases;
+
+import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.dto.RestoreSessionDTO;
+import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
+
+import java.util.Optional;
+import javax.inject.Inject;
+
+/**
+ * Restores the session of a thing and certificate which were verified before. Unlike {@link CreateIoTThingSession},
+ * no calls are made to the cloud: the session is only restored while the locally stored certificate status and
+ * certificate attachment are still trusted.
+ */
+public class RestoreIoTThingSession implements UseCases.UseCase<Session, RestoreSessionDTO> {
+    private final ThingRegistry thingRegistry;
+    private final CertificateRegistry certificateRegistry;
+
+    /**
+     * Restore a session from local state.
+     *
+     * @param thingRegistry       Thing Registry
+     * @param certificateRegistry Certificate Registry
+     */
+    @Inject
+    public RestoreIoTThingSession(ThingRegistry thingRegistry, CertificateRegistry certificateRegistry) {
+        this.thingRegistry = thingRegistry;
+        this.certificateRegistry = certificateRegistry;
+    }
+
+    @Override
+    public Session apply(RestoreSessionDTO dto) throws AuthenticationException {
+        Optional<Certificate> certificate = certificateRegistry.getCertificateById(dto.getCertificateId());
+        if (!certificate.isPresent() || !certificate.get().isActive()) {
+            throw new AuthenticationException("Certificate isn't active");
+        }
+
+        Thing thing = thingRegistry.getThing(dto.getThingName());
+        if (thing == null || !thing.isCertificateAttached(dto.getCertificateId())) {
+            throw new AuthenticationException("Certificate attachment to thing is no longer trusted");
+        }
+
+        return new SessionImpl(certificate.get(), thing);
+    }
+}
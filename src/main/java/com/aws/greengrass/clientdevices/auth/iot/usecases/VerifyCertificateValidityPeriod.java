@@ -6,20 +6,13 @@
 package com.aws.greengrass.clientdevices.auth.iot.usecases;
 
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
+import com.aws.greengrass.clientdevices.auth.iot.ParsedCertificate;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.security.cert.CertificateException;
-import java.security.cert.CertificateExpiredException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.CertificateNotYetValidException;
-import java.security.cert.X509Certificate;
 import java.time.Clock;
-import java.util.Date;
+import java.time.Instant;
 import javax.inject.Inject;
 
 public class VerifyCertificateValidityPeriod implements UseCases.UseCase<Boolean, String> {
@@ -41,30 +34,23 @@ public class VerifyCertificateValidityPeriod implements UseCases.UseCase<Boolean
 
     @Override
     public Boolean apply(String certificatePem) {
-        CertificateFactory cf = null;
-
+        ParsedCertificate cert;
         try {
-            cf = CertificateFactory.getInstance("X.509");
-        } catch (CertificateException e) {
-            logger.atError().cause(e).log("Unable to create X.509 certificate factory");
+            cert = ParsedCertificate.of(certificatePem);
+        } catch (InvalidCertificateException e) {
+            logger.atWarn().cause(e).log("Unable to parse client certificate");
             return false;
         }
 
-        try (InputStream is = new ByteArrayInputStream(certificatePem.getBytes(StandardCharsets.UTF_8))) {
-            X509Certificate cert = (X509Certificate) cf.generateCertificate(is);
-            Date now = Date.from(clock.instant());
-            try {
-                cert.checkValidity(now);
-                return true;
-            } catch (CertificateExpiredException e) {
-                logger.atWarn().kv("notAfter", cert.getNotAfter()).log("Rejecting expired certificate");
-            } catch (CertificateNotYetValidException e) {
-                logger.atWarn().kv("notBefore", cert.getNotBefore()).log("Rejecting not yet valid certificate");
-            }
-        } catch (IOException | CertificateException e) {
-            logger.atWarn().cause(e).log("Unable to parse client certificate");
+        Instant now = clock.instant();
+        if (now.isAfter(cert.getNotAfter())) {
+            logger.atWarn().kv("notAfter", cert.getNotAfter()).log("Rejecting expired certificate");
+            return false;
         }
-
-        return false;
+        if (now.isBefore(cert.getNotBefore())) {
+            logger.atWarn().kv("notBefore", cert.getNotBefore()).log("Rejecting not yet valid certificate");
+            return false;
+        }
+        return true;
     }
 }
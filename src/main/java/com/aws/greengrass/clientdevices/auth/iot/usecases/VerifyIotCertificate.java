@@ -6,15 +6,22 @@
 package com.aws.greengrass.clientdevices.auth.iot.usecases;
 
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
 import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
 import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
+import com.aws.greengrass.clientdevices.auth.util.SingleFlight;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import javax.inject.Inject;
 
 public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
@@ -23,10 +30,19 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
     private static final String VERIFICATION_SOURCE = "verificationSource";
     private static final String LOCAL_VERIFICATION_SOURCE = "local";
     private static final String CLOUD_VERIFICATION_SOURCE = "cloud";
+    // How long a verification is kept for requests which were queued for a cloud call thread while it was made
+    static final Duration VERIFICATION_RETENTION = Duration.ofMinutes(1);
 
     private final IotAuthClient iotAuthClient;
     private final CertificateRegistry certificateRegistry;
     private final NetworkStateProvider networkState;
+    private final CloudCallThreadPool cloudCallThreadPool;
+    // IDs of certificates being refreshed in the background
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // Cloud verifications by certificate ID. Devices sharing a certificate, or reconnecting all at once, make one
+    // call per certificate rather than one each. The result is shared, so each caller gets its own copy
+    private final SingleFlight<String, Optional<Certificate>> cloudVerifications =
+            new SingleFlight<>(VERIFICATION_RETENTION);
 
 
     /**
@@ -35,13 +51,15 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
      * @param iotAuthClient       IoT auth client
      * @param certificateRegistry Certificate Registry
      * @param networkState        Network state
+     * @param cloudCallThreadPool Thread pool for background refreshes
      */
     @Inject
     public VerifyIotCertificate(IotAuthClient iotAuthClient, CertificateRegistry certificateRegistry,
-                                NetworkStateProvider networkState) {
+                                NetworkStateProvider networkState, CloudCallThreadPool cloudCallThreadPool) {
         this.iotAuthClient = iotAuthClient;
         this.certificateRegistry = certificateRegistry;
         this.networkState = networkState;
+        this.cloudCallThreadPool = cloudCallThreadPool;
     }
 
     @Override
@@ -54,27 +72,33 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
         // don't think we're online, but we don't 100% trust our network state heuristic,
         // so this guarantees that we at least try once.
         // Else, rely on whatever is in the local registry.
+        // When background refresh is configured, a trusted active certificate is used as is, and refreshed from the
+        // cloud in the background once its status is older than the refresh threshold.
         Optional<Certificate> cloudCert = Optional.empty();
         Certificate cert;
 
         try {
             cert = certificateRegistry.getOrCreateCertificate(certificatePem);
+            if (cert.isActive() && Certificate.isMetadataRefreshedInBackground()) {
+                if (cert.isStatusStale() && isNetworkUp()) {
+                    refreshInBackground(certificatePem, cert.getCertificateId());
+                }
+                logger.atDebug().kv("certificateId", cert.getCertificateId())
+                        .kv(VERIFICATION_SOURCE, LOCAL_VERIFICATION_SOURCE).log("Certificate is active");
+                return true;
+            }
             if (!cert.isActive() || isNetworkUp()) {
-                cloudCert = iotAuthClient.getIotCertificate(certificatePem);
+                cloudCert = verifyFromCloud(certificatePem, cert.getCertificateId());
             }
         } catch (InvalidCertificateException e) {
-            logger.atWarn().kv("certificatePem", certificatePem).log("Unable to process certificate", e);
+            logger.atWarn().cause(e).kv("certificatePem", certificatePem).log("Unable to process certificate");
             return false;
         }
 
         // Information from the cloud is authoritative - update local registry if it is available
         if (cloudCert.isPresent()) {
             cert = cloudCert.get();
-            if (cert.isActive()) {
-                certificateRegistry.updateCertificate(cloudCert.get());
-            } else {
-                certificateRegistry.deleteCertificate(cloudCert.get());
-            }
+            updateRegistry(cert);
         }
 
         String verificationSource = cloudCert.isPresent() ? CLOUD_VERIFICATION_SOURCE : LOCAL_VERIFICATION_SOURCE;
@@ -84,6 +108,47 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
         return cert.isActive();
     }
 
+    private Optional<Certificate> verifyFromCloud(String certificatePem, String certificateId) {
+        return cloudVerifications.execute(certificateId, CloudCallThreadPool.requestTime(), () -> {
+            try {
+                return iotAuthClient.getIotCertificate(certificatePem);
+            } catch (InvalidCertificateException e) {
+                // Not expected, the certificate was parsed to get its ID
+                logger.atWarn().cause(e).kv("certificateId", certificateId).log("Unable to verify certificate");
+                return Optional.empty();
+            }
+        }).map(Certificate::copy);
+    }
+
+    private void updateRegistry(Certificate cloudCert) {
+        if (cloudCert.isActive()) {
+            certificateRegistry.updateCertificate(cloudCert);
+        } else {
+            certificateRegistry.deleteCertificate(cloudCert);
+        }
+    }
+
+    private void refreshInBackground(String certificatePem, String certificateId) {
+        if (!refreshing.add(certificateId)) {
+            return;
+        }
+        try {
+            cloudCallThreadPool.executeInBackground(() -> {
+                try {
+                    verifyFromCloud(certificatePem, certificateId).ifPresent(this::updateRegistry);
+                } catch (CloudServiceInteractionException e) {
+                    logger.atDebug().cause(e).kv("certificateId", certificateId)
+                            .log("Unable to refresh certificate");
+                } finally {
+                    refreshing.remove(certificateId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(certificateId);
+            logger.atDebug().kv("certificateId", certificateId).log("Unable to schedule certificate refresh");
+        }
+    }
+
     private boolean isNetworkUp() {
         return networkState.getConnectionState() == NetworkStateProvider.ConnectionState.NETWORK_UP;
     }
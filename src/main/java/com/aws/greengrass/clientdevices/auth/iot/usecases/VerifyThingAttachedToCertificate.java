@@ -7,11 +7,13 @@ package com.aws.greengrass.clientdevices.auth.iot.usecases;
 
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
 import com.aws.greengrass.clientdevices.auth.iot.Thing;
 import com.aws.greengrass.clientdevices.auth.iot.dto.VerifyThingAttachedToCertificateDTO;
 import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
+import com.aws.greengrass.clientdevices.auth.util.SingleFlight;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 import lombok.Builder;
@@ -20,6 +22,11 @@ import lombok.Value;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import javax.inject.Inject;
 
 
@@ -28,27 +35,36 @@ public class VerifyThingAttachedToCertificate
     private final IotAuthClient iotAuthClient;
     private final NetworkStateProvider networkState;
     private final ThingRegistry thingRegistry;
+    private final CloudCallThreadPool cloudCallThreadPool;
+    // Attachments being refreshed in the background
+    private final Set<VerifyThingAttachedToCertificateDTO> refreshing = ConcurrentHashMap.newKeySet();
+    // Cloud verifications by thing name and certificate ID, shared by concurrent and queued requests
+    private final SingleFlight<VerifyThingAttachedToCertificateDTO, Boolean> cloudVerifications =
+            new SingleFlight<>(VerifyIotCertificate.VERIFICATION_RETENTION);
     private static final Logger logger = LogManager.getLogger(VerifyThingAttachedToCertificate.class);
 
 
     /**
      * Verify a certificate with IoT Core.
      *
-     * @param iotAuthClient IoT auth client
-     * @param thingRegistry Thing Registry
-     * @param networkState  Network state
+     * @param iotAuthClient       IoT auth client
+     * @param thingRegistry       Thing Registry
+     * @param networkState        Network state
+     * @param cloudCallThreadPool Thread pool for asynchronous verifications and background refreshes
      */
     @Inject
     public VerifyThingAttachedToCertificate(IotAuthClient iotAuthClient, ThingRegistry thingRegistry,
-                                            NetworkStateProvider networkState) {
+                                            NetworkStateProvider networkState,
+                                            CloudCallThreadPool cloudCallThreadPool) {
         this.iotAuthClient = iotAuthClient;
         this.thingRegistry = thingRegistry;
         this.networkState = networkState;
+        this.cloudCallThreadPool = cloudCallThreadPool;
     }
 
     private Result verifyLocally(Thing thing, String certificateId) {
         logger.atDebug().kv("thing", thing.getThingName()).kv("certificate", certificateId)
-                .log("Network down, verifying thing attached to certificate locally");
+                .log("Verifying thing attached to certificate locally");
 
         Optional<Instant> lastAttachedOn = thing.certificateLastAttachedOn(certificateId);
 
@@ -65,7 +81,26 @@ public class VerifyThingAttachedToCertificate
         logger.atDebug().kv("thing", thing.getThingName()).kv("certificate", certificateId)
                 .log("Network up, verifying thing attached to certificate from cloud");
 
-        if (iotAuthClient.isThingAttachedToCertificate(thing, certificateId)) {
+        VerifyThingAttachedToCertificateDTO key =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), certificateId);
+        boolean attached = cloudVerifications.execute(key, CloudCallThreadPool.requestTime(),
+                () -> iotAuthClient.isThingAttachedToCertificate(thing, certificateId));
+        return cloudResult(thing, certificateId, attached);
+    }
+
+    private CompletableFuture<Result> verifyFromCloudAsync(Thing thing, String certificateId) {
+        logger.atDebug().kv("thing", thing.getThingName()).kv("certificate", certificateId)
+                .log("Network up, verifying thing attached to certificate from cloud asynchronously");
+
+        VerifyThingAttachedToCertificateDTO key =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), certificateId);
+        return cloudVerifications.executeAsync(key, System.nanoTime(),
+                        () -> iotAuthClient.isThingAttachedToCertificate(thing, certificateId), cloudCallThreadPool)
+                .thenApply(attached -> cloudResult(thing, certificateId, attached));
+    }
+
+    private Result cloudResult(Thing thing, String certificateId, boolean attached) {
+        if (attached) {
             thing.attachCertificate(certificateId);
             thingRegistry.updateThing(thing);
             Optional<Instant> lastAttached = thing.certificateLastAttachedOn(certificateId);
@@ -85,6 +120,31 @@ public class VerifyThingAttachedToCertificate
                 .build();
     }
 
+    private void refreshInBackground(VerifyThingAttachedToCertificateDTO dto) {
+        if (!refreshing.add(dto)) {
+            return;
+        }
+        try {
+            cloudCallThreadPool.executeInBackground(() -> {
+                try {
+                    Thing thing = thingRegistry.getThing(dto.getThingName());
+                    if (thing != null) {
+                        verifyFromCloud(thing, dto.getCertificateId());
+                    }
+                } catch (CloudServiceInteractionException e) {
+                    logger.atDebug().cause(e).kv("thing", dto.getThingName()).kv("certificate", dto.getCertificateId())
+                            .log("Unable to refresh thing attached to certificate");
+                } finally {
+                    refreshing.remove(dto);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(dto);
+            logger.atDebug().kv("thing", dto.getThingName()).kv("certificate", dto.getCertificateId())
+                    .log("Unable to schedule refresh of thing attached to certificate");
+        }
+    }
+
     private boolean isNetworkUp() {
         return networkState.getConnectionState() == NetworkStateProvider.ConnectionState.NETWORK_UP;
     }
@@ -92,7 +152,8 @@ public class VerifyThingAttachedToCertificate
     /**
      * Verifies if a certificate is attached to a thing. When the device is online it will try to verify it from the
      * cloud and update the local values in case the device goes offline. When offline, the assertion will be based on
-     * the locally stored values.
+     * the locally stored values. When background refresh is configured, a trusted attachment is used as is, and
+     * refreshed from the cloud in the background once it is older than the refresh threshold.
      *
      * @param dto - VerifyCertificateAttachedToThingDTO
      * @return  verification result
@@ -100,6 +161,45 @@ public class VerifyThingAttachedToCertificate
     @Override
     public Result apply(VerifyThingAttachedToCertificateDTO dto) {
         Thing thing = thingRegistry.getThing(dto.getThingName());
+        Result localResult = verifyWithoutCloud(thing, dto);
+        if (localResult != null) {
+            return localResult;
+        }
+
+        try {
+            return verifyFromCloud(thing, dto.getCertificateId());
+        } catch (CloudServiceInteractionException e) {
+            return verifyLocally(thing, dto.getCertificateId());
+        }
+    }
+
+    /**
+     * Verifies if a certificate is attached to a thing like {@link #apply(VerifyThingAttachedToCertificateDTO)}, but
+     * without blocking the calling thread on the cloud. The call to the cloud runs on the cloud call thread pool, and
+     * requests for the same attachment share it without holding a thread while they wait.
+     *
+     * @param dto - VerifyCertificateAttachedToThingDTO
+     * @return future which completes with the verification result, or exceptionally with a
+     *     {@link java.util.concurrent.RejectedExecutionException} if the cloud call thread pool is full
+     */
+    public CompletableFuture<Result> applyAsync(VerifyThingAttachedToCertificateDTO dto) {
+        Thing thing = thingRegistry.getThing(dto.getThingName());
+        Result localResult = verifyWithoutCloud(thing, dto);
+        if (localResult != null) {
+            return CompletableFuture.completedFuture(localResult);
+        }
+
+        return verifyFromCloudAsync(thing, dto.getCertificateId()).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            if (cause instanceof CloudServiceInteractionException) {
+                return verifyLocally(thing, dto.getCertificateId());
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+    }
+
+    // Returns the result if it does not need a call to the cloud, or null otherwise
+    private Result verifyWithoutCloud(Thing thing, VerifyThingAttachedToCertificateDTO dto) {
         if (Objects.isNull(thing)) {
             return Result.builder()
                     .thingHasValidAttachmentToCertificate(false)
@@ -107,15 +207,20 @@ public class VerifyThingAttachedToCertificate
                     .build();
         }
 
-        try {
-            if (isNetworkUp()) {
-                return verifyFromCloud(thing, dto.getCertificateId());
+        if (Thing.isMetadataRefreshedInBackground()) {
+            Optional<Instant> lastAttachedOn = thing.certificateLastAttachedOn(dto.getCertificateId());
+            if (lastAttachedOn.isPresent() && thing.isCertAttachmentTrusted(lastAttachedOn.get())) {
+                if (thing.isCertAttachmentStale(lastAttachedOn.get()) && isNetworkUp()) {
+                    refreshInBackground(dto);
+                }
+                return verifyLocally(thing, dto.getCertificateId());
             }
+        }
 
-            return verifyLocally(thing, dto.getCertificateId());
-        } catch (CloudServiceInteractionException e) {
+        if (!isNetworkUp()) {
             return verifyLocally(thing, dto.getCertificateId());
         }
+        return null;
     }
 
     @Value
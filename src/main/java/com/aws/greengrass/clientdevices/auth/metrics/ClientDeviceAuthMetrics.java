@@ -27,9 +27,18 @@ public class ClientDeviceAuthMetrics {
     private final AtomicLong verifyClientDeviceIdentityFailure = new AtomicLong();
     private final AtomicLong authorizeClientDeviceActionSuccess = new AtomicLong();
     private final AtomicLong authorizeClientDeviceActionFailure = new AtomicLong();
+    private final AtomicLong authorizationCacheHit = new AtomicLong();
+    private final AtomicLong authorizationCacheMiss = new AtomicLong();
     private final AtomicLong getClientDeviceAuthTokenSuccess = new AtomicLong();
     private final AtomicLong getClientDeviceAuthTokenFailure = new AtomicLong();
     private final AtomicLong serviceError = new AtomicLong();
+    private final AtomicLong sessionIdleTimeout = new AtomicLong();
+    private final AtomicLong sessionLifetimeExceeded = new AtomicLong();
+    private final AtomicLong cloudClientAcquired = new AtomicLong();
+    private final AtomicLong cloudClientCreated = new AtomicLong();
+    // Gauges, which keep their value when collected
+    private final AtomicLong sessionCount = new AtomicLong();
+    private final AtomicLong sessionBytes = new AtomicLong();
     private final MetricFactory mf = new MetricFactory(NAMESPACE);
     private final Clock clock;
     private static final Logger logger = LogManager.getLogger(ClientDeviceAuthMetrics.class);
@@ -46,12 +55,28 @@ public class ClientDeviceAuthMetrics {
             "AuthorizeClientDeviceActions.Success";
     public static final String METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE =
             "AuthorizeClientDeviceActions.Failure";
+    public static final String METRIC_AUTHORIZATION_CACHE_HIT =
+            "AuthorizeClientDeviceActions.CacheHit";
+    public static final String METRIC_AUTHORIZATION_CACHE_MISS =
+            "AuthorizeClientDeviceActions.CacheMiss";
     public static final String METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_SUCCESS =
             "GetClientDeviceAuthToken.Success";
     public static final String METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_FAILURE =
             "GetClientDeviceAuthToken.Failure";
     public static final String METRIC_SERVICE_ERROR =
             "ServiceError";
+    public static final String METRIC_SESSION_IDLE_TIMEOUT =
+            "Session.IdleTimeout";
+    public static final String METRIC_SESSION_LIFETIME_EXCEEDED =
+            "Session.LifetimeExceeded";
+    public static final String METRIC_CLOUD_CLIENT_ACQUIRED =
+            "CloudClient.Acquired";
+    public static final String METRIC_CLOUD_CLIENT_CREATED =
+            "CloudClient.Created";
+    public static final String METRIC_SESSION_COUNT =
+            "Session.Count";
+    public static final String METRIC_SESSION_BYTES =
+            "Session.Bytes";
 
     /**
      * Constructor for Client Device Auth Metrics.
@@ -143,6 +168,26 @@ public class ClientDeviceAuthMetrics {
                 .build();
         metricsList.add(metric);
 
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_AUTHORIZATION_CACHE_HIT)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(authorizationCacheHit.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_AUTHORIZATION_CACHE_MISS)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(authorizationCacheMiss.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
         metric = Metric.builder()
                 .namespace(NAMESPACE)
                 .name(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_SUCCESS)
@@ -173,6 +218,66 @@ public class ClientDeviceAuthMetrics {
                 .build();
         metricsList.add(metric);
 
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_SESSION_IDLE_TIMEOUT)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(sessionIdleTimeout.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_SESSION_LIFETIME_EXCEEDED)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(sessionLifetimeExceeded.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_CLOUD_CLIENT_ACQUIRED)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(cloudClientAcquired.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_CLOUD_CLIENT_CREATED)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Sum)
+                .value(cloudClientCreated.getAndSet(0L))
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_SESSION_COUNT)
+                .unit(TelemetryUnit.Count)
+                .aggregation(TelemetryAggregation.Average)
+                .value(sessionCount.get())
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
+        metric = Metric.builder()
+                .namespace(NAMESPACE)
+                .name(METRIC_SESSION_BYTES)
+                .unit(TelemetryUnit.Bytes)
+                .aggregation(TelemetryAggregation.Average)
+                .value(sessionBytes.get())
+                .timestamp(timestamp)
+                .build();
+        metricsList.add(metric);
+
         metricsList = metricsList.stream()
                 .filter(m -> !m.getValue().equals(0L))
                 .collect(Collectors.toList());
@@ -215,6 +320,15 @@ public class ClientDeviceAuthMetrics {
         authorizeClientDeviceActionSuccess.incrementAndGet();
     }
 
+    /**
+     * Adds to the AuthorizeClientDeviceAction.Success metric.
+     *
+     * @param count number of allowed actions
+     */
+    public void authorizeActionSuccess(long count) {
+        authorizeClientDeviceActionSuccess.addAndGet(count);
+    }
+
     /**
      * Increments the AuthorizeClientDeviceAction.Failure metric.
      */
@@ -222,6 +336,29 @@ public class ClientDeviceAuthMetrics {
         authorizeClientDeviceActionFailure.incrementAndGet();
     }
 
+    /**
+     * Adds to the AuthorizeClientDeviceAction.Failure metric.
+     *
+     * @param count number of denied actions
+     */
+    public void authorizeActionFailure(long count) {
+        authorizeClientDeviceActionFailure.addAndGet(count);
+    }
+
+    /**
+     * Increments the AuthorizeClientDeviceActions.CacheHit metric.
+     */
+    public void authorizationCacheHit() {
+        authorizationCacheHit.incrementAndGet();
+    }
+
+    /**
+     * Increments the AuthorizeClientDeviceActions.CacheMiss metric.
+     */
+    public void authorizationCacheMiss() {
+        authorizationCacheMiss.incrementAndGet();
+    }
+
     /**
      * Increments the GetClientDeviceAuthToken.Success metric
      */
@@ -242,4 +379,44 @@ public class ClientDeviceAuthMetrics {
     public void incrementServiceError() {
         serviceError.incrementAndGet();
     }
+
+    /**
+     * Increments the Session.IdleTimeout metric.
+     */
+    public void sessionIdleTimeout() {
+        sessionIdleTimeout.incrementAndGet();
+    }
+
+    /**
+     * Increments the Session.LifetimeExceeded metric.
+     */
+    public void sessionLifetimeExceeded() {
+        sessionLifetimeExceeded.incrementAndGet();
+    }
+
+    /**
+     * Increments the CloudClient.Acquired metric, which counts how often the cloud client was acquired for a
+     * request, whether it was created for it or not.
+     */
+    public void cloudClientAcquired() {
+        cloudClientAcquired.incrementAndGet();
+    }
+
+    /**
+     * Increments the CloudClient.Created metric.
+     */
+    public void cloudClientCreated() {
+        cloudClientCreated.incrementAndGet();
+    }
+
+    /**
+     * Sets the Session.Count and Session.Bytes metrics.
+     *
+     * @param count number of sessions
+     * @param bytes estimated memory retained by the sessions
+     */
+    public void sessionStoreSize(long count, long bytes) {
+        sessionCount.set(count);
+        sessionBytes.set(bytes);
+    }
 }
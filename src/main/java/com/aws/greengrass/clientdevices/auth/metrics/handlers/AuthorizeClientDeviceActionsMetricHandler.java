@@ -37,10 +37,11 @@ public class AuthorizeClientDeviceActionsMetricHandler implements Consumer<Autho
 
     @Override
     public void accept(AuthorizeClientDeviceActionEvent event) {
-        if (event.getStatus() == AuthorizeClientDeviceActionEvent.AuthorizationStatus.SUCCESS) {
-            metrics.authorizeActionSuccess();
-        } else if (event.getStatus() == AuthorizeClientDeviceActionEvent.AuthorizationStatus.FAIL) {
-            metrics.authorizeActionFailure();
+        if (event.getSuccessCount() > 0) {
+            metrics.authorizeActionSuccess(event.getSuccessCount());
+        }
+        if (event.getFailureCount() > 0) {
+            metrics.authorizeActionFailure(event.getFailureCount());
         }
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class SessionExpiredEventHandler implements Consumer<SessionExpiredEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Constructor for the Session Expired Metric Handler.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      Client Device Auth Metrics
+     */
+    @Inject
+    public SessionExpiredEventHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric updates.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, SessionExpiredEvent.class);
+    }
+
+    @Override
+    public void accept(SessionExpiredEvent event) {
+        if (event.getExpiryReason() == SessionExpiredEvent.ExpiryReason.IDLE_TIMEOUT) {
+            metrics.sessionIdleTimeout();
+        } else if (event.getExpiryReason() == SessionExpiredEvent.ExpiryReason.LIFETIME_EXCEEDED) {
+            metrics.sessionLifetimeExceeded();
+        }
+    }
+}
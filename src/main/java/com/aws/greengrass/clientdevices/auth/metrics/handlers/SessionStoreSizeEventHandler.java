@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionStoreSizeEvent;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class SessionStoreSizeEventHandler implements Consumer<SessionStoreSizeEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Constructor for the Session Store Size Metric Handler.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      Client Device Auth Metrics
+     */
+    @Inject
+    public SessionStoreSizeEventHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric updates.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, SessionStoreSizeEvent.class);
+    }
+
+    @Override
+    public void accept(SessionStoreSizeEvent event) {
+        metrics.sessionStoreSize(event.getSessionCount(), event.getSessionBytes());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounded cache of authorization decisions made for a single session, keyed by operation and resource. Every entry
+ * belongs to the group configuration version it was computed under; a lookup with a newer version misses, and the
+ * first write under the newer version drops all older decisions at once. Once the cache is full, the oldest decision
+ * is evicted for each new one.
+ *
+ * <p>Decisions for long resources, such as deep topics, are not cached, so that a session only retains a bounded
+ * amount of memory for its decisions.</p>
+ */
+public class AuthorizationDecisionCache {
+    public static final int DEFAULT_CAPACITY = 128;
+    static final int MAX_RESOURCE_LENGTH = 256;
+    // Map node, eviction queue node and key of a decision, and the header of its resource string
+    static final long DECISION_BYTES = 120;
+
+    private final int capacity;
+    private final AtomicReference<Generation> generationRef = new AtomicReference<>(new Generation(-1L));
+
+    public AuthorizationDecisionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AuthorizationDecisionCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Look up a cached decision.
+     *
+     * @param configurationVersion current group configuration version
+     * @param operation            requested operation
+     * @param resource             requested resource
+     * @return cached decision, or null if there is none for this configuration version
+     */
+    @SuppressWarnings("PMD.AvoidUsingNullBoolean")
+    public Boolean get(long configurationVersion, String operation, String resource) {
+        Generation generation = generationRef.get();
+        if (generation.version != configurationVersion) {
+            return null;
+        }
+        Map<String, Boolean> decisions = generation.decisions.get(operation);
+        if (decisions == null) {
+            return null;
+        }
+        return decisions.get(resource);
+    }
+
+    /**
+     * Cache a decision. Decisions computed under an outdated configuration version, and decisions for resources
+     * longer than {@value #MAX_RESOURCE_LENGTH} characters, are discarded.
+     *
+     * @param configurationVersion group configuration version the decision was computed under
+     * @param operation            requested operation
+     * @param resource             requested resource
+     * @param decision             authorization decision
+     */
+    public void put(long configurationVersion, String operation, String resource, boolean decision) {
+        if (resource.length() > MAX_RESOURCE_LENGTH) {
+            return;
+        }
+        Generation generation = generationRef.get();
+        if (generation.version > configurationVersion) {
+            return;
+        }
+        if (generation.version < configurationVersion) {
+            Generation fresh = new Generation(configurationVersion);
+            if (!generationRef.compareAndSet(generation, fresh)) {
+                // Lost the race to another writer. Dropping this decision is harmless
+                return;
+            }
+            generation = fresh;
+        }
+        if (generation.decisions.computeIfAbsent(operation, k -> new ConcurrentHashMap<>())
+                .put(resource, decision) == null) {
+            generation.order.add(new Key(operation, resource));
+            generation.weight.addAndGet(weigh(resource));
+            if (generation.size.incrementAndGet() > capacity) {
+                generation.evictOldest();
+            }
+        }
+    }
+
+    /**
+     * Drop all cached decisions.
+     */
+    public void clear() {
+        generationRef.set(new Generation(-1L));
+    }
+
+    public int size() {
+        return generationRef.get().size.get();
+    }
+
+    /**
+     * Estimate the memory retained by the cached decisions.
+     *
+     * @return estimated size in bytes
+     */
+    public long weight() {
+        return generationRef.get().weight.get();
+    }
+
+    private static long weigh(String resource) {
+        // Strings hold UTF-16 characters
+        return DECISION_BYTES + 2L * resource.length();
+    }
+
+    private static final class Generation {
+        private final long version;
+        private final Map<String, Map<String, Boolean>> decisions = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong weight = new AtomicLong();
+        // Cached decisions in the order they were cached
+        private final Queue<Key> order = new ConcurrentLinkedQueue<>();
+
+        Generation(long version) {
+            this.version = version;
+        }
+
+        void evictOldest() {
+            Key oldest = order.poll();
+            if (oldest == null) {
+                return;
+            }
+            Map<String, Boolean> operationDecisions = decisions.get(oldest.operation);
+            if (operationDecisions != null && operationDecisions.remove(oldest.resource) != null) {
+                size.decrementAndGet();
+                weight.addAndGet(-weigh(oldest.resource));
+            }
+        }
+    }
+
+    private static final class Key {
+        private final String operation;
+        private final String resource;
+
+        Key(String operation, String resource) {
+            this.operation = operation;
+            this.resource = resource;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.aws.greengrass.clientdevices.auth.iot.dto.CreateSessionDTO;
 import com.aws.greengrass.clientdevices.auth.iot.usecases.CreateIoTThingSession;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 
 public class MqttSessionFactory implements SessionFactory {
@@ -44,6 +45,27 @@ public class MqttSessionFactory implements SessionFactory {
         return createIotThingSession(mqttCredential);
     }
 
+    /**
+     * Create a session asynchronously. Certificates are parsed and looked up on the calling thread, and only the
+     * verification of an IoT thing with the cloud runs on the cloud call thread pool. Concurrent requests for the same
+     * thing and certificate share that call without holding a thread while they wait.
+     *
+     * @param credentialMap map of client credentials
+     * @return future which completes with the session, or exceptionally with an {@link AuthenticationException}, or
+     *     with a {@link java.util.concurrent.RejectedExecutionException} if the cloud call thread pool is full
+     */
+    @Override
+    public CompletableFuture<Session> createSessionAsync(Map<String, String> credentialMap) {
+        MqttCredential mqttCredential = new MqttCredential(credentialMap);
+
+        if (deviceAuthClient.isGreengrassComponent(mqttCredential.certificatePem)) {
+            return CompletableFuture.completedFuture(createGreengrassComponentSession());
+        }
+
+        CreateIoTThingSession useCase = useCases.get(CreateIoTThingSession.class);
+        return useCase.applyAsync(new CreateSessionDTO(mqttCredential.clientId, mqttCredential.certificatePem));
+    }
+
     private Session createIotThingSession(MqttCredential mqttCredential) throws AuthenticationException {
         // NOTE: We should remove  calling this useCase from here, but for now it serves its purpose. We will
         //  refactor this later
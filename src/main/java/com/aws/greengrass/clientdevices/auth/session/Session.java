@@ -5,9 +5,13 @@
 
 package com.aws.greengrass.clientdevices.auth.session;
 
+import com.aws.greengrass.clientdevices.auth.configuration.GroupMembership;
 import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeSlots;
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 
+import java.util.Map;
+
 public interface Session {
 
     /**
@@ -26,4 +30,44 @@ public interface Session {
      * @return Session attribute
      */
     DeviceAttribute getSessionAttribute(String attributeNamespace, String attributeName);
+
+    /**
+     * Get session attribute by slot. By default the attribute is looked up by its namespace and name.
+     *
+     * @param attributeSlot Attribute slot, see {@link AttributeSlots}
+     * @return Session attribute, or null if the session has no attribute in this slot
+     */
+    default DeviceAttribute getSessionAttribute(int attributeSlot) {
+        Map.Entry<String, String> attribute = AttributeSlots.attributeOf(attributeSlot);
+        if (attribute == null) {
+            return null;
+        }
+        return getSessionAttribute(attribute.getKey(), attribute.getValue());
+    }
+
+    /**
+     * Get the cache of authorization decisions made for this session. By default decisions are not cached.
+     *
+     * @return authorization decision cache, or null if decisions are not cached for this session
+     */
+    default AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return null;
+    }
+
+    /**
+     * Get the device groups this session was last resolved to. By default group membership is not remembered.
+     *
+     * @return group membership, or null if it has not been resolved yet
+     */
+    default GroupMembership getGroupMembership() {
+        return null;
+    }
+
+    /**
+     * Remember the device groups this session belongs to. By default group membership is resolved again every time.
+     *
+     * @param groupMembership resolved group membership
+     */
+    default void setGroupMembership(GroupMembership groupMembership) {
+    }
 }
@@ -10,11 +10,18 @@ import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 import com.aws.greengrass.util.Coerce;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.DEFAULT_MAX_ACTIVE_AUTH_TOKENS;
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_ACTIVE_AUTH_TOKENS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_SESSION_LIFETIME_SECONDS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_SESSION_MEMORY_BYTES_TOPIC;
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.PERFORMANCE_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.PERSIST_SESSIONS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.SESSION_IDLE_TIMEOUT_SECONDS_TOPIC;
 
 @SuppressWarnings("PMD.DataClass")
 public class SessionConfig {
@@ -24,10 +31,20 @@ public class SessionConfig {
     // to be able to initialize and perform appropriate eviction check in LRU session cache
     public static final int MIN_SESSION_CAPACITY = 1;
     public static final int MAX_SESSION_CAPACITY = Integer.MAX_VALUE - 1;
+    // sessions do not expire by default
+    public static final long DEFAULT_SESSION_IDLE_TIMEOUT_SECONDS = 0;
+    public static final long DEFAULT_MAX_SESSION_LIFETIME_SECONDS = 0;
+    public static final boolean DEFAULT_PERSIST_SESSIONS = false;
+    // sessions are only limited by count by default
+    public static final long DEFAULT_MAX_SESSION_MEMORY_BYTES = 0;
 
     private final AtomicInteger sessionCapacity = new AtomicInteger(DEFAULT_SESSION_CAPACITY);
+    private final AtomicLong sessionIdleTimeoutSeconds = new AtomicLong(DEFAULT_SESSION_IDLE_TIMEOUT_SECONDS);
+    private final AtomicLong maxSessionLifetimeSeconds = new AtomicLong(DEFAULT_MAX_SESSION_LIFETIME_SECONDS);
+    private final AtomicLong maxSessionMemoryBytes = new AtomicLong(DEFAULT_MAX_SESSION_MEMORY_BYTES);
 
     private final Topics configuration;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Constructor.
@@ -37,13 +54,35 @@ public class SessionConfig {
     public SessionConfig(Topics configuration) {
         this.configuration = configuration;
         this.sessionCapacity.set(getConfiguredSessionCapacity());
+        this.sessionIdleTimeoutSeconds.set(getConfiguredLimit(SESSION_IDLE_TIMEOUT_SECONDS_TOPIC,
+                DEFAULT_SESSION_IDLE_TIMEOUT_SECONDS));
+        this.maxSessionLifetimeSeconds.set(getConfiguredLimit(MAX_SESSION_LIFETIME_SECONDS_TOPIC,
+                DEFAULT_MAX_SESSION_LIFETIME_SECONDS));
+        this.maxSessionMemoryBytes.set(getConfiguredLimit(MAX_SESSION_MEMORY_BYTES_TOPIC,
+                DEFAULT_MAX_SESSION_MEMORY_BYTES));
 
         this.configuration.subscribe((whatHappened, node) -> {
-            // update session capacity to the latest configured value
+            // update session capacity, memory limit and timeouts to the latest configured values
             updateSessionCapacity(getConfiguredSessionCapacity());
+            sessionIdleTimeoutSeconds.set(getConfiguredLimit(SESSION_IDLE_TIMEOUT_SECONDS_TOPIC,
+                    DEFAULT_SESSION_IDLE_TIMEOUT_SECONDS));
+            maxSessionLifetimeSeconds.set(getConfiguredLimit(MAX_SESSION_LIFETIME_SECONDS_TOPIC,
+                    DEFAULT_MAX_SESSION_LIFETIME_SECONDS));
+            maxSessionMemoryBytes.set(getConfiguredLimit(MAX_SESSION_MEMORY_BYTES_TOPIC,
+                    DEFAULT_MAX_SESSION_MEMORY_BYTES));
+            listeners.forEach(Runnable::run);
         });
     }
 
+    /**
+     * Run a listener whenever the configuration changed, after the latest configured values were applied.
+     *
+     * @param listener configuration change listener
+     */
+    public void subscribe(Runnable listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Get configured Client-Device-Auth Session capacity.
      *
@@ -53,6 +92,47 @@ public class SessionConfig {
         return sessionCapacity.get();
     }
 
+    /**
+     * Get the configured number of seconds after which an unused session expires.
+     *
+     * @return idle timeout in seconds, or 0 if sessions do not expire when unused
+     */
+    public long getSessionIdleTimeoutSeconds() {
+        return sessionIdleTimeoutSeconds.get();
+    }
+
+    /**
+     * Get the configured number of seconds after which a session expires, whether it is used or not.
+     *
+     * @return maximum lifetime in seconds, or 0 if sessions have no maximum lifetime
+     */
+    public long getMaxSessionLifetimeSeconds() {
+        return maxSessionLifetimeSeconds.get();
+    }
+
+    /**
+     * Get the configured limit on the estimated memory retained by sessions. Sessions are limited by both their count
+     * and this limit.
+     *
+     * @return memory limit in bytes, or 0 if sessions are only limited by count
+     */
+    public long getMaxSessionMemoryBytes() {
+        return maxSessionMemoryBytes.get();
+    }
+
+    /**
+     * Whether sessions are journaled to disk and restored when the component restarts. Only read on startup.
+     *
+     * @return true if sessions are persisted
+     */
+    public boolean isPersistSessions() {
+        if (configuration == null || configuration.isEmpty()) {
+            return DEFAULT_PERSIST_SESSIONS;
+        }
+        return Coerce.toBoolean(
+                configuration.findOrDefault(DEFAULT_PERSIST_SESSIONS, PERFORMANCE_TOPIC, PERSIST_SESSIONS_TOPIC));
+    }
+
     /**
      * Updates Client-Device-Auth Session capacity to the desired int value.
      *
@@ -82,4 +162,23 @@ public class SessionConfig {
         }
         return configValue;
     }
+
+    /**
+     * Retrieves a configured session timeout or memory limit. Negative values disable the limit.
+     *
+     * @param topic        configuration key of the limit
+     * @param defaultValue default limit
+     * @return limit, or 0 if the limit is disabled
+     */
+    private long getConfiguredLimit(String topic, long defaultValue) {
+        if (configuration == null || configuration.isEmpty()) {
+            return defaultValue;
+        }
+        long configValue = Coerce.toLong(configuration.findOrDefault(defaultValue, PERFORMANCE_TOPIC, topic));
+        if (configValue < 0) {
+            LOGGER.warn("Illegal value {} for configuration {}. Disabling the limit", configValue, topic);
+            return 0;
+        }
+        return configValue;
+    }
 }
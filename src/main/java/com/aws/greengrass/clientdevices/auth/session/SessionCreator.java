@@ -10,22 +10,17 @@ import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Registry of session factories by credential type. A single instance is shared through the context, so that
+ * factories registered by the service are used by the session manager.
+ */
 public class SessionCreator {
     private static final Logger logger = LogManager.getLogger(SessionCreator.class);
 
-    @SuppressWarnings("PMD.UnusedPrivateField")
-    private final Map<String, SessionFactory> factoryMap;
-
-    private SessionCreator() {
-        factoryMap = new ConcurrentHashMap<>();
-    }
-
-    private static class SessionFactorySingleton {
-        @SuppressWarnings("PMD.AccessorClassGeneration")
-        private static final SessionCreator INSTANCE = new SessionCreator();
-    }
+    private final Map<String, SessionFactory> factoryMap = new ConcurrentHashMap<>();
 
     /**
      * Create a client device session.
@@ -33,24 +28,42 @@ public class SessionCreator {
      * @param credentialType type of credentials provided
      * @param credentialMap  map of client credentials
      * @return new session if the client can be authenticated
-     * @throws AuthenticationException if the client fails to be authenticated
+     * @throws AuthenticationException  if the client fails to be authenticated
+     * @throws IllegalArgumentException if no factory is registered for the credential type
      */
-    public static Session createSession(String credentialType, Map<String, String> credentialMap)
+    public Session createSession(String credentialType, Map<String, String> credentialMap)
             throws AuthenticationException {
-        SessionFactory sessionFactory = SessionFactorySingleton.INSTANCE.factoryMap.get(credentialType);
+        return getSessionFactory(credentialType).createSession(credentialMap);
+    }
+
+    /**
+     * Create a client device session asynchronously.
+     *
+     * @param credentialType type of credentials provided
+     * @param credentialMap  map of client credentials
+     * @return future which completes with the new session, or exceptionally with an
+     *     {@link AuthenticationException} if the client fails to be authenticated
+     * @throws IllegalArgumentException if no factory is registered for the credential type
+     */
+    public CompletableFuture<Session> createSessionAsync(String credentialType, Map<String, String> credentialMap) {
+        return getSessionFactory(credentialType).createSessionAsync(credentialMap);
+    }
+
+    public void registerSessionFactory(String credentialType, SessionFactory sessionFactory) {
+        factoryMap.put(credentialType, sessionFactory);
+    }
+
+    public void unregisterSessionFactory(String credentialType) {
+        factoryMap.remove(credentialType);
+    }
+
+    private SessionFactory getSessionFactory(String credentialType) {
+        SessionFactory sessionFactory = factoryMap.get(credentialType);
         if (sessionFactory == null) {
             logger.atWarn().kv("credentialType", credentialType)
                     .log("no registered handler to process device credentials");
             throw new IllegalArgumentException("unknown credential type");
         }
-        return sessionFactory.createSession(credentialMap);
-    }
-
-    public static void registerSessionFactory(String credentialType, SessionFactory sessionFactory) {
-        SessionFactorySingleton.INSTANCE.factoryMap.put(credentialType, sessionFactory);
-    }
-
-    public static void unregisterSessionFactory(String credentialType) {
-        SessionFactorySingleton.INSTANCE.factoryMap.remove(credentialType);
+        return sessionFactory;
     }
 }
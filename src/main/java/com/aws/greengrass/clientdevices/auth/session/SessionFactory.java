@@ -8,7 +8,25 @@ package com.aws.greengrass.clientdevices.auth.session;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface SessionFactory {
     Session createSession(Map<String, String> credentialMap) throws AuthenticationException;
+
+    /**
+     * Create a session asynchronously. By default the session is created by {@link #createSession(Map)} on the
+     * calling thread. Factories which call the cloud override this, so that callers do not block while waiting on it.
+     *
+     * @param credentialMap map of client credentials
+     * @return future which completes with the session, or exceptionally with an {@link AuthenticationException}
+     */
+    default CompletableFuture<Session> createSessionAsync(Map<String, String> credentialMap) {
+        CompletableFuture<Session> session = new CompletableFuture<>();
+        try {
+            session.complete(createSession(credentialMap));
+        } catch (AuthenticationException e) {
+            session.completeExceptionally(e);
+        }
+        return session;
+    }
 }
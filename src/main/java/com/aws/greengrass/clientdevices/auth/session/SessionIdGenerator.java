@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Generates 128-bit random session IDs encoded as unpadded base64url. Each thread fills its own buffer with the bytes
+ * of many IDs from its own {@link SecureRandom}, so concurrent authentications do not share a generator and only call
+ * into the platform's entropy source once per buffer rather than once per session.
+ */
+final class SessionIdGenerator {
+    static final int SESSION_ID_BYTES = 16;
+    private static final int IDS_PER_BUFFER = 64;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private SessionIdGenerator() {
+    }
+
+    /**
+     * Generate a session ID.
+     *
+     * @return 22 character base64url session ID
+     */
+    static String generate() {
+        return ENCODER.encodeToString(BUFFERS.get().next());
+    }
+
+    private static final class Buffer {
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] bytes = new byte[SESSION_ID_BYTES * IDS_PER_BUFFER];
+        private int position = bytes.length;
+
+        byte[] next() {
+            if (position == bytes.length) {
+                random.nextBytes(bytes);
+                position = 0;
+            }
+            byte[] id = Arrays.copyOfRange(bytes, position, position + SESSION_ID_BYTES);
+            // Do not keep handed out IDs in memory
+            Arrays.fill(bytes, position, position + SESSION_ID_BYTES, (byte) 0);
+            position += SESSION_ID_BYTES;
+            return id;
+        }
+    }
+}
@@ -5,14 +5,25 @@
 
 package com.aws.greengrass.clientdevices.auth.session;
 
+import com.aws.greengrass.clientdevices.auth.configuration.GroupMembership;
 import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeSlots;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeTable;
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class SessionImpl extends ConcurrentHashMap<String, AttributeProvider> implements Session {
-
-    static final long serialVersionUID = -1L;
+public class SessionImpl implements Session {
+    // Attribute providers are fixed at creation, so that the attribute table built from them stays current and group
+    // membership only changes with the group configuration
+    private final Map<String, AttributeProvider> providers;
+    private final AuthorizationDecisionCache authorizationDecisionCache = new AuthorizationDecisionCache();
+    private final AtomicReference<GroupMembership> groupMembership = new AtomicReference<>();
+    private final AttributeTable attributes;
 
     /**
      * Create a Session from a list of attribute providers.
@@ -20,15 +31,26 @@ public class SessionImpl extends ConcurrentHashMap<String, AttributeProvider> im
      * @param providers list of attribute providers
      */
     public SessionImpl(AttributeProvider... providers) {
-        super();
+        Map<String, AttributeProvider> providerMap = new HashMap<>();
         for (AttributeProvider provider : providers) {
-            this.put(provider.getNamespace(), provider);
+            providerMap.put(provider.getNamespace(), provider);
         }
+        this.providers = Collections.unmodifiableMap(providerMap);
+        this.attributes = AttributeTable.of(this.providers.values());
+    }
+
+    /**
+     * Get the attribute providers of this session.
+     *
+     * @return unmodifiable collection of attribute providers
+     */
+    public Collection<AttributeProvider> getAttributeProviders() {
+        return providers.values();
     }
 
     @Override
     public AttributeProvider getAttributeProvider(String attributeProviderNameSpace) {
-        return this.get(attributeProviderNameSpace);
+        return providers.get(attributeProviderNameSpace);
     }
 
     /**
@@ -40,9 +62,26 @@ public class SessionImpl extends ConcurrentHashMap<String, AttributeProvider> im
      */
     @Override
     public DeviceAttribute getSessionAttribute(String attributeNamespace, String attributeName) {
-        if (this.getAttributeProvider(attributeNamespace) != null) {
-            return this.getAttributeProvider(attributeNamespace).getDeviceAttributes().get(attributeName);
-        }
-        return null;
+        return attributes.get(AttributeSlots.find(attributeNamespace, attributeName));
+    }
+
+    @Override
+    public DeviceAttribute getSessionAttribute(int attributeSlot) {
+        return attributes.get(attributeSlot);
+    }
+
+    @Override
+    public AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return authorizationDecisionCache;
+    }
+
+    @Override
+    public GroupMembership getGroupMembership() {
+        return groupMembership.get();
+    }
+
+    @Override
+    public void setGroupMembership(GroupMembership groupMembership) {
+        this.groupMembership.set(groupMembership);
     }
 }
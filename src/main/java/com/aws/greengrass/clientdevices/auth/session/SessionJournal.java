@@ -0,0 +1,315 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import com.aws.greengrass.util.NucleusPaths;
+import com.aws.greengrass.util.Utils;
+import lombok.Value;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+
+/**
+ * Append-only journal of IoT thing sessions, memory-mapped from a file under the component work path, so that sessions
+ * survive a restart of the component. Appending is a copy into the mapping which the operating system writes back to
+ * the file, so journaled sessions survive the process exiting but not necessarily a power loss.
+ *
+ * <p>A record is a type byte followed by its payload. The type byte is written last, after zeroing the byte which
+ * follows the record, so that a partially written record ends the journal. Compaction rewrites the live records in
+ * place from the start of the file. A crash during compaction loses the sessions which were not rewritten yet, and
+ * those devices authenticate again.</p>
+ *
+ * <p>Session IDs are bearer tokens, so on file systems with POSIX permissions the journal is only accessible to its
+ * owner. Elsewhere it relies on the permissions of the component work path.</p>
+ */
+public class SessionJournal {
+    private static final Logger logger = LogManager.getLogger(SessionJournal.class);
+    private static final String SESSIONS_DIRECTORY = "sessions";
+    private static final String JOURNAL_FILE = "sessions.journal";
+    private static final int MAGIC = 0x43444153;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    static final int INITIAL_SIZE = 1 << 20;
+    private static final byte END = 0;
+    private static final byte CREATED = 1;
+    private static final byte REMOVED = 2;
+    // Removed sessions are only compacted away once they outnumber the live ones, and there are at least this many
+    static final int COMPACTION_THRESHOLD = 1024;
+    private static final Set<OpenOption> OPEN_OPTIONS = Collections.unmodifiableSet(
+            EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+    static final Set<PosixFilePermission> OWNER_ONLY = Collections.unmodifiableSet(
+            EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE));
+
+    private final Path journalPath;
+    // Guarded by this
+    private final Map<String, Record> liveRecords = new LinkedHashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private int removedRecords;
+
+    /**
+     * Constructor.
+     *
+     * @param paths Nucleus paths
+     * @throws IOException if the component work path cannot be created
+     */
+    @Inject
+    public SessionJournal(NucleusPaths paths) throws IOException {
+        this(paths.workPath(ClientDevicesAuthService.CLIENT_DEVICES_AUTH_SERVICE_NAME));
+    }
+
+    /**
+     * Create a session journal for tests.
+     *
+     * @param workPath Component work path to store the journal under
+     */
+    public SessionJournal(Path workPath) {
+        this.journalPath = workPath.resolve(SESSIONS_DIRECTORY).resolve(JOURNAL_FILE);
+    }
+
+    /**
+     * Open the journal, creating it if it does not exist, and compact it. A journal which is already open is closed
+     * and read again.
+     *
+     * @return sessions which were journaled and not removed, in the order they were created
+     * @throws IOException if the journal cannot be opened
+     */
+    public synchronized List<Record> open() throws IOException {
+        close();
+        Utils.createPaths(journalPath.getParent());
+        if (journalPath.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            if (Files.exists(journalPath)) {
+                // journals created before they were restricted are restricted too
+                Files.setPosixFilePermissions(journalPath, OWNER_ONLY);
+            }
+            channel = FileChannel.open(journalPath, OPEN_OPTIONS, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } else {
+            channel = FileChannel.open(journalPath, OPEN_OPTIONS);
+        }
+        map(Math.max(INITIAL_SIZE, channel.size()));
+        read();
+        compact();
+        return new ArrayList<>(liveRecords.values());
+    }
+
+    /**
+     * Delete the journal, if it is not open.
+     *
+     * @throws IOException if the journal cannot be deleted
+     */
+    public synchronized void delete() throws IOException {
+        if (channel == null) {
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * Record a created session.
+     *
+     * @param record session record
+     * @throws IOException if the journal cannot be grown
+     */
+    public synchronized void recordCreated(Record record) throws IOException {
+        if (channel == null) {
+            return;
+        }
+        liveRecords.put(record.getSessionId(), record);
+        int end = writeCreated(writePosition, record);
+        if (end < 0) {
+            // the record was added to the live records, so compaction writes it
+            compact();
+            return;
+        }
+        writePosition = end;
+    }
+
+    /**
+     * Record a removed session. Sessions which are not in the journal are ignored.
+     *
+     * @param sessionId session identifier
+     * @throws IOException if the journal cannot be grown
+     */
+    public synchronized void recordRemoved(String sessionId) throws IOException {
+        if (channel == null || liveRecords.remove(sessionId) == null) {
+            return;
+        }
+        removedRecords++;
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        int end = writeRemoved(writePosition, id);
+        if (end < 0) {
+            compact();
+            return;
+        }
+        writePosition = end;
+    }
+
+    /**
+     * Compact the journal if most of its records are removed sessions.
+     *
+     * @throws IOException if the journal cannot be remapped
+     */
+    public synchronized void compactIfNeeded() throws IOException {
+        if (channel != null && removedRecords >= COMPACTION_THRESHOLD && removedRecords > liveRecords.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Write the journal back to the file and close it.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        buffer.force();
+        channel.close();
+        channel = null;
+        buffer = null;
+        liveRecords.clear();
+    }
+
+    private void map(long size) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(size, Integer.MAX_VALUE));
+    }
+
+    private void read() {
+        liveRecords.clear();
+        removedRecords = 0;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            if (buffer.getInt(0) != 0) {
+                logger.atWarn().kv("path", journalPath).log("Unrecognized session journal. Discarding it");
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.put(HEADER_SIZE, END);
+            return;
+        }
+        int position = HEADER_SIZE;
+        try {
+            while (position < buffer.capacity()) {
+                byte type = buffer.get(position);
+                buffer.position(position + 1);
+                if (type == CREATED) {
+                    Instant createdAt = Instant.ofEpochMilli(buffer.getLong());
+                    Record record = new Record(getString(), getString(), getString(), createdAt);
+                    liveRecords.put(record.getSessionId(), record);
+                } else if (type == REMOVED) {
+                    liveRecords.remove(getString());
+                } else {
+                    break;
+                }
+                position = buffer.position();
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.atWarn().kv("path", journalPath).log("Session journal is truncated");
+        }
+    }
+
+    // Rewrite the live records from the start, growing the mapping if they do not fit
+    private void compact() throws IOException {
+        long required = HEADER_SIZE + 1L;
+        for (Record record : liveRecords.values()) {
+            required += createdLength(record);
+        }
+        if (required > buffer.capacity()) {
+            map(Math.max(2L * buffer.capacity(), required));
+        }
+        writePosition = HEADER_SIZE;
+        buffer.put(writePosition, END);
+        for (Record record : liveRecords.values()) {
+            writePosition = writeCreated(writePosition, record);
+        }
+        removedRecords = 0;
+    }
+
+    private static int createdLength(Record record) {
+        return 1 + Long.BYTES + stringLength(record.getSessionId()) + stringLength(record.getThingName())
+                + stringLength(record.getCertificateId());
+    }
+
+    // Returns the position after the record, or -1 if it does not fit
+    private int writeCreated(int position, Record record) {
+        int length = createdLength(record);
+        if (position + length >= buffer.capacity()) {
+            return -1;
+        }
+        buffer.position(position + 1);
+        buffer.putLong(record.getCreatedAt().toEpochMilli());
+        putString(record.getSessionId());
+        putString(record.getThingName());
+        putString(record.getCertificateId());
+        return commit(position, length, CREATED);
+    }
+
+    private int writeRemoved(int position, byte[] sessionId) {
+        int length = 1 + Short.BYTES + sessionId.length;
+        if (position + length >= buffer.capacity()) {
+            return -1;
+        }
+        buffer.position(position + 1);
+        buffer.putShort((short) sessionId.length);
+        buffer.put(sessionId);
+        return commit(position, length, REMOVED);
+    }
+
+    private int commit(int position, int length, byte type) {
+        buffer.put(position + length, END);
+        buffer.put(position, type);
+        return position + length;
+    }
+
+    private static int stringLength(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private String getString() {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Value
+    public static class Record {
+        String sessionId;
+        String thingName;
+        String certificateId;
+        Instant createdAt;
+    }
+}
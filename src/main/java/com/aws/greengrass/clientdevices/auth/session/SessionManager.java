@@ -7,16 +7,30 @@ package com.aws.greengrass.clientdevices.auth.session;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.dto.RestoreSessionDTO;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.RestoreIoTThingSession;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
 import com.aws.greengrass.clientdevices.auth.session.events.SessionCreationEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionStoreSizeEvent;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Value;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 
 /**
@@ -25,30 +39,43 @@ import javax.inject.Inject;
 public class SessionManager {
     private static final Logger logger = LogManager.getLogger(SessionManager.class);
     private static final String SESSION_ID = "SessionId";
+    // Session timeouts are configured in seconds, so the expiry clock ticks every second
+    private static final long EXPIRY_TICK_SECONDS = 1;
     private final DomainEvents domainEvents;
+    private final ScheduledExecutorService ses;
+    private final SessionCreator sessionCreator;
 
-    // Thread-safe LRU Session Cache that evicts the eldest entry (based on access order) upon reaching its size.
-    // TODO: Support time-based cache eviction (Session timeout) and Session deduping.
+    // Thread-safe session cache that evicts the least recently used sessions upon exceeding the latest configured
+    // session capacity or memory limit, and expires sessions after the configured idle timeout or maximum lifetime.
+    // Sessions of the same IoT thing and certificate are shared between authentications.
     @Getter(AccessLevel.PACKAGE)
-    private final Map<String, Session> sessionMap =
-            Collections.synchronizedMap(new LinkedHashMap<String, Session>(getSessionCapacity(), 0.75f, true) {
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
-                    // check size against latest configured session capacity
-                    if (size() > getSessionCapacity()) {
-                        logger.atTrace().kv(SESSION_ID, eldest.getKey())
-                                .log("Session Cache reached its capacity. Closing session.");
-                        return true;
-                    }
-                    return false;
-                }
-            });
+    private final SessionStore sessionStore = new SessionStore(this::getSessionCapacity,
+            this::getMaxSessionMemoryBytes, SessionSizeEstimator::estimate, this::getSessionIdleTimeoutSeconds,
+            this::getMaxSessionLifetimeSeconds);
+    // The expiry task only runs while it has work to do, see isExpiryNeeded
+    private final Object expiryLock = new Object();
+    private ScheduledFuture<?> expiryFuture;
+    private boolean expiryStopped;
+    // Last reported size of the session store. Only accessed by the expiry task
+    private long reportedSessionCount;
+    private long reportedSessionBytes;
+    // Set while sessions are persisted
+    private volatile SessionJournal sessionJournal;
 
     private SessionConfig sessionConfig;
 
+    /**
+     * Constructor.
+     *
+     * @param domainEvents   domain event router
+     * @param ses            executor which advances the session expiry clock
+     * @param sessionCreator session factories by credential type
+     */
     @Inject
-    public SessionManager(DomainEvents domainEvents) {
+    public SessionManager(DomainEvents domainEvents, ScheduledExecutorService ses, SessionCreator sessionCreator) {
         this.domainEvents = domainEvents;
+        this.ses = ses;
+        this.sessionCreator = sessionCreator;
     }
 
     /**
@@ -58,11 +85,12 @@ public class SessionManager {
      * @return session or null
      */
     public Session findSession(String sessionId) {
-        return sessionMap.get(sessionId);
+        return sessionStore.get(sessionId);
     }
 
     /**
-     * Creates a session with device credentials.
+     * Creates a session with device credentials. If the device already has a live session for the same thing and
+     * certificate, the existing session is reused and its ID is returned. Every returned session ID must be closed.
      *
      * @param credentialType Device credential type
      * @param credentialMap  Device credential map
@@ -72,19 +100,34 @@ public class SessionManager {
     public String createSession(String credentialType, Map<String, String> credentialMap)
             throws AuthenticationException {
         try {
-            Session session = SessionCreator.createSession(credentialType, credentialMap);
-            String createdSession = addSessionInternal(session);
-            logger.atDebug().log("Successfully created a session with device credentials");
-            domainEvents.emit(new SessionCreationEvent(SessionCreationEvent
-                    .SessionCreationStatus.SUCCESS));
-            return createdSession;
+            Session session = sessionCreator.createSession(credentialType, credentialMap);
+            return sessionCreated(session);
         } catch (AuthenticationException e) {
-            domainEvents.emit(new SessionCreationEvent(SessionCreationEvent
-                    .SessionCreationStatus.FAILURE));
+            sessionCreationFailed();
             throw e;
         }
     }
 
+    /**
+     * Creates a session with device credentials asynchronously. Sessions are reused as by
+     * {@link #createSession(String, Map)}.
+     *
+     * @param credentialType Device credential type
+     * @param credentialMap  Device credential map
+     * @return future which completes with the session id, or exceptionally with an {@link AuthenticationException}
+     *     if device credentials were not able to be validated
+     * @throws IllegalArgumentException if no factory is registered for the credential type
+     */
+    public CompletableFuture<String> createSessionAsync(String credentialType, Map<String, String> credentialMap) {
+        return sessionCreator.createSessionAsync(credentialType, credentialMap)
+                .whenComplete((session, e) -> {
+                    if (e != null && unwrap(e) instanceof AuthenticationException) {
+                        sessionCreationFailed();
+                    }
+                })
+                .thenApply(this::sessionCreated);
+    }
+
     /**
      * Closes a session.
      *
@@ -96,38 +139,285 @@ public class SessionManager {
     }
 
     /**
-     * Session configuration setter.
+     * Session configuration setter. Sessions are checked for expiry every second, but only while sessions expire, are
+     * limited by memory or are persisted, as configured.
      *
      * @param sessionConfig session configuration
      */
     public void setSessionConfig(SessionConfig sessionConfig) {
         this.sessionConfig = sessionConfig;
+        sessionConfig.subscribe(this::startExpiryIfNeeded);
+        synchronized (expiryLock) {
+            expiryStopped = false;
+        }
+        startExpiryIfNeeded();
+    }
+
+    /**
+     * Stop expiring sessions until the session configuration is set, or sessions are restored, again. Sessions stay
+     * live.
+     */
+    public void stopExpiringSessions() {
+        synchronized (expiryLock) {
+            expiryStopped = true;
+            if (expiryFuture != null) {
+                expiryFuture.cancel(false);
+                expiryFuture = null;
+            }
+        }
+    }
+
+    /**
+     * Restore the sessions of a session journal if sessions are persisted, and journal sessions from then on. Sessions
+     * are restored without calls to the cloud, and only while their certificate status and certificate attachment
+     * are still trusted locally. Otherwise the device authenticates again. The holders of a shared session share it
+     * again, and sessions which are still live, such as after a restart of the service, are kept. If sessions are
+     * not persisted, the journal is deleted.
+     *
+     * @param journal        session journal
+     * @param restoreSession use case restoring a session from local state
+     */
+    public void restoreSessions(SessionJournal journal, RestoreIoTThingSession restoreSession) {
+        synchronized (expiryLock) {
+            expiryStopped = false;
+        }
+        closeJournal();
+        startExpiryIfNeeded();
+        if (sessionConfig == null || !sessionConfig.isPersistSessions()) {
+            try {
+                journal.close();
+                journal.delete();
+            } catch (IOException e) {
+                logger.atWarn().cause(e).log("Unable to delete session journal");
+            }
+            return;
+        }
+
+        List<SessionJournal.Record> records;
+        try {
+            records = journal.open();
+        } catch (IOException e) {
+            logger.atWarn().cause(e).log("Unable to open session journal. Sessions will not be persisted");
+            return;
+        }
+        sessionJournal = journal;
+        int restored = 0;
+        int live = 0;
+        for (SessionJournal.Record record : records) {
+            if (sessionStore.containsKey(record.getSessionId())) {
+                live++;
+            } else if (restoreSession(record, restoreSession)) {
+                restored++;
+            } else if (!sessionStore.containsKey(record.getSessionId())) {
+                // the session ID may have been taken by a new session in the meantime, which is journaled already
+                updateJournal(j -> j.recordRemoved(record.getSessionId()));
+            }
+        }
+        sessionStore.setListener(new SessionStore.Listener() {
+            @Override
+            public void added(String sessionId, Object identity) {
+                if (identity instanceof DeviceIdentity) {
+                    DeviceIdentity device = (DeviceIdentity) identity;
+                    updateJournal(j -> j.recordCreated(new SessionJournal.Record(sessionId, device.getThingName(),
+                            device.getCertificateId(), Instant.now())));
+                }
+            }
+
+            @Override
+            public void removed(String sessionId) {
+                updateJournal(j -> j.recordRemoved(sessionId));
+            }
+        });
+        logger.atInfo().kv("restored", restored).kv("live", live).kv("dropped", records.size() - restored - live)
+                .log("Restored sessions from session journal");
+        // the journal is compacted by the expiry task
+        startExpiryIfNeeded();
     }
 
-    private synchronized void closeSessionInternal(String sessionId) {
-        sessionMap.remove(sessionId);
+    /**
+     * Stop journaling sessions and close the session journal, if sessions are persisted. Sessions stay live, and are
+     * journaled again once sessions are restored.
+     */
+    public void closeJournal() {
+        sessionStore.setListener(null);
+        SessionJournal journal = sessionJournal;
+        sessionJournal = null;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.atWarn().cause(e).log("Unable to close session journal");
+        }
+    }
+
+    private boolean restoreSession(SessionJournal.Record record, RestoreIoTThingSession restoreSession) {
+        long ageSeconds = Math.max(0, Duration.between(record.getCreatedAt(), Instant.now()).getSeconds());
+        long lifetime = getMaxSessionLifetimeSeconds();
+        if (lifetime > 0 && ageSeconds >= lifetime) {
+            return false;
+        }
+        try {
+            Session session = restoreSession.apply(
+                    new RestoreSessionDTO(record.getThingName(), record.getCertificateId()));
+            DeviceIdentity identity = DeviceIdentity.of(session);
+            return identity != null && sessionStore.acquire(identity, record.getSessionId())
+                    || sessionStore.putIfAbsent(record.getSessionId(), session, identity, ageSeconds);
+        } catch (AuthenticationException e) {
+            logger.atDebug().kv(SESSION_ID, record.getSessionId()).kv("thingName", record.getThingName())
+                    .log("Unable to restore session. {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void updateJournal(JournalUpdate update) {
+        SessionJournal journal = sessionJournal;
+        if (journal == null) {
+            return;
+        }
+        try {
+            update.apply(journal);
+        } catch (IOException e) {
+            logger.atWarn().cause(e).log("Unable to update session journal. Sessions will no longer be persisted");
+            sessionJournal = null;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void expireSessions() {
+        // A periodic task stops running once it throws, so failures must not escape
+        try {
+            sessionStore.expireSessions((sessionId, reason) -> {
+                logger.atDebug().kv(SESSION_ID, sessionId).kv("reason", reason).log("Session expired");
+                domainEvents.emit(new SessionExpiredEvent(reason));
+            });
+            updateJournal(SessionJournal::compactIfNeeded);
+            sessionStore.reweigh();
+            reportSize();
+        } catch (RuntimeException e) {
+            logger.atError().cause(e).log("Failed to expire sessions");
+        }
+        // Stopped from the task itself once it is no longer needed, so that its last run reports the size as 0
+        synchronized (expiryLock) {
+            if (expiryFuture != null && !isExpiryNeeded()) {
+                expiryFuture.cancel(false);
+                expiryFuture = null;
+            }
+        }
+    }
+
+    private void startExpiryIfNeeded() {
+        synchronized (expiryLock) {
+            if (expiryFuture == null && !expiryStopped && isExpiryNeeded()) {
+                expiryFuture = ses.scheduleAtFixedRate(this::expireSessions, EXPIRY_TICK_SECONDS,
+                        EXPIRY_TICK_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    // Sessions need to be checked every tick while they expire, are limited by memory or are journaled
+    private boolean isExpiryNeeded() {
+        return getSessionIdleTimeoutSeconds() > 0 || getMaxSessionLifetimeSeconds() > 0
+                || getMaxSessionMemoryBytes() > 0 || sessionJournal != null;
+    }
+
+    // The size is only reported while sessions are limited by memory, and reset to 0 when the limit is removed
+    private void reportSize() {
+        boolean limited = getMaxSessionMemoryBytes() > 0;
+        long count = limited ? sessionStore.size() : 0;
+        long bytes = limited ? sessionStore.weight() : 0;
+        if (count != reportedSessionCount || bytes != reportedSessionBytes) {
+            reportedSessionCount = count;
+            reportedSessionBytes = bytes;
+            domainEvents.emit(new SessionStoreSizeEvent(count, bytes));
+        }
+    }
+
+    private void closeSessionInternal(String sessionId) {
+        sessionStore.release(sessionId);
     }
 
     // Returns a session ID which can be returned to the client
-    private synchronized String addSessionInternal(Session session) {
-        String sessionId = generateSessionId();
-        logger.atDebug().kv(SESSION_ID, sessionId).log("Creating new session");
-        sessionMap.put(sessionId, session);
+    private String sessionCreated(Session session) {
+        String sessionId = addSessionInternal(session);
+        logger.atDebug().log("Successfully created a session with device credentials");
+        domainEvents.emit(new SessionCreationEvent(SessionCreationEvent.SessionCreationStatus.SUCCESS));
         return sessionId;
     }
 
-    private String generateSessionId() {
-        String sessionId;
-        do {
-            sessionId = UUID.randomUUID().toString();
-        } while (sessionMap.containsKey(sessionId));
+    private void sessionCreationFailed() {
+        domainEvents.emit(new SessionCreationEvent(SessionCreationEvent.SessionCreationStatus.FAILURE));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private String addSessionInternal(Session session) {
+        DeviceIdentity identity = DeviceIdentity.of(session);
+        // Each holder of a shared session gets an ID of its own, so that it can only release its own reference
+        String sessionId = SessionIdGenerator.generate();
+        if (identity != null && sessionStore.acquire(identity, sessionId)) {
+            logger.atDebug().kv(SESSION_ID, sessionId).log("Reusing existing session");
+            return sessionId;
+        }
+        while (!sessionStore.putIfAbsent(sessionId, session, identity)) {
+            sessionId = SessionIdGenerator.generate();
+        }
+        logger.atDebug().kv(SESSION_ID, sessionId).log("Created new session");
         return sessionId;
     }
 
+    private long getSessionIdleTimeoutSeconds() {
+        if (sessionConfig == null) {
+            return SessionConfig.DEFAULT_SESSION_IDLE_TIMEOUT_SECONDS;
+        }
+        return sessionConfig.getSessionIdleTimeoutSeconds();
+    }
+
+    private long getMaxSessionMemoryBytes() {
+        if (sessionConfig == null) {
+            return SessionConfig.DEFAULT_MAX_SESSION_MEMORY_BYTES;
+        }
+        return sessionConfig.getMaxSessionMemoryBytes();
+    }
+
+    private long getMaxSessionLifetimeSeconds() {
+        if (sessionConfig == null) {
+            return SessionConfig.DEFAULT_MAX_SESSION_LIFETIME_SECONDS;
+        }
+        return sessionConfig.getMaxSessionLifetimeSeconds();
+    }
+
     private int getSessionCapacity() {
         if (sessionConfig == null) {
             return SessionConfig.DEFAULT_SESSION_CAPACITY;
         }
         return sessionConfig.getSessionCapacity();
     }
+
+    private interface JournalUpdate {
+        void apply(SessionJournal journal) throws IOException;
+    }
+
+    /**
+     * Identity of an IoT thing session. Credentials have been validated by the time a session is created, so a
+     * session with the same thing name and certificate ID grants the same access.
+     */
+    @Value
+    private static class DeviceIdentity {
+        String thingName;
+        String certificateId;
+
+        // Returns null for sessions which are not IoT thing sessions, such as component sessions
+        static DeviceIdentity of(Session session) {
+            AttributeProvider thing = session.getAttributeProvider(Thing.NAMESPACE);
+            AttributeProvider certificate = session.getAttributeProvider(Certificate.NAMESPACE);
+            if (!(thing instanceof Thing) || !(certificate instanceof Certificate)) {
+                return null;
+            }
+            return new DeviceIdentity(((Thing) thing).getThingName(), ((Certificate) certificate).getCertificateId());
+        }
+    }
 }
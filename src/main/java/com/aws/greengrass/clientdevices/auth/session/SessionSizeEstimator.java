@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.configuration.GroupMembership;
+import com.aws.greengrass.clientdevices.auth.configuration.PermissionIndex;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
+import com.aws.greengrass.clientdevices.auth.session.attribute.StringLiteralAttribute;
+import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
+
+import java.util.Map;
+
+/**
+ * Estimates the memory retained by a session from its shape, without walking the heap. The constants approximate a
+ * 64-bit JVM with compressed references, and are meant to rank sessions and bound their total rather than to match a
+ * heap dump.
+ *
+ * <p>Authorization decisions and group membership are cached on a session as it is used, so a session is weighed
+ * again from time to time. Group names and permissions which are not bound to the session are shared with the group
+ * configuration and only counted as references. Attribute providers which are shared between sessions, such as
+ * things held by the thing registry, are counted once per session.</p>
+ */
+final class SessionSizeEstimator {
+    // SessionImpl and its provider map, attribute table, decision cache and group membership reference, plus the
+    // store's entry, map node, timeout and session ID
+    static final long SESSION_BYTES = 768;
+    // Provider object, its attribute map and its node in the session's provider map
+    static final long PROVIDER_BYTES = 128;
+    // Map entry and attribute object
+    static final long ATTRIBUTE_BYTES = 64;
+    // Header of a string and of its character array
+    static final long STRING_BYTES = 40;
+    // Attributes which are not plain strings, such as lambdas
+    static final long OTHER_ATTRIBUTE_BYTES = 16;
+    // Group membership, its group name set and its permission index list
+    static final long GROUP_MEMBERSHIP_BYTES = 96;
+    // Entry of a group name or permission index shared with the group configuration
+    static final long REFERENCE_BYTES = 16;
+    // Permission index bound to the session and its operation indexes
+    static final long BOUND_INDEX_BYTES = 128;
+    // Index nodes of a bound permission
+    static final long BOUND_PERMISSION_BYTES = 96;
+
+    private SessionSizeEstimator() {
+    }
+
+    /**
+     * Estimate the memory retained by a session.
+     *
+     * @param session session
+     * @return estimated size in bytes
+     */
+    static long estimate(Session session) {
+        long size = SESSION_BYTES;
+        if (session instanceof SessionImpl) {
+            for (AttributeProvider provider : ((SessionImpl) session).getAttributeProviders()) {
+                size += estimate(provider);
+            }
+        }
+        AuthorizationDecisionCache decisionCache = session.getAuthorizationDecisionCache();
+        if (decisionCache != null) {
+            size += decisionCache.weight();
+        }
+        GroupMembership membership = session.getGroupMembership();
+        if (membership != null) {
+            size += estimate(membership);
+        }
+        return size;
+    }
+
+    private static long estimate(GroupMembership membership) {
+        long size = GROUP_MEMBERSHIP_BYTES
+                + REFERENCE_BYTES * (membership.getGroupNames().size() + membership.getPermissionIndexes().size());
+        for (PermissionIndex permissionIndex : membership.getPermissionIndexes()) {
+            if (permissionIndex.hasTemplates()) {
+                size += BOUND_INDEX_BYTES + (BOUND_PERMISSION_BYTES + STRING_BYTES)
+                        * permissionIndex.getBoundPermissions() + 2L * permissionIndex.getBoundResourceLength();
+            }
+        }
+        return size;
+    }
+
+    private static long estimate(AttributeProvider provider) {
+        long size = PROVIDER_BYTES + stringBytes(provider.getNamespace());
+        for (Map.Entry<String, DeviceAttribute> attribute : provider.getDeviceAttributes().entrySet()) {
+            size += ATTRIBUTE_BYTES + stringBytes(attribute.getKey()) + estimate(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long estimate(DeviceAttribute attribute) {
+        if (attribute instanceof StringLiteralAttribute || attribute instanceof WildcardSuffixAttribute) {
+            return stringBytes(attribute.toString());
+        }
+        return OTHER_ATTRIBUTE_BYTES;
+    }
+
+    private static long stringBytes(String value) {
+        // Strings hold UTF-16 characters
+        return value == null ? 0 : STRING_BYTES + 2L * value.length();
+    }
+}
@@ -0,0 +1,606 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent.ExpiryReason;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Concurrent session store with approximate LRU eviction. Lookups are lock-free: they read a concurrent map and stamp
+ * the session with the current insertion epoch. When an insertion exceeds the capacity, a sample of sessions is scanned
+ * and the least recently used session of the sample is evicted. Stores no larger than the sample evict exactly.
+ *
+ * <p>Sessions may be added with a device identity, so that a device authenticating again with the same identity can
+ * share its live session. Each holder of a shared session gets a session ID of its own, which it releases at most
+ * once. Shared sessions are only removed when every holder released them, or when they are evicted. Every session ID
+ * counts towards the capacity and the total weight of the store, and evicting a shared session first releases its
+ * holders from the oldest one, so that a device which authenticates repeatedly without closing its sessions cannot
+ * grow the store.</p>
+ *
+ * <p>Besides their count, sessions may be limited by the total of their estimated sizes. Each session is weighed
+ * when it is added, and again whenever the owner of the store re-weighs it, since sessions retain more memory as they
+ * are used. The least recently used sessions are evicted until both limits are met. A single session heavier than the
+ * limit is kept.</p>
+ *
+ * <p>Sessions can also expire after an idle timeout or a maximum lifetime, both measured in ticks of a timing wheel
+ * which the owner of the store advances. Lookups only record the current tick, and a session whose timeout elapses
+ * after it was used again is rescheduled when its timeout fires rather than on every lookup.</p>
+ */
+final class SessionStore {
+    private static final Logger logger = LogManager.getLogger(SessionStore.class);
+    private static final String SESSION_ID = "SessionId";
+    static final int EVICTION_SAMPLE_SIZE = 16;
+    static final int EXPIRY_WHEEL_SIZE = 512;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    // Memory retained by the session ID of a holder which shares a session, in the indexes of the store
+    static final long SHARED_ID_BYTES = 192;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Session IDs of the holders which acquired a shared session, other than the holder which added it
+    private final ConcurrentHashMap<String, Entry> sharedIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, String> sessionIdsByIdentity = new ConcurrentHashMap<>();
+    private final IntSupplier capacity;
+    private final LongSupplier capacityBytes;
+    private final ToLongFunction<Session> weigher;
+    private final LongSupplier idleTimeoutTicks;
+    private final LongSupplier lifetimeTicks;
+    private final TimingWheel<Entry> expiryWheel = new TimingWheel<>(EXPIRY_WHEEL_SIZE);
+    // Advanced on every insertion. Lookups between two insertions are stamped with the same epoch, which avoids
+    // contended writes on the read path at the cost of not ordering those lookups
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong totalWeight = new AtomicLong();
+    // Session IDs which were not released yet, counted towards the capacity
+    private final AtomicInteger liveSessionIds = new AtomicInteger();
+    private final Object evictionLock = new Object();
+    // Resumed across evictions so that successive samples cover different sessions. Guarded by evictionLock
+    private Iterator<Entry> evictionCursor;
+    private volatile Listener listener;
+
+    /**
+     * Constructor for a store whose sessions do not expire.
+     *
+     * @param capacity supplier of the maximum number of sessions, read on every insertion
+     */
+    SessionStore(IntSupplier capacity) {
+        this(capacity, () -> 0, () -> 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity         supplier of the maximum number of sessions, read on every insertion
+     * @param idleTimeoutTicks supplier of the number of ticks after which an unused session expires, or 0 for no
+     *                         idle timeout
+     * @param lifetimeTicks    supplier of the number of ticks after which a session expires, or 0 for no maximum
+     *                         lifetime
+     */
+    SessionStore(IntSupplier capacity, LongSupplier idleTimeoutTicks, LongSupplier lifetimeTicks) {
+        this(capacity, () -> 0, session -> 0, idleTimeoutTicks, lifetimeTicks);
+    }
+
+    /**
+     * Constructor for a store whose sessions are also limited by their total weight.
+     *
+     * @param capacity         supplier of the maximum number of sessions, read on every insertion
+     * @param capacityBytes    supplier of the maximum total weight of sessions, or 0 for no limit, read on every
+     *                         insertion
+     * @param weigher          estimates the weight of a session in bytes
+     * @param idleTimeoutTicks supplier of the number of ticks after which an unused session expires, or 0 for no
+     *                         idle timeout
+     * @param lifetimeTicks    supplier of the number of ticks after which a session expires, or 0 for no maximum
+     *                         lifetime
+     */
+    SessionStore(IntSupplier capacity, LongSupplier capacityBytes, ToLongFunction<Session> weigher,
+                 LongSupplier idleTimeoutTicks, LongSupplier lifetimeTicks) {
+        this.capacity = capacity;
+        this.capacityBytes = capacityBytes;
+        this.weigher = weigher;
+        this.idleTimeoutTicks = idleTimeoutTicks;
+        this.lifetimeTicks = lifetimeTicks;
+    }
+
+    /**
+     * Look up a session and mark it as used.
+     *
+     * @param sessionId session identifier
+     * @return session, or null if there is no session with this ID
+     */
+    Session get(String sessionId) {
+        Entry entry = lookup(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch(epoch.get(), expiryWheel.currentTick());
+        return entry.session;
+    }
+
+    boolean containsKey(String sessionId) {
+        return lookup(sessionId) != null;
+    }
+
+    // Returns the entry a session ID was not released from yet
+    private Entry lookup(String sessionId) {
+        Entry entry = entries.get(sessionId);
+        if (entry == null) {
+            entry = sharedIds.get(sessionId);
+        }
+        if (entry == null || !entry.holderIds.contains(sessionId)) {
+            return null;
+        }
+        return entry;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the total weight of the sessions in the store.
+     *
+     * @return total weight in bytes
+     */
+    long weight() {
+        return totalWeight.get();
+    }
+
+    /**
+     * Add a session, evicting the least recently used sessions if the store is over capacity.
+     *
+     * @param sessionId session identifier
+     * @param session   session
+     */
+    void put(String sessionId, Session session) {
+        put(sessionId, session, null);
+    }
+
+    /**
+     * Add a session, evicting the least recently used sessions if the store is over capacity.
+     *
+     * @param sessionId session identifier
+     * @param session   session
+     * @param identity  identity of the device the session belongs to, or null if sessions of this device are not
+     *                  shared
+     */
+    void put(String sessionId, Session session, Object identity) {
+        long tick = expiryWheel.currentTick();
+        Entry entry = new Entry(sessionId, session, identity, weigher.applyAsLong(session), epoch.incrementAndGet(),
+                tick, tick);
+        Entry replaced = entries.put(sessionId, entry);
+        if (replaced != null) {
+            unindex(replaced);
+        }
+        added(entry);
+    }
+
+    /**
+     * Add a session unless the session ID is already in use, evicting the least recently used sessions if the store
+     * is over capacity.
+     *
+     * @param sessionId session identifier
+     * @param session   session
+     * @param identity  identity of the device the session belongs to, or null if sessions of this device are not
+     *                  shared
+     * @return true if the session was added, false if the session ID is already in use
+     */
+    boolean putIfAbsent(String sessionId, Session session, Object identity) {
+        return putIfAbsent(sessionId, session, identity, 0);
+    }
+
+    /**
+     * Add a session which already existed for some time unless the session ID is already in use, evicting the least
+     * recently used sessions if the store is over capacity.
+     *
+     * @param sessionId session identifier
+     * @param session   session
+     * @param identity  identity of the device the session belongs to, or null if sessions of this device are not
+     *                  shared
+     * @param ageTicks  number of ticks the session already existed for, counted towards its maximum lifetime
+     * @return true if the session was added, false if the session ID is already in use
+     */
+    boolean putIfAbsent(String sessionId, Session session, Object identity, long ageTicks) {
+        long tick = expiryWheel.currentTick();
+        Entry entry = new Entry(sessionId, session, identity, weigher.applyAsLong(session), epoch.incrementAndGet(),
+                tick - ageTicks, tick);
+        if (sharedIds.containsKey(sessionId) || entries.putIfAbsent(sessionId, entry) != null) {
+            return false;
+        }
+        added(entry);
+        return true;
+    }
+
+    private void added(Entry entry) {
+        totalWeight.addAndGet(entry.index());
+        liveSessionIds.incrementAndGet();
+        Listener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.added(entry.sessionId, entry.identity);
+        }
+        if (entry.identity != null) {
+            sessionIdsByIdentity.put(entry.identity, entry.sessionId);
+        }
+        long deadline = deadline(entry);
+        if (deadline != NO_DEADLINE) {
+            expiryWheel.schedule(entry.expiry, deadline);
+        }
+        if (overCapacity()) {
+            evict();
+        }
+        if (currentListener != null && entries.get(entry.sessionId) != entry) {
+            // removed before the listener was told it was added, so tell it again
+            currentListener.removed(entry.sessionId);
+        }
+    }
+
+    void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Share the live session of a device with another holder and mark it as used.
+     *
+     * @param identity device identity
+     * @param holderId session identifier of the new holder, which it releases the session with
+     * @return true if the session is shared with the holder, false if the device has no live session or the session
+     *     identifier is already in use
+     */
+    boolean acquire(Object identity, String holderId) {
+        String sessionId = sessionIdsByIdentity.get(identity);
+        if (sessionId == null) {
+            return false;
+        }
+        Entry entry = entries.get(sessionId);
+        if (entry == null || entries.containsKey(holderId) || !entry.retain()) {
+            return false;
+        }
+        entry.addHolder(holderId);
+        if (sharedIds.putIfAbsent(holderId, entry) != null) {
+            entry.removeHolder(holderId);
+            release(entry);
+            return false;
+        }
+        totalWeight.addAndGet(SHARED_ID_BYTES);
+        liveSessionIds.incrementAndGet();
+        if (entries.get(sessionId) != entry) {
+            // removed while it was acquired, possibly before the holder ID could be removed with it
+            if (entry.removeHolder(holderId)) {
+                liveSessionIds.decrementAndGet();
+            }
+            removeSharedId(holderId, entry);
+            return false;
+        }
+        entry.touch(epoch.get(), expiryWheel.currentTick());
+        Listener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.added(holderId, entry.identity);
+        }
+        if (overCapacity()) {
+            evict();
+        }
+        return entry.holderIds.contains(holderId);
+    }
+
+    /**
+     * Release a session, removing it once every holder released it. Releasing a session ID again has no effect, so
+     * a holder closing its session twice does not release the session of another holder.
+     *
+     * @param sessionId session identifier of the holder
+     */
+    void release(String sessionId) {
+        Entry entry = lookup(sessionId);
+        if (entry != null) {
+            releaseHolder(entry, sessionId);
+        }
+    }
+
+    // Returns false if the holder already released the session
+    private boolean releaseHolder(Entry entry, String holderId) {
+        if (!entry.removeHolder(holderId)) {
+            return false;
+        }
+        liveSessionIds.decrementAndGet();
+        removeSharedId(holderId, entry);
+        Listener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.removed(holderId);
+        }
+        release(entry);
+        return true;
+    }
+
+    private void removeSharedId(String holderId, Entry entry) {
+        if (sharedIds.remove(holderId, entry)) {
+            totalWeight.addAndGet(-SHARED_ID_BYTES);
+        }
+    }
+
+    private void release(Entry entry) {
+        if (entry.release()) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Remove a session regardless of its holders.
+     *
+     * @param sessionId session identifier of any holder
+     * @return removed session, or null if there was no session with this ID
+     */
+    Session remove(String sessionId) {
+        Entry entry = lookup(sessionId);
+        if (entry == null || !remove(entry)) {
+            return null;
+        }
+        return entry.session;
+    }
+
+    private boolean remove(Entry entry) {
+        if (!entries.remove(entry.sessionId, entry)) {
+            return false;
+        }
+        List<String> holderIds = unindex(entry);
+        Listener currentListener = listener;
+        if (currentListener != null) {
+            holderIds.forEach(currentListener::removed);
+        }
+        return true;
+    }
+
+    // Returns the session IDs of the holders which did not release the session yet
+    private List<String> unindex(Entry entry) {
+        totalWeight.addAndGet(-entry.unindex());
+        if (entry.identity != null) {
+            sessionIdsByIdentity.remove(entry.identity, entry.sessionId);
+        }
+        expiryWheel.cancel(entry.expiry);
+        List<String> holderIds = entry.removeHolders();
+        liveSessionIds.addAndGet(-holderIds.size());
+        holderIds.forEach(holderId -> removeSharedId(holderId, entry));
+        return holderIds;
+    }
+
+    /**
+     * Weigh the sessions again if sessions are limited by their total weight, and evict the least recently used
+     * sessions if they are over the limit now.
+     */
+    void reweigh() {
+        if (capacityBytes.getAsLong() <= 0) {
+            return;
+        }
+        for (Entry entry : entries.values()) {
+            totalWeight.addAndGet(entry.reweigh(weigher.applyAsLong(entry.session)));
+        }
+        if (overCapacity()) {
+            evict();
+        }
+    }
+
+    /**
+     * Advance the expiry clock by one tick and remove the sessions whose idle timeout or lifetime elapsed. Timeouts
+     * apply to sessions added while they are configured, and changed timeouts apply when a session's timeout next
+     * fires.
+     *
+     * @param listener called with the ID of each expired session and the reason it expired
+     */
+    void expireSessions(BiConsumer<String, ExpiryReason> listener) {
+        expiryWheel.advance(entry -> expire(entry, listener));
+    }
+
+    private void expire(Entry entry, BiConsumer<String, ExpiryReason> listener) {
+        long now = expiryWheel.currentTick();
+        long deadline = deadline(entry);
+        if (deadline == NO_DEADLINE || entries.get(entry.sessionId) != entry) {
+            return;
+        }
+        if (deadline > now) {
+            // used since the timeout was scheduled
+            expiryWheel.schedule(entry.expiry, deadline);
+            return;
+        }
+        if (remove(entry)) {
+            long lifetime = lifetimeTicks.getAsLong();
+            ExpiryReason reason = lifetime > 0 && entry.createdTick + lifetime <= now
+                    ? ExpiryReason.LIFETIME_EXCEEDED : ExpiryReason.IDLE_TIMEOUT;
+            logger.atTrace().kv(SESSION_ID, entry.sessionId).kv("reason", reason).log("Session expired");
+            listener.accept(entry.sessionId, reason);
+        }
+    }
+
+    private long deadline(Entry entry) {
+        long deadline = NO_DEADLINE;
+        long idleTimeout = idleTimeoutTicks.getAsLong();
+        if (idleTimeout > 0) {
+            deadline = entry.lastUsedTick + idleTimeout;
+        }
+        long lifetime = lifetimeTicks.getAsLong();
+        if (lifetime > 0) {
+            deadline = Math.min(deadline, entry.createdTick + lifetime);
+        }
+        return deadline;
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            while (overCapacity()) {
+                Entry victim = sampleLeastRecentlyUsed();
+                if (victim == null) {
+                    return;
+                }
+                // The last holder is released with the session
+                String oldestHolder = victim.holderIds.size() > 1 ? victim.holderOrder.poll() : null;
+                if (oldestHolder != null) {
+                    if (releaseHolder(victim, oldestHolder)) {
+                        logger.atTrace().kv(SESSION_ID, oldestHolder)
+                                .log("Session Cache reached its capacity. Releasing oldest holder of shared session.");
+                    }
+                    continue;
+                }
+                if (remove(victim)) {
+                    logger.atTrace().kv(SESSION_ID, victim.sessionId)
+                            .log("Session Cache reached its capacity. Closing session.");
+                }
+            }
+        }
+    }
+
+    private boolean overCapacity() {
+        int size = liveSessionIds.get();
+        if (size > capacity.getAsInt()) {
+            return true;
+        }
+        long maxWeight = capacityBytes.getAsLong();
+        return maxWeight > 0 && size > 1 && totalWeight.get() > maxWeight;
+    }
+
+    private Entry sampleLeastRecentlyUsed() {
+        Entry victim = null;
+        if (entries.size() <= EVICTION_SAMPLE_SIZE) {
+            for (Entry entry : entries.values()) {
+                victim = leastRecentlyUsed(victim, entry);
+            }
+            return victim;
+        }
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE; i++) {
+            if (evictionCursor == null || !evictionCursor.hasNext()) {
+                evictionCursor = entries.values().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+            victim = leastRecentlyUsed(victim, evictionCursor.next());
+        }
+        return victim;
+    }
+
+    private static Entry leastRecentlyUsed(Entry current, Entry candidate) {
+        if (current == null || candidate.lastAccess < current.lastAccess) {
+            return candidate;
+        }
+        return current;
+    }
+
+    /**
+     * Listener of sessions added to and removed from the store. Called on the thread which changed the store.
+     */
+    interface Listener {
+        void added(String sessionId, Object identity);
+
+        void removed(String sessionId);
+    }
+
+    private static final class Entry {
+        private final String sessionId;
+        private final Session session;
+        private final Object identity;
+        // Guarded by this. Counted towards the total weight of the store while the entry is indexed
+        private long weight;
+        private boolean indexed;
+        private boolean unindexed;
+        private final AtomicInteger references = new AtomicInteger(1);
+        // Session IDs of the holders which did not release the session yet, and the order they acquired it in
+        private final Set<String> holderIds = ConcurrentHashMap.newKeySet();
+        private final Queue<String> holderOrder = new ConcurrentLinkedQueue<>();
+        private final long createdTick;
+        private final TimingWheel.Timeout<Entry> expiry = new TimingWheel.Timeout<>(this);
+        private volatile long lastAccess;
+        private volatile long lastUsedTick;
+
+        Entry(String sessionId, Session session, Object identity, long weight, long lastAccess, long createdTick,
+              long lastUsedTick) {
+            this.sessionId = sessionId;
+            this.session = session;
+            this.identity = identity;
+            this.weight = weight;
+            this.lastAccess = lastAccess;
+            this.createdTick = createdTick;
+            this.lastUsedTick = lastUsedTick;
+            addHolder(sessionId);
+        }
+
+        void addHolder(String holderId) {
+            holderIds.add(holderId);
+            holderOrder.add(holderId);
+        }
+
+        // Returns false if the holder already released the session
+        boolean removeHolder(String holderId) {
+            if (!holderIds.remove(holderId)) {
+                return false;
+            }
+            holderOrder.remove(holderId);
+            return true;
+        }
+
+        List<String> removeHolders() {
+            List<String> removed = new ArrayList<>(holderIds);
+            holderIds.clear();
+            holderOrder.clear();
+            return removed;
+        }
+
+        // Fails once the last reference was released, as the session is then being removed
+        boolean retain() {
+            int current;
+            do {
+                current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        // Returns true when the last reference was released
+        boolean release() {
+            return references.decrementAndGet() == 0;
+        }
+
+        // Each of the following returns the change to the total weight of the store
+        synchronized long index() {
+            if (unindexed) {
+                return 0;
+            }
+            indexed = true;
+            return weight;
+        }
+
+        synchronized long unindex() {
+            long removed = indexed && !unindexed ? weight : 0;
+            unindexed = true;
+            return removed;
+        }
+
+        synchronized long reweigh(long newWeight) {
+            long delta = indexed && !unindexed ? newWeight - weight : 0;
+            weight = newWeight;
+            return delta;
+        }
+
+        void touch(long now, long tick) {
+            // Skip the writes when already current, so hot sessions read by many threads stay in shared cache lines
+            if (lastAccess != now) {
+                lastAccess = now;
+            }
+            if (lastUsedTick != tick) {
+                lastUsedTick = tick;
+            }
+        }
+    }
+}
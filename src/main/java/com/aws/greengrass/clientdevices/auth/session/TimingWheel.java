@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel. Timeouts are hashed by their deadline tick into a ring of buckets, so scheduling and cancelling
+ * are constant time and each tick only visits the timeouts of a single bucket. Timeouts further away than one
+ * revolution of the wheel stay in their bucket until a revolution reaches their deadline.
+ *
+ * <p>The wheel has no clock of its own. Its owner advances it one tick at a time.</p>
+ *
+ * @param <T> type of the items with a timeout
+ */
+final class TimingWheel<T> {
+    private final Timeout<T>[] buckets;
+    private final int mask;
+    private volatile long currentTick;
+
+    /**
+     * Constructor.
+     *
+     * @param size number of buckets, a power of two
+     * @throws IllegalArgumentException if the size is not a power of two
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(int size) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Timing wheel size must be a power of two");
+        }
+        this.buckets = (Timeout<T>[]) new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Schedule a timeout, replacing its previous deadline if it is already scheduled. Deadlines which are not in the
+     * future expire on the next tick.
+     *
+     * @param timeout      timeout
+     * @param deadlineTick tick at which the timeout expires
+     */
+    synchronized void schedule(Timeout<T> timeout, long deadlineTick) {
+        unlink(timeout);
+        timeout.deadline = Math.max(deadlineTick, currentTick + 1);
+        int index = (int) (timeout.deadline & mask);
+        timeout.next = buckets[index];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        buckets[index] = timeout;
+        timeout.scheduled = true;
+    }
+
+    synchronized void cancel(Timeout<T> timeout) {
+        unlink(timeout);
+    }
+
+    /**
+     * Advance the wheel by one tick.
+     *
+     * @param expired called outside the wheel's lock with the item of each timeout which expired on this tick
+     */
+    void advance(Consumer<T> expired) {
+        List<T> due = new ArrayList<>();
+        synchronized (this) {
+            long tick = currentTick + 1;
+            Timeout<T> timeout = buckets[(int) (tick & mask)];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.deadline <= tick) {
+                    unlink(timeout);
+                    due.add(timeout.item);
+                }
+                timeout = next;
+            }
+            currentTick = tick;
+        }
+        due.forEach(expired);
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (!timeout.scheduled) {
+            return;
+        }
+        if (timeout.prev == null) {
+            buckets[(int) (timeout.deadline & mask)] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.scheduled = false;
+    }
+
+    /**
+     * Timeout of an item, linked into a bucket of the wheel while scheduled. Guarded by the wheel.
+     *
+     * @param <T> type of the item
+     */
+    static final class Timeout<T> {
+        private final T item;
+        private long deadline;
+        private boolean scheduled;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        Timeout(T item) {
+            this.item = item;
+        }
+    }
+}
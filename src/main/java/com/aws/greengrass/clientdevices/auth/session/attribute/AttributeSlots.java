@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session.attribute;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of session attribute slots. Each (namespace, attribute name) pair is assigned a small integer slot the
+ * first time it is used, so that the attributes of a session can be stored in an array indexed by slot.
+ */
+public final class AttributeSlots {
+    public static final int NO_SLOT = -1;
+
+    private static final Map<String, Map<String, Integer>> SLOTS = new ConcurrentHashMap<>();
+    // Namespace and attribute name by slot
+    private static final Map<Integer, Map.Entry<String, String>> ATTRIBUTES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private AttributeSlots() {
+    }
+
+    /**
+     * Get the slot of an attribute, assigning a new slot if the attribute has none yet.
+     *
+     * @param namespace     attribute namespace
+     * @param attributeName attribute name
+     * @return attribute slot
+     */
+    public static int of(String namespace, String attributeName) {
+        return SLOTS.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(attributeName, k -> {
+                    int slot = NEXT_SLOT.getAndIncrement();
+                    ATTRIBUTES.put(slot, new AbstractMap.SimpleImmutableEntry<>(namespace, attributeName));
+                    return slot;
+                });
+    }
+
+    /**
+     * Get the attribute a slot was assigned to.
+     *
+     * @param slot attribute slot
+     * @return namespace and attribute name, or null if the slot was not assigned
+     */
+    public static Map.Entry<String, String> attributeOf(int slot) {
+        return ATTRIBUTES.get(slot);
+    }
+
+    /**
+     * Get the slot of an attribute without assigning one.
+     *
+     * @param namespace     attribute namespace
+     * @param attributeName attribute name
+     * @return attribute slot, or {@link #NO_SLOT} if no attribute with this name was seen yet
+     */
+    public static int find(String namespace, String attributeName) {
+        Map<String, Integer> slots = SLOTS.get(namespace);
+        if (slots == null) {
+            return NO_SLOT;
+        }
+        Integer slot = slots.get(attributeName);
+        return slot == null ? NO_SLOT : slot;
+    }
+}
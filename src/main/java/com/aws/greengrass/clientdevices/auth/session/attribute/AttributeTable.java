@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session.attribute;
+
+import java.util.Map;
+
+/**
+ * Attributes of a session, indexed by their {@link AttributeSlots slot}. The table is filled once from the session's
+ * attribute providers, so looking up an attribute is an array access.
+ */
+public final class AttributeTable {
+    public static final AttributeTable EMPTY = new AttributeTable(new DeviceAttribute[0]);
+
+    private final DeviceAttribute[] attributes;
+
+    private AttributeTable(DeviceAttribute[] attributes) {
+        this.attributes = attributes;
+    }
+
+    /**
+     * Collect the attributes of attribute providers.
+     *
+     * @param providers attribute providers, with distinct namespaces
+     * @return attribute table
+     */
+    public static AttributeTable of(Iterable<? extends AttributeProvider> providers) {
+        DeviceAttribute[] attributes = EMPTY.attributes;
+        for (AttributeProvider provider : providers) {
+            for (Map.Entry<String, DeviceAttribute> entry : provider.getDeviceAttributes().entrySet()) {
+                int slot = AttributeSlots.of(provider.getNamespace(), entry.getKey());
+                if (slot >= attributes.length) {
+                    DeviceAttribute[] grown = new DeviceAttribute[slot + 1];
+                    System.arraycopy(attributes, 0, grown, 0, attributes.length);
+                    attributes = grown;
+                }
+                attributes[slot] = entry.getValue();
+            }
+        }
+        return attributes.length == 0 ? EMPTY : new AttributeTable(attributes);
+    }
+
+    /**
+     * Get an attribute.
+     *
+     * @param slot attribute slot
+     * @return attribute, or null if there is no attribute in this slot
+     */
+    public DeviceAttribute get(int slot) {
+        if (slot < 0 || slot >= attributes.length) {
+            return null;
+        }
+        return attributes[slot];
+    }
+}
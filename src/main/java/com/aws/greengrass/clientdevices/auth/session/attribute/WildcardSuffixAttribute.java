@@ -14,10 +14,15 @@ public class WildcardSuffixAttribute implements DeviceAttribute {
         value = attributeValue;
     }
 
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public boolean matches(@NonNull String expr) {
         if (expr.endsWith("*")) {
-            return value.startsWith(expr.substring(0, expr.length() - 1));
+            int prefixLength = expr.length() - 1;
+            return value.length() >= prefixLength && value.regionMatches(0, expr, 0, prefixLength);
         } else {
             return value.equals(expr);
         }
@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public class SessionExpiredEvent implements DomainEvent {
+    @Getter
+    private ExpiryReason expiryReason;
+
+    public enum ExpiryReason {
+        // the session was not used for longer than the idle timeout
+        IDLE_TIMEOUT,
+        // the session existed for longer than the maximum lifetime
+        LIFETIME_EXCEEDED
+    }
+}
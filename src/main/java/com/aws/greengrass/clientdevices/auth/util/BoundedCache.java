@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent cache bounded to a number of entries. Beyond that, entries are evicted one at a time using the CLOCK
+ * policy: an entry read since the eviction hand last passed it gets a second chance, so entries in use survive a burst
+ * of entries which are only used once.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+    private final int capacity;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // Eviction hand, kept across evictions so that every entry is passed in turn. Guarded by this
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    public BoundedCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get a cached value.
+     *
+     * @param key key
+     * @return cached value, or null if there is none
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.referenced = true;
+        return entry.value;
+    }
+
+    /**
+     * Cache a value, evicting an entry if the cache is full.
+     *
+     * @param key   key
+     * @param value value
+     */
+    public void put(K key, V value) {
+        if (entries.put(key, new Entry<>(value)) == null && entries.size() > capacity) {
+            evict();
+        }
+    }
+
+    /**
+     * Remove a cached value.
+     *
+     * @param key key
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private synchronized void evict() {
+        // Each entry gets at most one second chance per eviction, even if it is read again in the meantime
+        int secondChances = entries.size();
+        while (entries.size() > capacity) {
+            if (hand == null || !hand.hasNext()) {
+                hand = entries.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Entry<V> entry = hand.next().getValue();
+            if (entry.referenced && secondChances-- > 0) {
+                entry.referenced = false;
+            } else {
+                hand.remove();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
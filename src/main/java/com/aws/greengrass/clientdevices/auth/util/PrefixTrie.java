@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie answering "does any stored prefix start the given value". Children are kept in sorted
+ * arrays so that lookups are allocation free and cost O(length of value).
+ */
+public final class PrefixTrie {
+    private static final PrefixTrie EMPTY = new PrefixTrie(null);
+
+    private final Node root;
+
+    private PrefixTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Build a trie from a collection of prefixes.
+     *
+     * @param prefixes prefixes to store. An empty prefix matches every value
+     * @return prefix trie
+     */
+    public static PrefixTrie of(Collection<String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            return EMPTY;
+        }
+        BuilderNode builderRoot = new BuilderNode();
+        for (String prefix : prefixes) {
+            BuilderNode current = builderRoot;
+            for (int i = 0; i < prefix.length(); i++) {
+                current = current.children.computeIfAbsent(prefix.charAt(i), k -> new BuilderNode());
+            }
+            current.terminal = true;
+        }
+        return new PrefixTrie(builderRoot.freeze());
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Check whether any stored prefix is a prefix of the given value.
+     *
+     * @param value value to test
+     * @return true if a stored prefix matches
+     */
+    public boolean matchesPrefixOf(String value) {
+        Node current = root;
+        int i = 0;
+        while (current != null) {
+            if (current.terminal) {
+                return true;
+            }
+            if (i == value.length()) {
+                return false;
+            }
+            current = current.child(value.charAt(i++));
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final boolean terminal;
+        private final char[] keys;
+        private final Node[] children;
+
+        Node(boolean terminal, char[] keys, Node[] children) {
+            this.terminal = terminal;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx < 0) {
+                return null;
+            }
+            return children[idx];
+        }
+    }
+
+    private static final class BuilderNode {
+        private final Map<Character, BuilderNode> children = new TreeMap<>();
+        private boolean terminal;
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(terminal, keys, frozen);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Immutable character trie mapping prefixes to values, answering "which stored prefixes start the given value". Like
+ * {@link PrefixTrie}, children are kept in sorted arrays so that lookups cost O(length of value).
+ *
+ * @param <V> value type
+ */
+public final class PrefixTrieMap<V> {
+    private static final PrefixTrieMap<?> EMPTY = new PrefixTrieMap<>(null);
+
+    private final Node<V> root;
+
+    private PrefixTrieMap(Node<V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Build a trie from a map of prefixes to values.
+     *
+     * @param prefixes prefixes to store. An empty prefix matches every value
+     * @param <V>      value type
+     * @return prefix trie map
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PrefixTrieMap<V> of(Map<String, V> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            return (PrefixTrieMap<V>) EMPTY;
+        }
+        BuilderNode<V> builderRoot = new BuilderNode<>();
+        for (Map.Entry<String, V> entry : prefixes.entrySet()) {
+            String prefix = entry.getKey();
+            BuilderNode<V> current = builderRoot;
+            for (int i = 0; i < prefix.length(); i++) {
+                current = current.children.computeIfAbsent(prefix.charAt(i), k -> new BuilderNode<>());
+            }
+            current.value = entry.getValue();
+        }
+        return new PrefixTrieMap<>(builderRoot.freeze());
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Call an action with the value of every stored prefix of the given value, shortest prefix first.
+     *
+     * @param value  value to test
+     * @param action action to call
+     */
+    public void forEachPrefixOf(String value, Consumer<? super V> action) {
+        Node<V> current = root;
+        int i = 0;
+        while (current != null) {
+            if (current.value != null) {
+                action.accept(current.value);
+            }
+            if (i == value.length()) {
+                return;
+            }
+            current = current.child(value.charAt(i++));
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private final char[] keys;
+        private final Node<V>[] children;
+
+        Node(V value, char[] keys, Node<V>[] children) {
+            this.value = value;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        Node<V> child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx < 0) {
+                return null;
+            }
+            return children[idx];
+        }
+    }
+
+    private static final class BuilderNode<V> {
+        private final Map<Character, BuilderNode<V>> children = new TreeMap<>();
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        Node<V> freeze() {
+            char[] keys = new char[children.size()];
+            Node<V>[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuilderNode<V>> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node<>(value, keys, frozen);
+        }
+    }
+}
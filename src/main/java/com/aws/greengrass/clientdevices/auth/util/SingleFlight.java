@@ -0,0 +1,209 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key. The first caller runs the call on its own thread, and callers which
+ * arrive while it is in flight wait for and share its result, or the exception it threw.
+ *
+ * <p>Results can optionally be retained after the call completed, and shared with callers which requested them
+ * before the call completed but only got to run afterwards, such as requests queued for a thread of a bounded pool.
+ * A caller never gets a result which completed before it was requested, and exceptions are never retained.</p>
+ *
+ * <p>Calls can also be run asynchronously on an executor, in which case callers which share a call wait for its
+ * result without holding a thread.</p>
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+    private final long retentionNanos;
+    private final LongSupplier ticker;
+    private final AtomicLong lastSweep;
+
+    /**
+     * Construct a SingleFlight which only shares results of calls in flight.
+     */
+    public SingleFlight() {
+        this(Duration.ZERO);
+    }
+
+    /**
+     * Construct a SingleFlight which also retains results of completed calls.
+     *
+     * @param retention how long the result of a call is retained after it completed
+     */
+    public SingleFlight(Duration retention) {
+        this(retention, System::nanoTime);
+    }
+
+    SingleFlight(Duration retention, LongSupplier ticker) {
+        this.retentionNanos = retention.toNanos();
+        this.ticker = ticker;
+        this.lastSweep = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * Run a call, or wait for the call already in flight for the same key.
+     *
+     * @param key  key identifying equivalent calls
+     * @param call call to run
+     * @return result of the call
+     * @throws RuntimeException thrown by the call
+     */
+    public V execute(K key, Supplier<V> call) {
+        return execute(key, ticker.getAsLong(), call);
+    }
+
+    /**
+     * Run a call, or share the result of the call for the same key which is in flight, or which completed after the
+     * result was requested.
+     *
+     * @param key         key identifying equivalent calls
+     * @param requestedAt time the result was requested, from {@link System#nanoTime()}
+     * @param call        call to run
+     * @return result of the call
+     * @throws RuntimeException thrown by the call
+     */
+    public V execute(K key, long requestedAt, Supplier<V> call) {
+        Call<V> ours = new Call<>();
+        Call<V> shared = register(key, requestedAt, ours);
+        if (shared != null) {
+            return await(shared.future);
+        }
+        run(key, ours, call);
+        return await(ours.future);
+    }
+
+    /**
+     * Run a call on an executor, or share the result of the call for the same key which is in flight, or which
+     * completed after the result was requested.
+     *
+     * @param key         key identifying equivalent calls
+     * @param requestedAt time the result was requested, from {@link System#nanoTime()}
+     * @param call        call to run
+     * @param executor    executor to run the call on
+     * @return future which completes with the result of the call, or exceptionally with a
+     *     {@link java.util.concurrent.CompletionException} caused by the exception the call threw, or by a
+     *     {@link RejectedExecutionException} if the executor did not accept the call
+     */
+    public CompletableFuture<V> executeAsync(K key, long requestedAt, Supplier<V> call, Executor executor) {
+        Call<V> ours = new Call<>();
+        Call<V> shared = register(key, requestedAt, ours);
+        Call<V> callToShare = shared == null ? ours : shared;
+        if (shared == null) {
+            try {
+                executor.execute(() -> run(key, ours, call));
+            } catch (RejectedExecutionException e) {
+                calls.remove(key, ours);
+                ours.future.completeExceptionally(e);
+            }
+        }
+        // A dependent future for each caller, so that a caller cancelling its future does not affect the others
+        return callToShare.future.thenApply(result -> result);
+    }
+
+    // Returns the call to share, or null if our call was registered and has to be run
+    private Call<V> register(K key, long requestedAt, Call<V> ours) {
+        Call<V> existing = calls.putIfAbsent(key, ours);
+        while (existing != null) {
+            if (existing.isSharedWith(requestedAt)) {
+                return existing;
+            }
+            calls.remove(key, existing);
+            existing = calls.putIfAbsent(key, ours);
+        }
+        return null;
+    }
+
+    // Completes the future of the call with its result, or the exception it threw
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void run(K key, Call<V> ours, Supplier<V> call) {
+        try {
+            V result = call.get();
+            if (retentionNanos > 0) {
+                long now = ticker.getAsLong();
+                ours.complete(now);
+                sweepExpired(now);
+            } else {
+                calls.remove(key, ours);
+            }
+            ours.future.complete(result);
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, ours);
+            ours.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Get the number of calls in flight.
+     *
+     * @return number of keys with a call in flight
+     */
+    public int inFlight() {
+        return (int) calls.values().stream().filter(c -> !c.completed).count();
+    }
+
+    /**
+     * Get the number of keys with a call in flight or a retained result.
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return calls.size();
+    }
+
+    private void sweepExpired(long now) {
+        // Results of keys which aren't requested again are removed at most once per retention period
+        long sweptAt = lastSweep.get();
+        if (now - sweptAt >= retentionNanos && lastSweep.compareAndSet(sweptAt, now)) {
+            calls.values().removeIf(c -> c.completed && now - c.completedAt >= retentionNanos);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rethrow what the call threw, so waiting callers handle the same exceptions as the one which ran it
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Call<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt;
+        private volatile boolean completed;
+
+        void complete(long now) {
+            completedAt = now;
+            completed = true;
+        }
+
+        boolean isSharedWith(long requestedAt) {
+            return !completed || completedAt - requestedAt > 0;
+        }
+    }
+}
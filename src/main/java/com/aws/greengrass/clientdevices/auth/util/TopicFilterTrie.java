@@ -0,0 +1,231 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable trie of MQTT topic filters, one node per topic level. Supports the single-level '+' and multi-level '#'
+ * wildcards. A topic or topic filter matches if it is covered by one of the stored filters:
+ * <ul>
+ *     <li>a literal level is matched by the same literal, '+' or '#'</li>
+ *     <li>a '+' level is only matched by '+' or '#'</li>
+ *     <li>a '#' level is only matched by '#'</li>
+ * </ul>
+ * As in MQTT, wildcards in the first level do not match levels starting with '$'. Lookups walk the topic in place
+ * without splitting it, so they cost O(topic depth) and do not allocate.
+ */
+public final class TopicFilterTrie {
+    public static final String SINGLE_LEVEL_WILDCARD = "+";
+    public static final String MULTI_LEVEL_WILDCARD = "#";
+    private static final char LEVEL_SEPARATOR = '/';
+    private static final char SYSTEM_TOPIC_PREFIX = '$';
+    private static final TopicFilterTrie EMPTY = new TopicFilterTrie(null);
+
+    private final Node root;
+
+    private TopicFilterTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Build a trie from a collection of topic filters.
+     *
+     * @param topicFilters MQTT topic filters. Filters must be valid, see {@link #isValidTopicFilter(String)}
+     * @return topic filter trie
+     * @throws IllegalArgumentException if a topic filter is not valid
+     */
+    public static TopicFilterTrie of(Collection<String> topicFilters) {
+        if (topicFilters == null || topicFilters.isEmpty()) {
+            return EMPTY;
+        }
+        BuilderNode builderRoot = new BuilderNode();
+        for (String topicFilter : topicFilters) {
+            if (!isValidTopicFilter(topicFilter)) {
+                throw new IllegalArgumentException(String.format("Invalid topic filter %s", topicFilter));
+            }
+            BuilderNode current = builderRoot;
+            for (String level : splitLevels(topicFilter)) {
+                if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                    current.multiLevel = true;
+                    current = null;
+                    break;
+                }
+                if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                    if (current.singleLevel == null) {
+                        current.singleLevel = new BuilderNode();
+                    }
+                    current = current.singleLevel;
+                } else {
+                    current = current.children.computeIfAbsent(level, k -> new BuilderNode());
+                }
+            }
+            if (current != null) {
+                current.terminal = true;
+            }
+        }
+        return new TopicFilterTrie(builderRoot.freeze());
+    }
+
+    /**
+     * Check whether a topic filter is valid: a '#' wildcard may only appear as the whole last level.
+     *
+     * @param topicFilter topic filter
+     * @return true if valid
+     */
+    public static boolean isValidTopicFilter(String topicFilter) {
+        int hashIdx = topicFilter.indexOf('#');
+        if (hashIdx < 0) {
+            return true;
+        }
+        return hashIdx == topicFilter.length() - 1 && (hashIdx == 0
+                || topicFilter.charAt(hashIdx - 1) == LEVEL_SEPARATOR);
+    }
+
+    /**
+     * Check whether a topic filter contains a '+' or '#' level.
+     *
+     * @param topicFilter topic filter
+     * @return true if the filter has a wildcard level
+     */
+    public static boolean hasWildcardLevel(String topicFilter) {
+        for (String level : splitLevels(topicFilter)) {
+            if (SINGLE_LEVEL_WILDCARD.equals(level) || MULTI_LEVEL_WILDCARD.equals(level)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Check whether a topic or topic filter is covered by one of the stored topic filters.
+     *
+     * @param topic topic or topic filter
+     * @return true if covered
+     */
+    public boolean matches(String topic) {
+        return root != null && matches(root, topic, 0);
+    }
+
+    private static boolean matches(Node node, String topic, int levelStart) {
+        if (levelStart > topic.length()) {
+            // All levels consumed. '#' also matches the parent level
+            return node.terminal || node.multiLevel;
+        }
+        int levelEnd = topic.indexOf(LEVEL_SEPARATOR, levelStart);
+        if (levelEnd < 0) {
+            levelEnd = topic.length();
+        }
+        int levelLength = levelEnd - levelStart;
+        boolean wildcardsApply = levelStart != 0 || levelLength == 0 || topic.charAt(0) != SYSTEM_TOPIC_PREFIX;
+
+        if (node.multiLevel && wildcardsApply) {
+            return true;
+        }
+        if (levelLength == 1 && topic.charAt(levelStart) == '#') {
+            return false;
+        }
+        if (node.singleLevel != null && wildcardsApply && matches(node.singleLevel, topic, levelEnd + 1)) {
+            return true;
+        }
+        if (levelLength == 1 && topic.charAt(levelStart) == '+') {
+            return false;
+        }
+        Node child = node.child(topic, levelStart, levelEnd);
+        return child != null && matches(child, topic, levelEnd + 1);
+    }
+
+    private static List<String> splitLevels(String topic) {
+        List<String> levels = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int end = topic.indexOf(LEVEL_SEPARATOR, start);
+            if (end < 0) {
+                levels.add(topic.substring(start));
+                return levels;
+            }
+            levels.add(topic.substring(start, end));
+            start = end + 1;
+        }
+    }
+
+    private static int hash(String s, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h;
+    }
+
+    private static final class Node {
+        private final boolean terminal;
+        private final boolean multiLevel;
+        private final Node singleLevel;
+        // open addressing table of literal children
+        private final String[] levels;
+        private final Node[] children;
+
+        Node(boolean terminal, boolean multiLevel, Node singleLevel, String[] levels, Node[] children) {
+            this.terminal = terminal;
+            this.multiLevel = multiLevel;
+            this.singleLevel = singleLevel;
+            this.levels = levels;
+            this.children = children;
+        }
+
+        Node child(String topic, int start, int end) {
+            if (levels.length == 0) {
+                return null;
+            }
+            int mask = levels.length - 1;
+            int length = end - start;
+            for (int slot = hash(topic, start, end) & mask; levels[slot] != null; slot = (slot + 1) & mask) {
+                String level = levels[slot];
+                if (level.length() == length && topic.regionMatches(start, level, 0, length)) {
+                    return children[slot];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class BuilderNode {
+        private final Map<String, BuilderNode> children = new HashMap<>();
+        private BuilderNode singleLevel;
+        private boolean multiLevel;
+        private boolean terminal;
+
+        Node freeze() {
+            int tableSize = 0;
+            if (!children.isEmpty()) {
+                // keep the load factor at or below 0.5 so that probing always finds an empty slot
+                tableSize = Integer.highestOneBit(children.size()) << 2;
+            }
+            String[] levels = new String[tableSize];
+            Node[] frozen = new Node[tableSize];
+            int mask = tableSize - 1;
+            for (Map.Entry<String, BuilderNode> entry : children.entrySet()) {
+                String level = entry.getKey();
+                int slot = hash(level, 0, level.length()) & mask;
+                while (levels[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                levels[slot] = level;
+                frozen[slot] = entry.getValue().freeze();
+            }
+            return new Node(terminal, multiLevel, singleLevel == null ? null : singleLevel.freeze(), levels,
+                    frozen);
+        }
+    }
+}
@@ -5,14 +5,16 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
-import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
+import com.aws.greengrass.clientdevices.auth.certificate.ComponentCertificateValidator;
 import com.aws.greengrass.componentmanager.KernelConfigResolver;
 import com.aws.greengrass.config.Topics;
 import com.aws.greengrass.dependency.Context;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
+import com.aws.greengrass.clientdevices.auth.configuration.PermissionIndex;
 import com.aws.greengrass.clientdevices.auth.exception.AuthorizationException;
 import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
@@ -26,11 +28,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Collections;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
@@ -47,7 +52,10 @@ public class DeviceAuthClientTest {
 
     @Mock
     @SuppressWarnings("PMD.UnusedPrivateField") // Required for injecting into DeviceAuthClient
-    private CertificateStore certificateStore;
+    private ComponentCertificateValidator componentCertificateValidator;
+
+    @Mock
+    private ClientDeviceAuthMetrics metrics;
 
     private Topics configurationTopics;
 
@@ -84,16 +92,72 @@ public class DeviceAuthClientTest {
     void GIVEN_sessionHasPermission_WHEN_canDevicePerform_THEN_authorizationReturnTrue() throws Exception {
         Session session = new SessionImpl();
         when(sessionManager.findSession("sessionId")).thenReturn(session);
-        when(groupManager.getApplicablePolicyPermissions(session)).thenReturn(Collections.singletonMap("group1",
-                Collections.singleton(
+        when(groupManager.getApplicablePermissionIndexes(session)).thenReturn(Collections.singletonList(
+                PermissionIndex.compile(Collections.singleton(
                         Permission.builder().operation("mqtt:publish").resource("mqtt:topic:foo").principal("group1")
-                                .build())));
+                                .build()))));
 
         boolean authorized = authClient.canDevicePerform(constructAuthorizationRequest());
 
         assertThat(authorized, is(true));
     }
 
+    @Test
+    void GIVEN_repeatedRequest_WHEN_canDevicePerform_THEN_cachedDecisionReturnedUntilConfigurationChanges()
+            throws Exception {
+        Session session = new SessionImpl();
+        when(sessionManager.findSession("sessionId")).thenReturn(session);
+        when(groupManager.getApplicablePermissionIndexes(session)).thenReturn(Collections.singletonList(
+                PermissionIndex.compile(Collections.singleton(
+                        Permission.builder().operation("mqtt:publish").resource("mqtt:topic:foo").principal("group1")
+                                .build()))));
+        when(groupManager.getConfigurationVersion()).thenReturn(1L);
+
+        assertThat(authClient.canDevicePerform(constructAuthorizationRequest()), is(true));
+        assertThat(authClient.canDevicePerform(constructAuthorizationRequest()), is(true));
+        verify(groupManager, times(1)).getApplicablePermissionIndexes(session);
+        verify(metrics, times(1)).authorizationCacheMiss();
+        verify(metrics, times(1)).authorizationCacheHit();
+
+        when(groupManager.getConfigurationVersion()).thenReturn(2L);
+        when(groupManager.getApplicablePermissionIndexes(session)).thenReturn(Collections.emptyList());
+
+        assertThat(authClient.canDevicePerform(constructAuthorizationRequest()), is(false));
+        verify(groupManager, times(2)).getApplicablePermissionIndexes(session);
+    }
+
+    @Test
+    void GIVEN_batchRequest_WHEN_canDevicePerform_THEN_permissionsResolvedOnceAndDecisionsReturnedInOrder()
+            throws Exception {
+        Session session = new SessionImpl();
+        when(sessionManager.findSession("sessionId")).thenReturn(session);
+        when(groupManager.getApplicablePermissionIndexes(session)).thenReturn(Collections.singletonList(
+                PermissionIndex.compile(Collections.singleton(
+                        Permission.builder().operation("mqtt:subscribe").resource("mqtt:topicfilter:foo/+")
+                                .principal("group1").build()))));
+        BatchAuthorizationRequest request = BatchAuthorizationRequest.builder().sessionId("sessionId")
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:foo/bar"))
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:bar/foo"))
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:foo/baz"))
+                .build();
+
+        BitSet decisions = authClient.canDevicePerform(request);
+
+        assertThat(decisions.get(0), is(true));
+        assertThat(decisions.get(1), is(false));
+        assertThat(decisions.get(2), is(true));
+        verify(sessionManager, times(1)).findSession("sessionId");
+        verify(groupManager, times(1)).getApplicablePermissionIndexes(session);
+    }
+
+    @Test
+    void GIVEN_batchRequestWithInvalidSessionId_WHEN_canDevicePerform_THEN_authorizationExceptionThrown() {
+        when(sessionManager.findSession("FAKE_SESSION")).thenReturn(null);
+        BatchAuthorizationRequest request = BatchAuthorizationRequest.builder().sessionId("FAKE_SESSION")
+                .action(new BatchAuthorizationRequest.Action("mqtt:connect", "mqtt:clientId:clientId")).build();
+        assertThrows(AuthorizationException.class, () -> authClient.canDevicePerform(request));
+    }
+
     @Test
     void GIVEN_internalClientSession_WHEN_canDevicePerform_THEN_authorizationReturnTrue() throws Exception {
         Session session = new SessionImpl(new Component());
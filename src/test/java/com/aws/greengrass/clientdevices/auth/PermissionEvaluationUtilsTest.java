@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
+import com.aws.greengrass.clientdevices.auth.configuration.AuthorizationPolicyStatement;
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 class PermissionEvaluationUtilsTest {
@@ -54,6 +57,63 @@ class PermissionEvaluationUtilsTest {
         assertThat(authorized, is(false));
     }
 
+    @Test
+    void GIVEN_deny_permission_in_any_group_WHEN_evaluate_operation_permission_THEN_deny_overrides_allow() {
+        Map<String, Set<Permission>> groupPermissions = new HashMap<>(prepareGroupPermissionsData());
+        groupPermissions.put("restricted", Collections.singleton(
+                Permission.builder().principal("restricted").operation("mqtt:publish").resource("mqtt:topic:a")
+                        .effect(AuthorizationPolicyStatement.Effect.DENY).build()));
+
+        boolean authorized = PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:a", groupPermissions);
+        assertThat(authorized, is(false));
+
+        authorized = PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:b", groupPermissions);
+        assertThat(authorized, is(true));
+    }
+
+    @Test
+    void GIVEN_malformed_operation_or_resource_WHEN_evaluate_operation_permission_THEN_throw_exception() {
+        Map<String, Set<Permission>> groupPermissions = prepareGroupPermissionsData();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt", "mqtt:topic:a", groupPermissions));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt:pub/lish", "mqtt:topic:a", groupPermissions));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:", groupPermissions));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:top1c:a", groupPermissions));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:a\tb", groupPermissions));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermissionEvaluationUtils.isAuthorized("mqtt:publish", "aws:topic:a", groupPermissions));
+    }
+
+    @Test
+    void GIVEN_repeated_request_WHEN_evaluate_operation_permission_THEN_same_decision_returned() {
+        Map<String, Set<Permission>> groupPermissions = prepareGroupPermissionsData();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:a", groupPermissions),
+                    is(true));
+            assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:d", groupPermissions),
+                    is(false));
+        }
+    }
+
+    @Test
+    void GIVEN_long_resource_WHEN_evaluate_operation_permission_THEN_decision_returned_and_resource_not_interned() {
+        Map<String, Set<Permission>> groupPermissions = prepareGroupPermissionsData();
+        String longTopic = String.join("", Collections.nCopies(PermissionEvaluationUtils.MAX_INTERNED_LENGTH, "a"));
+        int interned = PermissionEvaluationUtils.internedResources();
+
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:subscribe", "mqtt:topic:" + longTopic,
+                groupPermissions), is(true));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:" + longTopic,
+                groupPermissions), is(false));
+        assertThat(PermissionEvaluationUtils.internedResources(), is(interned));
+    }
+
     private Map<String, Set<Permission>> prepareGroupPermissionsData() {
         Permission[] sensorPermission =
                 {Permission.builder().principal("sensor").operation("mqtt:publish").resource("mqtt:topic:a").build(),
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
+import com.aws.greengrass.clientdevices.auth.iot.ParsedCertificate;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class ComponentCertificateValidatorTest {
+    private static X509Certificate rootCA;
+    private static X509Certificate otherCA;
+    private static String componentCertificatePem;
+
+    @Mock
+    private CertificateStore certificateStore;
+    @Mock
+    private Clock clock;
+
+    @BeforeEach
+    void beforeEach() {
+        lenient().when(clock.instant()).thenAnswer(invocation -> Instant.now());
+    }
+
+    @BeforeAll
+    static void beforeAll()
+            throws CertificateException, NoSuchAlgorithmException, OperatorCreationException, IOException {
+        KeyPair rootKeyPair = CertificateStore.newRSAKeyPair(2048);
+        KeyPair otherKeyPair = CertificateStore.newRSAKeyPair(2048);
+        KeyPair componentKeyPair = CertificateStore.newRSAKeyPair(2048);
+        rootCA = CertificateTestHelpers.createRootCertificateAuthority("root", rootKeyPair);
+        otherCA = CertificateTestHelpers.createRootCertificateAuthority("other", otherKeyPair);
+        componentCertificatePem = CertificateHelper.toPem(CertificateTestHelpers.createClientCertificate(rootCA,
+                "Component", componentKeyPair.getPublic(), rootKeyPair.getPrivate()));
+    }
+
+    @Test
+    void GIVEN_certificateIssuedByLocalCa_WHEN_validatedTwice_THEN_caLoadedOnce()
+            throws KeyStoreException, InvalidCertificateException {
+        when(certificateStore.getCACertificate()).thenReturn(rootCA);
+        ComponentCertificateValidator validator = new ComponentCertificateValidator(certificateStore, clock);
+        ParsedCertificate certificate = ParsedCertificate.of(componentCertificatePem);
+
+        assertThat(validator.isIssuedByLocalCa(certificate), is(true));
+        assertThat(validator.isIssuedByLocalCa(certificate), is(true));
+        verify(certificateStore, times(1)).getCACertificate();
+    }
+
+    @Test
+    void GIVEN_validatedCertificate_WHEN_caCertificateChainChanged_THEN_certificateRevalidated()
+            throws KeyStoreException, InvalidCertificateException {
+        when(certificateStore.getCACertificate()).thenReturn(rootCA);
+        ComponentCertificateValidator validator = new ComponentCertificateValidator(certificateStore, clock);
+        ParsedCertificate certificate = ParsedCertificate.of(componentCertificatePem);
+        assertThat(validator.isIssuedByLocalCa(certificate), is(true));
+
+        when(certificateStore.getCACertificate()).thenReturn(otherCA);
+        validator.caCertificateChainChanged();
+
+        assertThat(validator.isIssuedByLocalCa(certificate), is(false));
+        assertThat(validator.isIssuedByLocalCa(certificate), is(false));
+        verify(certificateStore, times(2)).getCACertificate();
+    }
+
+    @Test
+    void GIVEN_validatedCertificate_WHEN_certificateExpired_THEN_certificateRejected()
+            throws KeyStoreException, InvalidCertificateException {
+        when(certificateStore.getCACertificate()).thenReturn(rootCA);
+        ComponentCertificateValidator validator = new ComponentCertificateValidator(certificateStore, clock);
+        ParsedCertificate certificate = ParsedCertificate.of(componentCertificatePem);
+        assertThat(validator.isIssuedByLocalCa(certificate), is(true));
+
+        when(clock.instant()).thenReturn(certificate.getNotAfter());
+
+        assertThat(validator.isIssuedByLocalCa(certificate), is(false));
+        verify(certificateStore, times(1)).getCACertificate();
+    }
+
+    @Test
+    void GIVEN_certificateNotYetValid_WHEN_validated_THEN_rejectedUntilValid()
+            throws KeyStoreException, InvalidCertificateException {
+        ParsedCertificate certificate = ParsedCertificate.of(componentCertificatePem);
+        when(clock.instant()).thenReturn(certificate.getNotBefore().minusSeconds(1));
+        ComponentCertificateValidator validator = new ComponentCertificateValidator(certificateStore, clock);
+
+        assertThat(validator.isIssuedByLocalCa(certificate), is(false));
+        verify(certificateStore, never()).getCACertificate();
+
+        when(certificateStore.getCACertificate()).thenReturn(rootCA);
+        when(clock.instant()).thenReturn(certificate.getNotBefore());
+
+        assertThat(validator.isIssuedByLocalCa(certificate), is(true));
+    }
+}
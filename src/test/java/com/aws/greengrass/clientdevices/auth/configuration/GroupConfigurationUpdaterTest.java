@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class GroupConfigurationUpdaterTest {
+    @Mock
+    private GroupManager groupManager;
+
+    @Test
+    void GIVEN_unchangedEntries_WHEN_update_THEN_definitionsAndPermissionsReused() {
+        GroupConfigurationUpdater updater = new GroupConfigurationUpdater(groupManager);
+        Map<String, Object> definitions = new HashMap<>();
+        definitions.put("group1", definition("thingName: thing1", "policy1"));
+        definitions.put("group2", definition("thingName: thing2", "policy2"));
+        Map<String, Object> policies = new HashMap<>();
+        policies.put("policy1", policy("mqtt:publish", "mqtt:topic:foo"));
+        policies.put("policy2", policy("mqtt:publish", "mqtt:topic:bar"));
+
+        updater.update(deviceGroups(definitions, policies));
+        policies.put("policy2", policy("mqtt:publish", "mqtt:topic:baz"));
+        updater.update(deviceGroups(definitions, policies));
+
+        ArgumentCaptor<GroupConfiguration> captor = ArgumentCaptor.forClass(GroupConfiguration.class);
+        verify(groupManager, times(2)).setGroupConfiguration(captor.capture());
+        GroupConfiguration first = captor.getAllValues().get(0);
+        GroupConfiguration second = captor.getAllValues().get(1);
+
+        assertThat(second.getDefinitions().get("group1"), is(sameInstance(first.getDefinitions().get("group1"))));
+        assertThat(second.getDefinitions().get("group2"), is(sameInstance(first.getDefinitions().get("group2"))));
+        assertThat(second.getGroupToPermissionIndexMap().get("group1"),
+                is(sameInstance(first.getGroupToPermissionIndexMap().get("group1"))));
+        assertThat(second.getGroupToPermissionIndexMap().get("group2"),
+                is(not(sameInstance(first.getGroupToPermissionIndexMap().get("group2")))));
+        assertThat(second.getGroupToPermissionIndexMap().get("group2").isAllowed("mqtt", "publish", "topic", "baz"),
+                is(true));
+    }
+
+    @Test
+    void GIVEN_groupWithMissingPolicy_WHEN_update_THEN_exceptionThrownAndNothingPublished() {
+        GroupConfigurationUpdater updater = new GroupConfigurationUpdater(groupManager);
+        Map<String, Object> definitions =
+                Collections.singletonMap("group1", definition("thingName: thing1", "missingPolicy"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> updater.update(deviceGroups(definitions, Collections.emptyMap())));
+        verify(groupManager, never()).setGroupConfiguration(any());
+    }
+
+    private static Map<String, Object> deviceGroups(Map<String, Object> definitions, Map<String, Object> policies) {
+        Map<String, Object> deviceGroups = new HashMap<>();
+        deviceGroups.put("formatVersion", "2021-03-05");
+        deviceGroups.put("definitions", new HashMap<>(definitions));
+        deviceGroups.put("policies", new HashMap<>(policies));
+        return deviceGroups;
+    }
+
+    private static Map<String, Object> definition(String selectionRule, String policyName) {
+        Map<String, Object> definition = new HashMap<>();
+        definition.put("selectionRule", selectionRule);
+        definition.put("policyName", policyName);
+        return definition;
+    }
+
+    private static Map<String, Object> policy(String operation, String resource) {
+        Map<String, Object> statement = new HashMap<>();
+        statement.put("statementDescription", "description");
+        statement.put("operations", Arrays.asList(operation));
+        statement.put("resources", Arrays.asList(resource));
+        return Collections.singletonMap("statement1", statement);
+    }
+}
@@ -18,7 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class GroupDefinitionTest {
@@ -28,7 +28,7 @@ public class GroupDefinitionTest {
         GroupDefinition groupDefinition = new GroupDefinition("thingName: thing", "Policy1");
         Session session = Mockito.mock(Session.class);
         DeviceAttribute attribute = new WildcardSuffixAttribute("thing");
-        Mockito.when(session.getSessionAttribute(any(), any())).thenReturn(attribute);
+        Mockito.when(session.getSessionAttribute(anyInt())).thenReturn(attribute);
         assertThat(groupDefinition.containsClientDevice(session), is(true));
     }
 
@@ -38,7 +38,7 @@ public class GroupDefinitionTest {
         GroupDefinition groupDefinition = new GroupDefinition("thingName: thing*", "Policy1");
         Session session = Mockito.mock(Session.class);
         DeviceAttribute attribute = new WildcardSuffixAttribute("thing-A");
-        Mockito.when(session.getSessionAttribute(any(), any())).thenReturn(attribute);
+        Mockito.when(session.getSessionAttribute(anyInt())).thenReturn(attribute);
         assertThat(groupDefinition.containsClientDevice(session), is(true));
     }
 
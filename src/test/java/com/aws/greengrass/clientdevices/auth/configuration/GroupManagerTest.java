@@ -18,11 +18,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class GroupManagerTest {
@@ -95,6 +98,67 @@ public class GroupManagerTest {
         assertThat(groupManager.getApplicablePolicyPermissions(session), is(permissionsMap));
     }
 
+    @Test
+    void GIVEN_sessionInSingleGroup_WHEN_getApplicablePermissionIndexes_THEN_returnCompiledGroupPermissions()
+            throws AuthorizationException, ParseException {
+        Session session = getSessionFromThing("thingName");
+        GroupConfiguration groupConfiguration = GroupConfiguration.builder()
+                .definitions(Collections.singletonMap("group1", getGroupDefinition("thingName", "policy1"))).policies(
+                        Collections.singletonMap("policy1", Collections.singletonMap("Statement1",
+                                getPolicyStatement("mqtt:publish", "mqtt:topic:foo")))).build();
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroupConfiguration(groupConfiguration);
+
+        List<PermissionIndex> permissionIndexes = groupManager.getApplicablePermissionIndexes(session);
+
+        assertThat(permissionIndexes.size(), is(1));
+        assertThat(permissionIndexes.get(0).isAllowed("mqtt", "publish", "topic", "foo"), is(true));
+        assertThat(groupManager.getApplicablePermissionIndexes(getSessionFromThing("differentThingName")),
+                is(Collections.emptyList()));
+    }
+
+    @Test
+    void GIVEN_resolvedGroupMembership_WHEN_getGroupMembership_THEN_membershipReusedUntilConfigurationChanges()
+            throws AuthorizationException, ParseException {
+        Session session = getSessionFromThing("thingName");
+        GroupConfiguration groupConfiguration = GroupConfiguration.builder()
+                .definitions(Collections.singletonMap("group1", getGroupDefinition("thingName", "policy1"))).policies(
+                        Collections.singletonMap("policy1", Collections.singletonMap("Statement1",
+                                getPolicyStatement("mqtt:publish", "mqtt:topic:foo")))).build();
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroupConfiguration(groupConfiguration);
+
+        GroupMembership membership = groupManager.getGroupMembership(session);
+        assertThat(membership.getGroupNames(), is(Collections.singleton("group1")));
+        assertThat(membership.getConfigurationVersion(), is(groupManager.getConfigurationVersion()));
+        assertThat(groupManager.getGroupMembership(session), is(sameInstance(membership)));
+
+        groupManager.setGroupConfiguration(new GroupConfiguration(null, null, null));
+
+        GroupMembership newMembership = groupManager.getGroupMembership(session);
+        assertThat(newMembership, is(not(sameInstance(membership))));
+        assertThat(newMembership.getGroupNames(), is(Collections.emptySet()));
+    }
+
+    @Test
+    void GIVEN_policyWithThingNameVariable_WHEN_getApplicablePermissionIndexes_THEN_variableBoundPerSession()
+            throws AuthorizationException, ParseException {
+        GroupConfiguration groupConfiguration = GroupConfiguration.builder()
+                .definitions(Collections.singletonMap("group1", getGroupDefinition("thing*", "policy1"))).policies(
+                        Collections.singletonMap("policy1", Collections.singletonMap("Statement1",
+                                getPolicyStatement("mqtt:publish",
+                                        "mqtt:topic:things/${iot:Connection.Thing.ThingName}/data")))).build();
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroupConfiguration(groupConfiguration);
+
+        PermissionIndex thing1Index = groupManager.getApplicablePermissionIndexes(getSessionFromThing("thing1")).get(0);
+        PermissionIndex thing2Index = groupManager.getApplicablePermissionIndexes(getSessionFromThing("thing2")).get(0);
+
+        assertThat(thing1Index.isAllowed("mqtt", "publish", "topic", "things/thing1/data"), is(true));
+        assertThat(thing1Index.isAllowed("mqtt", "publish", "topic", "things/thing2/data"), is(false));
+        assertThat(thing2Index.isAllowed("mqtt", "publish", "topic", "things/thing2/data"), is(true));
+    }
+
     private Session getSessionFromThing(String thingName) {
         Thing thing = Thing.of(thingName);
         return new SessionImpl(thing);
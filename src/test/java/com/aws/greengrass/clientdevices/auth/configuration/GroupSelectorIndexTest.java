@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ParseException;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
+import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class GroupSelectorIndexTest {
+
+    @Test
+    void GIVEN_indexedAndUnindexedRules_WHEN_findMatchingGroups_THEN_sameGroupsAsRuleEvaluation()
+            throws ParseException {
+        Map<String, GroupDefinition> definitions = new HashMap<>();
+        definitions.put("exact", definition("thingName: sensor-1"));
+        definitions.put("prefix", definition("thingName: sensor-*"));
+        definitions.put("any", definition("thingName: *"));
+        definitions.put("or", definition("thingName: light-1 OR thingName: sensor-2 OR thingName: lamp*"));
+        definitions.put("and", definition("thingName: sensor* AND thingName: *"));
+        GroupSelectorIndex index = GroupSelectorIndex.of(definitions);
+
+        for (String thingName : Arrays.asList("sensor-1", "sensor-2", "light-1", "lamp-3", "valve")) {
+            SessionImpl session = new SessionImpl(Thing.of(thingName));
+            assertThat(thingName, index.findMatchingGroups(session), is(evaluateAll(definitions, session)));
+        }
+        assertThat(index.findMatchingGroups(new SessionImpl(Thing.of("sensor-1"))),
+                is(new HashSet<>(Arrays.asList("exact", "prefix", "any", "and"))));
+    }
+
+    @Test
+    void GIVEN_certificateAndThingNameRules_WHEN_findMatchingGroups_THEN_sameGroupsAsRuleEvaluation()
+            throws ParseException {
+        Map<String, GroupDefinition> definitions = new HashMap<>();
+        definitions.put("certificate", definition("certificateId: abc123"));
+        definitions.put("certificatePrefix", definition("Certificate.CertificateId: abc*"));
+        definitions.put("clientOrCertificate", definition("clientId: sensor-1 OR certificateId: def456"));
+        definitions.put("certificateAndThing", definition("certificateId: abc* AND thingName: sensor*"));
+        GroupSelectorIndex index = GroupSelectorIndex.of(definitions);
+
+        for (String certificateId : Arrays.asList("abc123", "abc999", "def456", "fff000")) {
+            for (String thingName : Arrays.asList("sensor-1", "light-1")) {
+                Certificate certificate = Mockito.mock(Certificate.class);
+                Mockito.when(certificate.getNamespace()).thenReturn(Certificate.NAMESPACE);
+                Mockito.when(certificate.getDeviceAttributes()).thenReturn(Collections.singletonMap("CertificateId",
+                        new WildcardSuffixAttribute(certificateId)));
+                SessionImpl session = new SessionImpl(certificate, Thing.of(thingName));
+                assertThat(certificateId + " " + thingName, index.findMatchingGroups(session),
+                        is(evaluateAll(definitions, session)));
+            }
+        }
+    }
+
+    @Test
+    void GIVEN_sessionWithoutThing_WHEN_findMatchingGroups_THEN_noThingNameGroupsMatch() throws ParseException {
+        GroupSelectorIndex index = GroupSelectorIndex.of(Collections.singletonMap("any", definition("thingName: *")));
+
+        assertThat(index.findMatchingGroups(new SessionImpl(new Component())), is(Collections.emptySet()));
+    }
+
+    private static HashSet<String> evaluateAll(Map<String, GroupDefinition> definitions, SessionImpl session) {
+        HashSet<String> groups = new HashSet<>();
+        definitions.forEach((name, definition) -> {
+            if (definition.containsClientDevice(session)) {
+                groups.add(name);
+            }
+        });
+        return groups;
+    }
+
+    private static GroupDefinition definition(String selectionRule) throws ParseException {
+        return GroupDefinition.builder().selectionRule(selectionRule).policyName("policy").build();
+    }
+}
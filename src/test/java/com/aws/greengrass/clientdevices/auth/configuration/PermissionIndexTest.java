@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+public class PermissionIndexTest {
+
+    @Test
+    void GIVEN_exact_permissions_WHEN_isAllowed_THEN_only_exact_resources_allowed() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("mqtt:publish", "mqtt:topic:a"), permission("mqtt:*", "mqtt:topic:b")));
+
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "a"), is(true));
+        assertThat(index.isAllowed("mqtt", "subscribe", "topic", "a"), is(false));
+        assertThat(index.isAllowed("mqtt", "subscribe", "topic", "b"), is(true));
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "c"), is(false));
+        assertThat(index.isAllowed("mqtt", "publish", "message", "a"), is(false));
+    }
+
+    @Test
+    void GIVEN_wildcard_suffix_permissions_WHEN_isAllowed_THEN_prefix_matches_allowed() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("mqtt:subscribe", "mqtt:topic:*"),
+                        permission("mqtt:publish", "mqtt:topic:sensors/*")));
+
+        assertThat(index.isAllowed("mqtt", "subscribe", "topic", "anything/at/all"), is(true));
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "sensors/temperature"), is(true));
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "actuators/valve"), is(false));
+    }
+
+    @Test
+    void GIVEN_mqtt_wildcard_permissions_WHEN_isAllowed_THEN_topic_filter_semantics_applied() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("mqtt:publish", "mqtt:topic:sensors/+/temp"),
+                        permission("mqtt:subscribe", "mqtt:topicfilter:sensors/#"),
+                        permission("mqtt:publish", "mqtt:message:sensors/+")));
+
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "sensors/kitchen/temp"), is(true));
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "sensors/kitchen/humidity"), is(false));
+        assertThat(index.isAllowed("mqtt", "subscribe", "topicfilter", "sensors/+/temp"), is(true));
+        assertThat(index.isAllowed("mqtt", "subscribe", "topicfilter", "#"), is(false));
+        // MQTT wildcards are only interpreted for topic and topic filter resources
+        assertThat(index.isAllowed("mqtt", "publish", "message", "sensors/a"), is(false));
+        assertThat(index.isAllowed("mqtt", "publish", "message", "sensors/+"), is(true));
+    }
+
+    @Test
+    void GIVEN_any_operation_and_resource_WHEN_isAllowed_THEN_matching_service_allowed() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("*", "mqtt:topic:a"), permission("mqtt:connect", "*")));
+
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "a"), is(true));
+        assertThat(index.isAllowed("mqtt", "connect", "broker", "localBroker"), is(true));
+        assertThat(index.isAllowed("aws", "publish", "topic", "a"), is(false));
+    }
+
+    @Test
+    void GIVEN_deny_permissions_WHEN_compile_THEN_denies_indexed_separately_from_allows() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("mqtt:publish", "mqtt:topic:sensors/*"),
+                        denyPermission("mqtt:publish", "mqtt:topic:sensors/secret/*"),
+                        denyPermission("mqtt:*", "mqtt:topicfilter:#")));
+
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "sensors/secret/key"), is(true));
+        assertThat(index.isDenied("mqtt", "publish", "topic", "sensors/secret/key"), is(true));
+        assertThat(index.isDenied("mqtt", "publish", "topic", "sensors/temperature"), is(false));
+        assertThat(index.isDenied("mqtt", "subscribe", "topicfilter", "anything/+"), is(true));
+        assertThat(index.isAllowed("mqtt", "subscribe", "topicfilter", "anything/+"), is(false));
+    }
+
+    @Test
+    void GIVEN_policy_variables_WHEN_bind_THEN_only_bound_resources_allowed() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("mqtt:publish", "mqtt:topic:things/${iot:Connection.Thing.ThingName}/data"),
+                        permission("mqtt:subscribe", "mqtt:topicfilter:things/${iot:ClientId}/#"),
+                        permission("mqtt:publish", "mqtt:topic:literal/${unknown}")));
+        Map<PolicyVariable, String> values = new EnumMap<>(PolicyVariable.class);
+        values.put(PolicyVariable.THING_NAME, "thing1");
+        values.put(PolicyVariable.CLIENT_ID, "thing1");
+
+        PermissionIndex bound = index.bind(values);
+
+        assertThat(index.hasTemplates(), is(true));
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "things/thing1/data"), is(false));
+        assertThat(bound.isAllowed("mqtt", "publish", "topic", "things/thing1/data"), is(true));
+        assertThat(bound.isAllowed("mqtt", "publish", "topic", "things/thing2/data"), is(false));
+        assertThat(bound.isAllowed("mqtt", "subscribe", "topicfilter", "things/thing1/+"), is(true));
+        assertThat(bound.isAllowed("mqtt", "publish", "topic", "literal/${unknown}"), is(true));
+        assertThat(index.bind(Collections.emptyMap()).isAllowed("mqtt", "publish", "topic", "things/thing1/data"),
+                is(false));
+    }
+
+    @Test
+    void GIVEN_malformed_permissions_WHEN_compile_THEN_permissions_ignored() {
+        PermissionIndex index = PermissionIndex.compile(
+                Arrays.asList(permission("connect", "clientId"), permission("mqtt:publish", "mqtt:topic")));
+
+        assertThat(index.isAllowed("mqtt", "publish", "topic", "a"), is(false));
+        assertThat(PermissionIndex.compile(Collections.emptySet()).isEmpty(), is(true));
+    }
+
+    private static Permission permission(String operation, String resource) {
+        return Permission.builder().principal("group").operation(operation).resource(resource).build();
+    }
+
+    private static Permission denyPermission(String operation, String resource) {
+        return Permission.builder().principal("group").operation(operation).resource(resource)
+                .effect(AuthorizationPolicyStatement.Effect.DENY).build();
+    }
+}
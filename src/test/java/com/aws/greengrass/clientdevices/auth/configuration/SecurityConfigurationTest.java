@@ -19,7 +19,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.CLIENT_DEVICE_TRUST_DURATION_MINUTES_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.CLIENT_DEVICE_TRUST_REFRESH_SECONDS_TOPIC;
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.MIN_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.SECURITY_TOPIC;
 import static com.aws.greengrass.componentmanager.KernelConfigResolver.CONFIGURATION_CONFIG_KEY;
@@ -78,4 +80,21 @@ class SecurityConfigurationTest {
                 is(equalTo(MIN_CLIENT_DEVICE_TRUST_DURATION_MINUTES)));
     }
 
+    @Test
+    public void GIVEN_configuredTrustRefresh_WHEN_getClientDeviceTrustRefreshSeconds_THEN_returnsValidRefresh() {
+        assertThat(securityConfig.getClientDeviceTrustRefreshSeconds(),
+                is(equalTo(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS)));
+
+        Topic trustRefreshConfig =
+                configurationTopics.lookup(SECURITY_TOPIC, CLIENT_DEVICE_TRUST_REFRESH_SECONDS_TOPIC);
+        trustRefreshConfig.withValue(30);
+        SecurityConfiguration newConfig = SecurityConfiguration.from(configurationTopics);
+        assertThat(newConfig.getClientDeviceTrustRefreshSeconds(), is(equalTo(30)));
+        assertThat(securityConfig.hasChanged(newConfig), is(true));
+
+        trustRefreshConfig.withValue(-1);
+        newConfig = SecurityConfiguration.from(configurationTopics);
+        assertThat(newConfig.getClientDeviceTrustRefreshSeconds(),
+                is(equalTo(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS)));
+    }
 }
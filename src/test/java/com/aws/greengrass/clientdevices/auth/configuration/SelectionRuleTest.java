@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ASTStart;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.ParseException;
+import com.aws.greengrass.clientdevices.auth.configuration.parser.RuleExpression;
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
+import com.aws.greengrass.clientdevices.auth.session.attribute.WildcardSuffixAttribute;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class SelectionRuleTest {
+
+    private static ASTStart parse(String rule) throws ParseException {
+        return new RuleExpression(new StringReader(rule)).Start();
+    }
+
+    private static Session sessionWithThingName(String thingName) {
+        Session session = Mockito.mock(Session.class);
+        DeviceAttribute attribute = new WildcardSuffixAttribute(thingName);
+        // String lookups are made by the reference ExpressionVisitor
+        Mockito.lenient().when(session.getSessionAttribute(any(), any())).thenReturn(attribute);
+        Mockito.when(session.getSessionAttribute(anyInt())).thenReturn(attribute);
+        return session;
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "thingName: thing, thing",
+            "thingName: thing, thing2",
+            "thingName: thing*, thing-A",
+            "thingName: thing*, thin",
+            "thingName: a OR thingName: b OR thingName: c, c",
+            "thingName: a OR thingName: b OR thingName: c, d",
+            "thingName: a* AND thingName: ab* AND thingName: abc, abc",
+            "thingName: a* AND thingName: ab OR thingName: c, c",
+            "thingName: a* AND thingName: ab OR thingName: c, a",
+            "thingName: a OR thingName: b AND thingName: b* OR thingName: c, b",
+            "thingName: *, anything",
+            "certificateId: thing OR thingName: other, thing",
+            "Certificate.CertificateId: th* AND clientId: thing, thing",
+            "Certificate.CertificateId: th* AND clientId: thing, thin"
+    })
+    void GIVEN_selectionRule_WHEN_test_THEN_matchesExpressionVisitor(String rule, String thingName)
+            throws ParseException {
+        ASTStart tree = parse(rule);
+        Session session = sessionWithThingName(thingName);
+
+        boolean expected = (boolean) new ExpressionVisitor().visit(tree, session);
+        assertThat(SelectionRule.compile(tree).test(session), is(expected));
+    }
+
+    @Test
+    void GIVEN_selectionRuleWithManyTerms_WHEN_test_THEN_thingNameResolvedOnce() throws ParseException {
+        SelectionRule rule = SelectionRule.compile(
+                parse("thingName: a OR thingName: b OR thingName: c AND thingName: c* OR thingName: d"));
+        Session session = sessionWithThingName("d");
+
+        assertThat(rule.test(session), is(true));
+        verify(session, times(1)).getSessionAttribute(anyInt());
+    }
+
+    @Test
+    void GIVEN_sessionWithoutThingName_WHEN_test_THEN_returnsFalse() throws ParseException {
+        SelectionRule rule = SelectionRule.compile(parse("thingName: thing OR thingName: *"));
+        assertThat(rule.test(new SessionImpl()), is(false));
+    }
+}
@@ -111,6 +111,22 @@ public class BasicRuleExpressionTest {
         expectValidExpression("thingName: Thing1 AND thingName: Thing2 OR thingName: Thing3");
     }
 
+    @Test
+    void GIVEN_certificateIdAndClientIdExpressions_WHEN_RuleExpression_THEN_ruleIsParsed() throws ParseException {
+        expectValidExpression("certificateId: abc123");
+        expectValidExpression("certificateId: abc* OR clientId: client-1");
+    }
+
+    @Test
+    void GIVEN_namespacedAttributeExpression_WHEN_RuleExpression_THEN_ruleIsParsed() throws ParseException {
+        expectValidExpression("Certificate.CertificateId: abc123 AND thingName: Thing1");
+    }
+
+    @Test
+    void GIVEN_namespacedAttributeWithoutAttributeName_WHEN_RuleExpression_THEN_exceptionIsThrown() {
+        expectTokenMgrError("Certificate.: abc123");
+    }
+
     @Test
     void GIVEN_expressionWithoutThingName_WHEN_RuleExpression_THEN_exceptionIsThrown() {
         expectParseException("thingName:");
@@ -30,6 +30,25 @@ public class RuleExpressionASTTest {
         Assertions.assertEquals("Thing1", thingNode.jjtGetValue());
     }
 
+    @Test
+    public void GIVEN_attributeExpressions_WHEN_RuleExpressionStart_THEN_treeContainsAttributeNodes()
+            throws ParseException {
+        ASTStart tree = getTree("certificateId: abc* OR clientId: Client1 OR Thing.ThingName: Thing1");
+        Node orNode = tree.jjtGetChild(0);
+        Node orNode2 = orNode.jjtGetChild(1);
+        assertAttribute(orNode.jjtGetChild(0), "Certificate", "CertificateId", "abc*");
+        assertAttribute(orNode2.jjtGetChild(0), "Thing", "ThingName", "Client1");
+        assertAttribute(orNode2.jjtGetChild(1), "Thing", "ThingName", "Thing1");
+    }
+
+    private static void assertAttribute(Node node, String namespace, String attributeName, String value) {
+        Assertions.assertEquals(ASTAttribute.class, node.getClass());
+        ASTAttribute attributeNode = (ASTAttribute) node;
+        Assertions.assertEquals(namespace, attributeNode.getNamespace());
+        Assertions.assertEquals(attributeName, attributeNode.getAttributeName());
+        Assertions.assertEquals(value, attributeNode.jjtGetValue());
+    }
+
     @Test
     public void GIVEN_logicalORExpression_WHEN_RuleExpressionStart_THEN_treeContainsOrNode() throws ParseException {
         ASTStart tree = getTree("thingName: Thing1 OR thingName: Thing2");
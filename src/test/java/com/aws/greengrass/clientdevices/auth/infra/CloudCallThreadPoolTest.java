@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.infra;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class CloudCallThreadPoolTest {
+    private final CloudCallThreadPool cloudCallThreadPool = new CloudCallThreadPool();
+
+    @Test
+    void GIVEN_noThreadPool_WHEN_execute_THEN_taskRejected() {
+        assertThrows(RejectedExecutionException.class, () -> cloudCallThreadPool.execute(() -> {
+        }));
+        assertThrows(RejectedExecutionException.class, () -> cloudCallThreadPool.executeInBackground(() -> {
+        }));
+    }
+
+    @Test
+    void GIVEN_backgroundTasksQueued_WHEN_executeInBackground_THEN_tasksPastLimitRejected() {
+        List<Runnable> queued = new ArrayList<>();
+        cloudCallThreadPool.setThreadPool(queued::add);
+        AtomicInteger ran = new AtomicInteger();
+
+        for (int i = 0; i < CloudCallThreadPool.MAX_BACKGROUND_TASKS; i++) {
+            cloudCallThreadPool.executeInBackground(ran::incrementAndGet);
+        }
+        assertThrows(RejectedExecutionException.class,
+                () -> cloudCallThreadPool.executeInBackground(ran::incrementAndGet));
+
+        // Tasks waited for are not limited
+        cloudCallThreadPool.execute(ran::incrementAndGet);
+
+        // A background task which completed frees its slot
+        queued.get(0).run();
+        cloudCallThreadPool.executeInBackground(ran::incrementAndGet);
+        assertThat(queued.size(), is(CloudCallThreadPool.MAX_BACKGROUND_TASKS + 2));
+        assertThat(ran.get(), is(1));
+    }
+
+    @Test
+    void GIVEN_threadPoolRejectsTask_WHEN_executeInBackground_THEN_slotFreed() {
+        cloudCallThreadPool.setThreadPool(task -> {
+            throw new RejectedExecutionException();
+        });
+
+        for (int i = 0; i <= CloudCallThreadPool.MAX_BACKGROUND_TASKS; i++) {
+            assertThrows(RejectedExecutionException.class, () -> cloudCallThreadPool.executeInBackground(() -> {
+            }));
+        }
+
+        List<Runnable> queued = new ArrayList<>();
+        cloudCallThreadPool.setThreadPool(queued::add);
+        for (int i = 0; i < CloudCallThreadPool.MAX_BACKGROUND_TASKS; i++) {
+            cloudCallThreadPool.executeInBackground(() -> {
+            });
+        }
+        assertThat(queued.size(), is(CloudCallThreadPool.MAX_BACKGROUND_TASKS));
+    }
+
+    @Test
+    void GIVEN_threadPoolDroppedBackgroundTasks_WHEN_threadPoolReplaced_THEN_backgroundTasksRunAgain() {
+        // Accepts tasks and never runs them, like a thread pool which was shut down with tasks queued
+        cloudCallThreadPool.setThreadPool(task -> {
+        });
+        for (int i = 0; i < CloudCallThreadPool.MAX_BACKGROUND_TASKS; i++) {
+            cloudCallThreadPool.executeInBackground(() -> {
+            });
+        }
+        assertThrows(RejectedExecutionException.class, () -> cloudCallThreadPool.executeInBackground(() -> {
+        }));
+
+        AtomicInteger ran = new AtomicInteger();
+        cloudCallThreadPool.setThreadPool(Runnable::run);
+        for (int i = 0; i <= CloudCallThreadPool.MAX_BACKGROUND_TASKS; i++) {
+            cloudCallThreadPool.executeInBackground(ran::incrementAndGet);
+        }
+        assertThat(ran.get(), is(CloudCallThreadPool.MAX_BACKGROUND_TASKS + 1));
+    }
+
+    @Test
+    void GIVEN_taskOnThreadPool_WHEN_requestTime_THEN_submitTimeReturned() {
+        List<Runnable> queued = new ArrayList<>();
+        cloudCallThreadPool.setThreadPool(queued::add);
+        long before = System.nanoTime();
+        List<Long> requestTimes = new ArrayList<>();
+        cloudCallThreadPool.execute(() -> requestTimes.add(CloudCallThreadPool.requestTime()));
+        long after = System.nanoTime();
+
+        queued.get(0).run();
+
+        assertThat(requestTimes.get(0) - before >= 0 && after - requestTimes.get(0) >= 0, is(true));
+    }
+}
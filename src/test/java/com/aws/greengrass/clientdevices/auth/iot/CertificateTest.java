@@ -24,6 +24,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -65,4 +66,17 @@ class CertificateTest {
         cert.setStatus(Certificate.Status.ACTIVE);
         assertFalse(cert.isActive());
     }
+
+    @Test
+    void GIVEN_copiedCertificate_WHEN_setStatus_THEN_originalUnchanged() throws InvalidCertificateException {
+        Certificate cert = Certificate.fromPem(validClientCertificatePem);
+        cert.setStatus(Certificate.Status.ACTIVE);
+        Certificate copy = cert.copy();
+
+        copy.setStatus(Certificate.Status.UNKNOWN);
+
+        assertTrue(cert.isActive());
+        assertFalse(copy.isActive());
+        assertEquals(cert.getCertificateId(), copy.getCertificateId());
+    }
 }
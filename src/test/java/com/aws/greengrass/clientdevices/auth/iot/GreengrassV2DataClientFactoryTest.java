@@ -0,0 +1,191 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot;
+
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+import com.aws.greengrass.componentmanager.ClientConfigurationUtils;
+import com.aws.greengrass.config.Topic;
+import com.aws.greengrass.config.Topics;
+import com.aws.greengrass.dependency.Context;
+import com.aws.greengrass.deployment.DeviceConfiguration;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.greengrassv2data.GreengrassV2DataClient;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class GreengrassV2DataClientFactoryTest {
+    private static final String ENDPOINT = "https://greengrass-ats.iot.us-east-1.amazonaws.com:8443/greengrass";
+
+    @Mock
+    private DeviceConfiguration deviceConfiguration;
+    @Mock
+    private ClientDeviceAuthMetrics metrics;
+    @Mock
+    private ScheduledExecutorService ses;
+    private final Context context = new Context();
+    private Topic regionTopic;
+    private Topics proxyTopics;
+    private MockedStatic<ClientConfigurationUtils> clientConfigurationUtils;
+    private GreengrassV2DataClientFactory factory;
+
+    @BeforeEach
+    void beforeEach() {
+        regionTopic = Topic.of(context, "awsRegion", "us-east-1");
+        proxyTopics = Topics.of(context, "networkProxy", null);
+        lenient().doReturn(regionTopic).when(deviceConfiguration).getAWSRegion();
+        lenient().doReturn(proxyTopics).when(deviceConfiguration).getNetworkProxyNamespace();
+        lenient().doReturn(Topic.of(context, "certificateFilePath", "thing.pem.crt")).when(deviceConfiguration)
+                .getCertificateFilePath();
+        lenient().doReturn(Topic.of(context, "privateKeyPath", "thing.pem.key")).when(deviceConfiguration)
+                .getPrivateKeyFilePath();
+        lenient().doReturn(Topic.of(context, "rootCaPath", "rootCA.pem")).when(deviceConfiguration)
+                .getRootCAFilePath();
+        clientConfigurationUtils = mockStatic(ClientConfigurationUtils.class);
+        clientConfigurationUtils.when(() -> ClientConfigurationUtils.getGreengrassServiceEndpoint(deviceConfiguration))
+                .thenReturn(ENDPOINT);
+
+        factory = spy(new GreengrassV2DataClientFactory(deviceConfiguration, metrics, ses));
+        doAnswer(invocation -> mock(GreengrassV2DataClient.class)).when(factory).buildClient(any());
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        clientConfigurationUtils.close();
+        context.close();
+    }
+
+    @Test
+    void GIVEN_unchangedSettings_WHEN_getClient_THEN_clientShared() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        assertThat(factory.getClient(), is(sameInstance(client)));
+        assertThat(factory.getClient(), is(sameInstance(client)));
+        verify(factory, times(1)).buildClient(any());
+        verify(metrics, times(3)).cloudClientAcquired();
+        verify(metrics, times(1)).cloudClientCreated();
+    }
+
+    @Test
+    void GIVEN_regionChanged_WHEN_getClient_THEN_clientRebuilt() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        regionTopic.withValue("us-west-2");
+
+        assertClientReplaced(client);
+    }
+
+    @Test
+    void GIVEN_endpointChanged_WHEN_getClient_THEN_clientRebuilt() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        clientConfigurationUtils.when(() -> ClientConfigurationUtils.getGreengrassServiceEndpoint(deviceConfiguration))
+                .thenReturn("https://greengrass.example.com:443/greengrass");
+
+        assertClientReplaced(client);
+    }
+
+    @Test
+    void GIVEN_proxyChanged_WHEN_getClient_THEN_clientRebuilt() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        proxyTopics.lookup("proxy", "url").withValue("http://proxy.example.com:8080");
+
+        assertClientReplaced(client);
+    }
+
+    @Test
+    void GIVEN_maxConnectionsChanged_WHEN_getClient_THEN_clientRebuilt() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        factory.setMaxConnections(GreengrassV2DataClientFactory.DEFAULT_MAX_CONNECTIONS + 1);
+
+        assertClientReplaced(client);
+    }
+
+    @Test
+    void GIVEN_maxConnectionsSetToSameValue_WHEN_getClient_THEN_clientShared() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        factory.setMaxConnections(GreengrassV2DataClientFactory.DEFAULT_MAX_CONNECTIONS);
+
+        assertThat(factory.getClient(), is(sameInstance(client)));
+        verify(ses, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void GIVEN_client_WHEN_close_THEN_clientClosedAndRecreatedOnNextUse() throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        factory.close();
+
+        verify(client).close();
+        GreengrassV2DataClient recreated = factory.getClient();
+        assertThat(recreated, is(not(sameInstance(client))));
+        assertThat(factory.getClient(), is(sameInstance(recreated)));
+        verify(factory, times(2)).buildClient(any());
+    }
+
+    @Test
+    void GIVEN_replacedClientNotClosedYet_WHEN_close_THEN_replacedClientClosedOnce() throws Exception {
+        GreengrassV2DataClient replaced = factory.getClient();
+        regionTopic.withValue("us-west-2");
+        GreengrassV2DataClient client = factory.getClient();
+        ArgumentCaptor<Runnable> closeTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(ses).schedule(closeTask.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        factory.close();
+        closeTask.getValue().run();
+
+        verify(replaced, times(1)).close();
+        verify(client, times(1)).close();
+    }
+
+    private void assertClientReplaced(GreengrassV2DataClient replaced) throws Exception {
+        GreengrassV2DataClient client = factory.getClient();
+
+        assertThat(client, is(not(sameInstance(replaced))));
+        assertThat(factory.getClient(), is(sameInstance(client)));
+        verify(factory, times(2)).buildClient(any());
+
+        // Requests in flight may still use the replaced client, so it is only closed after the grace period
+        ArgumentCaptor<Runnable> closeTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(ses).schedule(closeTask.capture(), eq(GreengrassV2DataClientFactory.CLOSE_GRACE_PERIOD.toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        verify(replaced, never()).close();
+
+        closeTask.getValue().run();
+
+        verify(replaced).close();
+        verify(client, never()).close();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class ParsedCertificateTest {
+    private static X509Certificate clientCertificate;
+    private static String clientCertificatePem;
+
+    @BeforeAll
+    static void beforeAll()
+            throws CertificateException, NoSuchAlgorithmException, OperatorCreationException, IOException {
+        KeyPair rootKeyPair = CertificateStore.newRSAKeyPair(2048);
+        KeyPair clientKeyPair = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate rootCA = CertificateTestHelpers.createRootCertificateAuthority("root", rootKeyPair);
+        clientCertificate = CertificateTestHelpers.createClientCertificate(rootCA, "Client",
+                clientKeyPair.getPublic(), rootKeyPair.getPrivate());
+        clientCertificatePem = CertificateHelper.toPem(clientCertificate);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        ParsedCertificate.clearCache();
+    }
+
+    @Test
+    void GIVEN_certificatePem_WHEN_parsedTwice_THEN_sameParsedCertificateReturned()
+            throws InvalidCertificateException {
+        ParsedCertificate parsed = ParsedCertificate.of(clientCertificatePem);
+
+        assertThat(ParsedCertificate.of(clientCertificatePem), is(sameInstance(parsed)));
+        assertThat(ParsedCertificate.cacheSize(), is(1));
+        assertThat(parsed.getCertificate(), is(clientCertificate));
+        assertThat(parsed.getNotAfter(), is(clientCertificate.getNotAfter().toInstant()));
+        assertThat(parsed.getCertificateId(), is(Certificate.fromPem(clientCertificatePem).getCertificateId()));
+    }
+
+    @Test
+    void GIVEN_invalidPem_WHEN_parsed_THEN_exceptionThrownAndNothingCached() {
+        assertThrows(InvalidCertificateException.class, () -> ParsedCertificate.of("not a certificate"));
+        assertThrows(InvalidCertificateException.class, () -> ParsedCertificate.of(null));
+        assertThat(ParsedCertificate.cacheSize(), is(0));
+    }
+
+    @Test
+    void GIVEN_caValidationResult_WHEN_getCaValidation_THEN_resultOnlyReturnedForSameCaChainVersion()
+            throws InvalidCertificateException {
+        ParsedCertificate parsed = ParsedCertificate.of(clientCertificatePem);
+        assertThat(parsed.getCaValidation(1), is(nullValue()));
+
+        parsed.setCaValidation(1, true);
+
+        assertThat(parsed.getCaValidation(1), is(true));
+        assertThat(parsed.getCaValidation(2), is(nullValue()));
+    }
+}
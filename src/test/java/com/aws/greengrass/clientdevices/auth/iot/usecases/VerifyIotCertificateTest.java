@@ -0,0 +1,231 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot.usecases;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
+import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
+import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
+import static com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers.createClientCertificate;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class VerifyIotCertificateTest {
+    private static final int REQUESTS = 8;
+    private static String certificatePem;
+
+    @Mock
+    private IotAuthClient mockIotAuthClient;
+    @Mock
+    private CertificateRegistry mockCertificateRegistry;
+    @Mock
+    private NetworkStateProvider mockNetworkState;
+    private final ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    private final CloudCallThreadPool cloudCallThreadPool = new CloudCallThreadPool();
+    private VerifyIotCertificate verifyIotCertificate;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        KeyPair rootKeyPair = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate rootCA = CertificateTestHelpers.createRootCertificateAuthority("root", rootKeyPair);
+        KeyPair clientKeyPair = CertificateStore.newRSAKeyPair(2048);
+        certificatePem = CertificateHelper.toPem(createClientCertificate(rootCA, "AWS IoT Certificate",
+                clientKeyPair.getPublic(), rootKeyPair.getPrivate()));
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        verifyIotCertificate = new VerifyIotCertificate(mockIotAuthClient, mockCertificateRegistry, mockNetworkState,
+                cloudCallThreadPool);
+        cloudCallThreadPool.setThreadPool(singleThreadExecutor);
+    }
+
+    @AfterEach
+    void afterEach() {
+        singleThreadExecutor.shutdownNow();
+        Certificate.updateMetadataRefreshSeconds(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS);
+    }
+
+    @Test
+    void GIVEN_requestForSameCertificateAfterVerification_WHEN_verified_THEN_cloudCalledAgain() throws Exception {
+        Certificate activeCertificate = Certificate.fromPem(certificatePem);
+        activeCertificate.setStatus(Certificate.Status.ACTIVE);
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem))
+                .thenAnswer(invocation -> Certificate.fromPem(certificatePem));
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockIotAuthClient.getIotCertificate(certificatePem)).thenReturn(Optional.of(activeCertificate));
+
+        assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+        assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+
+        verify(mockIotAuthClient, times(2)).getIotCertificate(certificatePem);
+    }
+
+    @Test
+    void GIVEN_requestsForSameCertificateQueuedOnSingleThread_WHEN_verified_THEN_oneCloudCall() throws Exception {
+        Certificate activeCertificate = Certificate.fromPem(certificatePem);
+        activeCertificate.setStatus(Certificate.Status.ACTIVE);
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem))
+                .thenAnswer(invocation -> Certificate.fromPem(certificatePem));
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        // The first call holds the only thread until every request is queued behind it
+        CountDownLatch queued = new CountDownLatch(1);
+        when(mockIotAuthClient.getIotCertificate(certificatePem)).thenAnswer(invocation -> {
+            queued.await(5, TimeUnit.SECONDS);
+            return Optional.of(activeCertificate);
+        });
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> verifyIotCertificate.apply(certificatePem),
+                    cloudCallThreadPool));
+        }
+        queued.countDown();
+
+        for (CompletableFuture<Boolean> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS), is(true));
+        }
+        verify(mockIotAuthClient, times(1)).getIotCertificate(certificatePem);
+    }
+
+    @Test
+    void GIVEN_requestsForSameCertificateQueuedOnSingleThread_WHEN_certificateChanged_THEN_otherRequestsUnaffected()
+            throws Exception {
+        Certificate activeCertificate = Certificate.fromPem(certificatePem);
+        activeCertificate.setStatus(Certificate.Status.ACTIVE);
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem))
+                .thenAnswer(invocation -> Certificate.fromPem(certificatePem));
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        CountDownLatch queued = new CountDownLatch(1);
+        when(mockIotAuthClient.getIotCertificate(certificatePem)).thenAnswer(invocation -> {
+            queued.await(5, TimeUnit.SECONDS);
+            return Optional.of(activeCertificate);
+        });
+        // Each request changes the certificate it stores, after recording what it was given
+        List<Certificate> updated = new CopyOnWriteArrayList<>();
+        List<Boolean> updatedActive = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Certificate cert = invocation.getArgument(0);
+            updated.add(cert);
+            updatedActive.add(cert.isActive());
+            cert.setStatus(Certificate.Status.UNKNOWN);
+            return null;
+        }).when(mockCertificateRegistry).updateCertificate(any());
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> verifyIotCertificate.apply(certificatePem), cloudCallThreadPool);
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> verifyIotCertificate.apply(certificatePem), cloudCallThreadPool);
+        queued.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertThat(second.get(5, TimeUnit.SECONDS), is(true));
+        verify(mockIotAuthClient, times(1)).getIotCertificate(certificatePem);
+        verify(mockCertificateRegistry, never()).deleteCertificate(any(Certificate.class));
+        assertThat(updatedActive, contains(true, true));
+        assertThat(updated.get(0), is(not(sameInstance(updated.get(1)))));
+        assertThat(activeCertificate.isActive(), is(true));
+    }
+
+    @Test
+    void GIVEN_backgroundRefreshAndFreshActiveCertificate_WHEN_verified_THEN_localResultWithoutCloudCall()
+            throws Exception {
+        Certificate.updateMetadataRefreshSeconds(10);
+        Certificate localCertificate = Certificate.fromPem(certificatePem);
+        localCertificate.setStatus(Certificate.Status.ACTIVE);
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem)).thenReturn(localCertificate);
+
+        assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+
+        verify(mockIotAuthClient, never()).getIotCertificate(any());
+    }
+
+    @Test
+    void GIVEN_backgroundRefreshAndStaleActiveCertificate_WHEN_verified_THEN_localResultAndRefreshedOnce()
+            throws Exception {
+        Certificate.updateMetadataRefreshSeconds(10);
+        Certificate localCertificate = Certificate.fromPem(certificatePem);
+        localCertificate.setStatus(Certificate.Status.ACTIVE, Instant.now().minusSeconds(30));
+        Certificate cloudCertificate = Certificate.fromPem(certificatePem);
+        cloudCertificate.setStatus(Certificate.Status.ACTIVE);
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem)).thenReturn(localCertificate);
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        // The refresh stays pending until every request was answered
+        CountDownLatch answered = new CountDownLatch(1);
+        when(mockIotAuthClient.getIotCertificate(certificatePem)).thenAnswer(invocation -> {
+            answered.await(5, TimeUnit.SECONDS);
+            return Optional.of(cloudCertificate);
+        });
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+        }
+        answered.countDown();
+
+        verify(mockCertificateRegistry, timeout(5000)).updateCertificate(argThat(Certificate::isActive));
+        verify(mockIotAuthClient, times(1)).getIotCertificate(certificatePem);
+    }
+
+    @Test
+    void GIVEN_backgroundRefreshAndCloudError_WHEN_verified_THEN_localResultAndRefreshedAgainLater()
+            throws Exception {
+        Certificate.updateMetadataRefreshSeconds(10);
+        Certificate localCertificate = Certificate.fromPem(certificatePem);
+        localCertificate.setStatus(Certificate.Status.ACTIVE, Instant.now().minusSeconds(30));
+        when(mockCertificateRegistry.getOrCreateCertificate(certificatePem)).thenReturn(localCertificate);
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockIotAuthClient.getIotCertificate(certificatePem)).thenThrow(CloudServiceInteractionException.class);
+        // Run refreshes on the calling thread, so that they completed when the request returns
+        cloudCallThreadPool.setThreadPool(Runnable::run);
+
+        assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+        assertThat(verifyIotCertificate.apply(certificatePem), is(true));
+
+        // The failed refresh neither escaped the task nor kept the certificate from being refreshed again
+        verify(mockIotAuthClient, times(2)).getIotCertificate(certificatePem);
+        verify(mockCertificateRegistry, never()).updateCertificate(any());
+    }
+}
@@ -9,6 +9,7 @@ import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
 import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,14 +31,24 @@ import java.security.KeyPair;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS;
 import static com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers.createClientCertificate;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
@@ -45,6 +57,8 @@ class VerifyThingAttachedToCertificateTest {
     private NetworkStateProvider.Default mockNetworkState;
     @Mock
     private ThingRegistry mockThingRegistry;
+    @Mock
+    private CloudCallThreadPool mockCloudCallThreadPool;
     private IotAuthClientFake iotAuthClientFake;
     private VerifyThingAttachedToCertificate verifyThingAttachedToCertificate;
 
@@ -52,12 +66,14 @@ class VerifyThingAttachedToCertificateTest {
     void beforeEach() {
         iotAuthClientFake = new IotAuthClientFake();
         verifyThingAttachedToCertificate =
-                new VerifyThingAttachedToCertificate(iotAuthClientFake, mockThingRegistry, mockNetworkState);
+                new VerifyThingAttachedToCertificate(iotAuthClientFake, mockThingRegistry, mockNetworkState,
+                        mockCloudCallThreadPool);
     }
 
     @AfterEach
     void tearDown() {
         Thing.updateMetadataTrustDurationMinutes(DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES);
+        Thing.updateMetadataRefreshSeconds(DEFAULT_CLIENT_DEVICE_TRUST_REFRESH_SECONDS);
     }
 
     @Test
@@ -171,7 +187,8 @@ class VerifyThingAttachedToCertificateTest {
         doThrow(CloudServiceInteractionException.class).when(mockIotAuthClient)
                 .isThingAttachedToCertificate(any(), anyString());
         VerifyThingAttachedToCertificate verifyThingAttachedToCertificate =
-                new VerifyThingAttachedToCertificate(mockIotAuthClient, mockThingRegistry, mockNetworkState);
+                new VerifyThingAttachedToCertificate(mockIotAuthClient, mockThingRegistry, mockNetworkState,
+                        mockCloudCallThreadPool);
 
         when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
         when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
@@ -197,6 +214,127 @@ class VerifyThingAttachedToCertificateTest {
                 .build()));
     }
 
+    @Test
+    void GIVEN_backgroundRefreshAndStaleAttachment_WHEN_verifyThingAttachedToCertificate_THEN_returnLocalResultAndRefreshOnce()
+            throws Exception {
+        X509Certificate certificate = createTestClientCertificate();
+        String certPem = CertificateHelper.toPem(certificate);
+        Certificate thingCertificate = Certificate.fromPem(certPem);
+        Instant lastAttached = Instant.now().minusSeconds(30);
+        Thing thing = Thing.of("thing-1",
+                Collections.singletonMap(thingCertificate.getCertificateId(), lastAttached));
+        iotAuthClientFake.attachCertificateToThing(thing.getThingName(), certPem);
+        VerifyThingAttachedToCertificateDTO dto =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
+
+        Thing.updateMetadataRefreshSeconds(10);
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
+
+        VerifyThingAttachedToCertificate.Result result = verifyThingAttachedToCertificate.apply(dto);
+        verifyThingAttachedToCertificate.apply(dto);
+
+        // trusted attachment is returned without waiting for the cloud
+        assertThat(result, is(VerifyThingAttachedToCertificate.Result.builder()
+                .thingHasValidAttachmentToCertificate(true)
+                .verificationSource(VerifyThingAttachedToCertificate.Result.VerificationSource.LOCAL)
+                .lastAttached(lastAttached)
+                .attachmentExpiration(lastAttached.plus(Duration.ofMinutes(1)))
+                .build()));
+
+        // one refresh is scheduled while it is pending
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockCloudCallThreadPool, times(1)).executeInBackground(refresh.capture());
+        refresh.getValue().run();
+        verify(mockThingRegistry).updateThing(thing);
+        assertThat(thing.certificateLastAttachedOn(thingCertificate.getCertificateId()).get().isAfter(lastAttached),
+                is(true));
+    }
+
+    @Test
+    void GIVEN_networkUp_WHEN_verifyThingAttachedToCertificateAsync_THEN_cloudCalledOnThreadPool() throws Exception {
+        Thing thing = Thing.of("thing-1");
+        X509Certificate certificate = createTestClientCertificate();
+        String certPem = CertificateHelper.toPem(certificate);
+        Certificate thingCertificate = Certificate.fromPem(certPem);
+        iotAuthClientFake.attachCertificateToThing(thing.getThingName(), certPem);
+        VerifyThingAttachedToCertificateDTO dto =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
+
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
+
+        CompletableFuture<VerifyThingAttachedToCertificate.Result> result =
+                verifyThingAttachedToCertificate.applyAsync(dto);
+        CompletableFuture<VerifyThingAttachedToCertificate.Result> shared =
+                verifyThingAttachedToCertificate.applyAsync(dto);
+
+        // the cloud is called once on the pool, and nothing completes before it returns
+        ArgumentCaptor<Runnable> cloudCall = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockCloudCallThreadPool, times(1)).execute(cloudCall.capture());
+        assertThat(result.isDone(), is(false));
+        assertThat(shared.isDone(), is(false));
+
+        cloudCall.getValue().run();
+
+        Instant lastAttached = thing.certificateLastAttachedOn(thingCertificate.getCertificateId())
+                .orElseThrow(RuntimeException::new);
+        VerifyThingAttachedToCertificate.Result expected = VerifyThingAttachedToCertificate.Result.builder()
+                .thingHasValidAttachmentToCertificate(true)
+                .verificationSource(VerifyThingAttachedToCertificate.Result.VerificationSource.CLOUD)
+                .lastAttached(lastAttached)
+                .attachmentExpiration(lastAttached.plus(Duration.ofMinutes(1)))
+                .build();
+        assertThat(result.get(), is(expected));
+        assertThat(shared.get(), is(expected));
+    }
+
+    @Test
+    void GIVEN_networkUpButFailedCloudCall_WHEN_verifyThingAttachedToCertificateAsync_THEN_returnLocalResult()
+            throws Exception {
+        Thing thing = Thing.of("thing-1");
+        X509Certificate certificate = createTestClientCertificate();
+        String certPem = CertificateHelper.toPem(certificate);
+        Certificate thingCertificate = Certificate.fromPem(certPem);
+        thing.attachCertificate(thingCertificate.getCertificateId());
+        VerifyThingAttachedToCertificateDTO dto =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
+
+        IotAuthClient mockIotAuthClient = Mockito.mock(IotAuthClient.class);
+        doThrow(CloudServiceInteractionException.class).when(mockIotAuthClient)
+                .isThingAttachedToCertificate(any(), anyString());
+        VerifyThingAttachedToCertificate verifyThingAttachedToCertificate =
+                new VerifyThingAttachedToCertificate(mockIotAuthClient, mockThingRegistry, mockNetworkState,
+                        mockCloudCallThreadPool);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(mockCloudCallThreadPool).execute(any());
+
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
+
+        VerifyThingAttachedToCertificate.Result result = verifyThingAttachedToCertificate.applyAsync(dto).get();
+
+        assertThat(result.isThingHasValidAttachmentToCertificate(), is(true));
+        assertThat(result.getVerificationSource(),
+                is(VerifyThingAttachedToCertificate.Result.VerificationSource.LOCAL));
+    }
+
+    @Test
+    void GIVEN_threadPoolFull_WHEN_verifyThingAttachedToCertificateAsync_THEN_futureRejected() throws Exception {
+        Thing thing = Thing.of("thing-1");
+        VerifyThingAttachedToCertificateDTO dto = new VerifyThingAttachedToCertificateDTO(thing.getThingName(), "id");
+
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
+        doThrow(RejectedExecutionException.class).when(mockCloudCallThreadPool).execute(any());
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> verifyThingAttachedToCertificate.applyAsync(dto).join());
+        assertThat(e.getCause(), is(instanceOf(RejectedExecutionException.class)));
+    }
+
     private X509Certificate createTestClientCertificate() throws Exception {
         KeyPair rootKeyPair = CertificateStore.newRSAKeyPair(2048);
         X509Certificate rootCA = CertificateTestHelpers.createRootCertificateAuthority("root", rootKeyPair);
@@ -15,8 +15,12 @@ import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDev
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateSubscriptionEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceErrorEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionCreationEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionExpiredEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionStoreSizeEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.VerifyClientDeviceIdentityEventHandler;
 import com.aws.greengrass.clientdevices.auth.session.events.SessionCreationEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionStoreSizeEvent;
 import com.aws.greengrass.telemetry.impl.Metric;
 import com.aws.greengrass.telemetry.models.TelemetryAggregation;
 import com.aws.greengrass.telemetry.models.TelemetryUnit;
@@ -42,6 +46,8 @@ public class MetricsTest {
     private AuthorizeClientDeviceActionsMetricHandler authorizeClientDeviceActionsMetricHandler;
     private ServiceErrorEventHandler serviceErrorEventHandler;
     private SessionCreationEventHandler sessionCreationEventHandler;
+    private SessionExpiredEventHandler sessionExpiredEventHandler;
+    private SessionStoreSizeEventHandler sessionStoreSizeEventHandler;
     private Clock clock;
     private DomainEvents domainEvents;
 
@@ -56,11 +62,15 @@ public class MetricsTest {
                 metrics);
         sessionCreationEventHandler = new SessionCreationEventHandler(domainEvents, metrics);
         serviceErrorEventHandler = new ServiceErrorEventHandler(domainEvents, metrics);
+        sessionExpiredEventHandler = new SessionExpiredEventHandler(domainEvents, metrics);
+        sessionStoreSizeEventHandler = new SessionStoreSizeEventHandler(domainEvents, metrics);
         certificateSubscriptionEventHandler.listen();
         verifyClientDeviceIdentityEventHandler.listen();
         authorizeClientDeviceActionsMetricHandler.listen();
         sessionCreationEventHandler.listen();
         serviceErrorEventHandler.listen();
+        sessionExpiredEventHandler.listen();
+        sessionStoreSizeEventHandler.listen();
     }
 
     @Test
@@ -278,6 +288,24 @@ public class MetricsTest {
         assertEquals(metric.getNamespace(), authorizeClientDeviceActionFailure.getNamespace());
     }
 
+    @Test
+    void GIVEN_aggregatedAuthorizeClientDeviceActionEvent_WHEN_eventEmitted_THEN_successAndFailureCountsEmitted() {
+        domainEvents.emit(new AuthorizeClientDeviceActionEvent(5, 2));
+
+        List<Metric> collectedMetrics = metrics.collectMetrics();
+        Metric authorizeClientDeviceActionSuccess = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_SUCCESS))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+        Metric authorizeClientDeviceActionFailure = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+
+        assertEquals(5L, authorizeClientDeviceActionSuccess.getValue());
+        assertEquals(2L, authorizeClientDeviceActionFailure.getValue());
+    }
+
     @Test
     void GIVEN_getClientDeviceAuthTokenEvent_WHEN_eventsEmitted_THEN_getAuthTokenSuccessMetricCorrectlyEmitted() {
         // Emitting multiple Get Client Device Auth Token events to ensure the metric is incremented correctly
@@ -367,4 +395,69 @@ public class MetricsTest {
         assertEquals(metric.getUnit(), serviceError.getUnit());
         assertEquals(metric.getNamespace(), serviceError.getNamespace());
     }
+
+    @Test
+    void GIVEN_sessionExpiredEvents_WHEN_eventsEmitted_THEN_sessionExpiryMetricsCorrectlyEmitted() {
+        domainEvents.emit(new SessionExpiredEvent(SessionExpiredEvent.ExpiryReason.IDLE_TIMEOUT));
+        domainEvents.emit(new SessionExpiredEvent(SessionExpiredEvent.ExpiryReason.IDLE_TIMEOUT));
+        domainEvents.emit(new SessionExpiredEvent(SessionExpiredEvent.ExpiryReason.LIFETIME_EXCEEDED));
+
+        List<Metric> collectedMetrics = metrics.collectMetrics();
+        Metric idleTimeout = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SESSION_IDLE_TIMEOUT))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+        Metric lifetimeExceeded = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SESSION_LIFETIME_EXCEEDED))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+
+        assertEquals(2L, idleTimeout.getValue());
+        assertEquals(1L, lifetimeExceeded.getValue());
+        assertEquals(TelemetryUnit.Count, idleTimeout.getUnit());
+        assertEquals(TelemetryAggregation.Sum, idleTimeout.getAggregation());
+    }
+
+    @Test
+    void GIVEN_cloudClientAcquiredAndCreated_WHEN_metricsCollected_THEN_cloudClientMetricsCollected() {
+        metrics.cloudClientCreated();
+        metrics.cloudClientAcquired();
+        metrics.cloudClientAcquired();
+
+        List<Metric> collectedMetrics = metrics.collectMetrics();
+        Metric acquired = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_CLOUD_CLIENT_ACQUIRED))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+        Metric created = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_CLOUD_CLIENT_CREATED))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+
+        assertEquals(2L, acquired.getValue());
+        assertEquals(1L, created.getValue());
+        assertEquals(TelemetryUnit.Count, acquired.getUnit());
+        assertEquals(TelemetryAggregation.Sum, acquired.getAggregation());
+    }
+
+    @Test
+    void GIVEN_sessionStoreSizeEvent_WHEN_metricsCollectedTwice_THEN_sessionStoreSizeMetricsKeepTheirValue() {
+        domainEvents.emit(new SessionStoreSizeEvent(3L, 4096L));
+
+        metrics.collectMetrics();
+        List<Metric> collectedMetrics = metrics.collectMetrics();
+        Metric sessionCount = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SESSION_COUNT))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+        Metric sessionBytes = collectedMetrics.stream()
+                .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SESSION_BYTES))
+                .findFirst()
+                .orElseGet(() -> fail("metric not collected"));
+
+        assertEquals(3L, sessionCount.getValue());
+        assertEquals(4096L, sessionBytes.getValue());
+        assertEquals(TelemetryUnit.Bytes, sessionBytes.getUnit());
+        assertEquals(TelemetryAggregation.Average, sessionBytes.getAggregation());
+    }
 }
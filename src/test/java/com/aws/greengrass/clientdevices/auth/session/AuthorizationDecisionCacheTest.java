@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class AuthorizationDecisionCacheTest {
+
+    @Test
+    void GIVEN_cachedDecision_WHEN_get_with_same_version_THEN_decision_returned() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        cache.put(1L, "mqtt:publish", "mqtt:topic:a", true);
+        cache.put(1L, "mqtt:publish", "mqtt:topic:b", false);
+
+        assertThat(cache.get(1L, "mqtt:publish", "mqtt:topic:a"), is(true));
+        assertThat(cache.get(1L, "mqtt:publish", "mqtt:topic:b"), is(false));
+        assertThat(cache.get(1L, "mqtt:subscribe", "mqtt:topic:a"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_cachedDecision_WHEN_configuration_version_changes_THEN_all_decisions_invalidated() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        cache.put(1L, "mqtt:publish", "mqtt:topic:a", true);
+
+        assertThat(cache.get(2L, "mqtt:publish", "mqtt:topic:a"), is(nullValue()));
+
+        cache.put(2L, "mqtt:publish", "mqtt:topic:b", true);
+        assertThat(cache.size(), is(1));
+        // Decisions computed against an outdated configuration are dropped
+        cache.put(1L, "mqtt:publish", "mqtt:topic:a", true);
+        assertThat(cache.get(1L, "mqtt:publish", "mqtt:topic:a"), is(nullValue()));
+        assertThat(cache.get(2L, "mqtt:publish", "mqtt:topic:a"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_full_cache_WHEN_put_THEN_oldest_decision_evicted() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache(2);
+        cache.put(1L, "mqtt:publish", "mqtt:topic:a", true);
+        cache.put(1L, "mqtt:subscribe", "mqtt:topic:b", true);
+        cache.put(1L, "mqtt:publish", "mqtt:topic:c", true);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.get(1L, "mqtt:publish", "mqtt:topic:a"), is(nullValue()));
+        assertThat(cache.get(1L, "mqtt:subscribe", "mqtt:topic:b"), is(true));
+        assertThat(cache.get(1L, "mqtt:publish", "mqtt:topic:c"), is(true));
+    }
+
+    @Test
+    void GIVEN_long_resource_WHEN_put_THEN_decision_not_cached() {
+        AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+        StringBuilder topic = new StringBuilder("mqtt:topic:");
+        while (topic.length() <= AuthorizationDecisionCache.MAX_RESOURCE_LENGTH) {
+            topic.append("level/");
+        }
+        cache.put(1L, "mqtt:publish", topic.toString(), true);
+
+        assertThat(cache.size(), is(0));
+        assertThat(cache.get(1L, "mqtt:publish", topic.toString()), is(nullValue()));
+    }
+}
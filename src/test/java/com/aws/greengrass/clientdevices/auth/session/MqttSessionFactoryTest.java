@@ -9,6 +9,7 @@ import com.aws.greengrass.clientdevices.auth.DeviceAuthClient;
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
+import com.aws.greengrass.clientdevices.auth.infra.CloudCallThreadPool;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.iot.CertificateFake;
 import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.utils.ImmutableMap;
@@ -34,12 +36,16 @@ import software.amazon.awssdk.utils.ImmutableMap;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
@@ -54,6 +60,8 @@ public class MqttSessionFactoryTest {
     private NetworkStateProvider.Default mockNetworkState;
     @Mock
     private IotAuthClient iotAuthClientMock;
+    @Mock
+    private CloudCallThreadPool mockCloudCallThreadPool;
     private MqttSessionFactory mqttSessionFactory;
     private Context context;
 
@@ -68,7 +76,8 @@ public class MqttSessionFactoryTest {
         CreateIoTThingSession createIoTThingSession =
                 new CreateIoTThingSession(mockThingRegistry, mockCertificateRegistry, useCases);
         VerifyThingAttachedToCertificate verifyThingAttachedToCertificate =
-                new VerifyThingAttachedToCertificate(iotAuthClientMock, mockThingRegistry, mockNetworkState);
+                new VerifyThingAttachedToCertificate(iotAuthClientMock, mockThingRegistry, mockNetworkState,
+                        mockCloudCallThreadPool);
         context.put(NetworkStateProvider.class, mockNetworkState);
         context.put(CreateIoTThingSession.class, createIoTThingSession);
         context.put(VerifyThingAttachedToCertificate.class, verifyThingAttachedToCertificate);
@@ -135,4 +144,65 @@ public class MqttSessionFactoryTest {
         assertThat(session, is(IsNull.notNullValue()));
         assertThat(session.getSessionAttribute(Component.NAMESPACE, "component"), notNullValue());
     }
+
+    @Test
+    void GIVEN_componentWithValidClientId_WHEN_createSessionAsync_THEN_completesWithoutThreadPool() throws Exception {
+        when(mockDeviceAuthClient.isGreengrassComponent(anyString())).thenReturn(true);
+
+        CompletableFuture<Session> session = mqttSessionFactory.createSessionAsync(credentialMap);
+
+        assertThat(session.get().getSessionAttribute(Component.NAMESPACE, "component"), notNullValue());
+        verify(mockCloudCallThreadPool, never()).execute(any());
+    }
+
+    @Test
+    void GIVEN_credentialsWithValidClientId_WHEN_createSessionAsync_THEN_onlyCloudCallRunsOnThreadPool()
+            throws Exception {
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockThingRegistry.getOrCreateThing("clientId")).thenReturn(Thing.of("clientId"));
+        when(mockThingRegistry.getThing(any())).thenReturn(Thing.of("clientId"));
+        when(mockCertificateRegistry.getCertificateFromPem(any())).thenReturn(
+                Optional.of(CertificateFake.activeCertificate()));
+        when(iotAuthClientMock.isThingAttachedToCertificate((Thing) any(), (String) any())).thenReturn(true);
+
+        CompletableFuture<Session> session = mqttSessionFactory.createSessionAsync(credentialMap);
+
+        // certificate and thing are looked up on the calling thread, which does not wait for the cloud
+        ArgumentCaptor<Runnable> cloudCall = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockCloudCallThreadPool).execute(cloudCall.capture());
+        assertThat(session.isDone(), is(false));
+
+        cloudCall.getValue().run();
+        assertThat(session.get(), is(IsNull.notNullValue()));
+    }
+
+    @Test
+    void GIVEN_credentialsWithInvalidCertificate_WHEN_createSessionAsync_THEN_completesWithAuthenticationException()
+            throws InvalidCertificateException {
+        when(mockCertificateRegistry.getCertificateFromPem(any())).thenReturn(Optional.empty());
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> mqttSessionFactory.createSessionAsync(credentialMap).get());
+        assertThat(e.getCause() instanceof AuthenticationException, is(true));
+        verify(mockCloudCallThreadPool, never()).execute(any());
+    }
+
+    @Test
+    void GIVEN_credentialsWithUnknownClientId_WHEN_createSessionAsync_THEN_completesWithAuthenticationException()
+            throws InvalidCertificateException {
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockCertificateRegistry.getCertificateFromPem(any())).thenReturn(
+                Optional.of(CertificateFake.activeCertificate()));
+        when(mockThingRegistry.getThing(any())).thenReturn(Thing.of("clientId"));
+        when(mockThingRegistry.getOrCreateThing(any())).thenReturn(Thing.of("clientId"));
+        when(iotAuthClientMock.isThingAttachedToCertificate(any(), (String) any())).thenReturn(false);
+
+        CompletableFuture<Session> session = mqttSessionFactory.createSessionAsync(credentialMap);
+        ArgumentCaptor<Runnable> cloudCall = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockCloudCallThreadPool).execute(cloudCall.capture());
+        cloudCall.getValue().run();
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, session::get);
+        assertThat(e.getCause() instanceof AuthenticationException, is(true));
+    }
 }
@@ -15,11 +15,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.aws.greengrass.componentmanager.KernelConfigResolver.CONFIGURATION_CONFIG_KEY;
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.DEFAULT_MAX_ACTIVE_AUTH_TOKENS;
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_ACTIVE_AUTH_TOKENS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_SESSION_LIFETIME_SECONDS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.MAX_SESSION_MEMORY_BYTES_TOPIC;
 import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.PERFORMANCE_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService.SESSION_IDLE_TIMEOUT_SECONDS_TOPIC;
 import static com.aws.greengrass.clientdevices.auth.session.SessionConfig.MAX_SESSION_CAPACITY;
 import static com.aws.greengrass.clientdevices.auth.session.SessionConfig.MIN_SESSION_CAPACITY;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +86,43 @@ class SessionConfigTest {
         configurationTopics.context.waitForPublishQueueToClear();
         assertThat(sessionConfig.getSessionCapacity(), is(equalTo(MIN_SESSION_CAPACITY)));
     }
+
+    @Test
+    public void GIVEN_configured_session_timeouts_WHEN_get_timeouts_THEN_returns_configured_timeouts() {
+        assertThat(sessionConfig.getSessionIdleTimeoutSeconds(), is(equalTo(0L)));
+        assertThat(sessionConfig.getMaxSessionLifetimeSeconds(), is(equalTo(0L)));
+
+        configurationTopics.lookup(PERFORMANCE_TOPIC, SESSION_IDLE_TIMEOUT_SECONDS_TOPIC).withValue(300);
+        configurationTopics.lookup(PERFORMANCE_TOPIC, MAX_SESSION_LIFETIME_SECONDS_TOPIC).withValue(-1);
+        configurationTopics.context.waitForPublishQueueToClear();
+
+        assertThat(sessionConfig.getSessionIdleTimeoutSeconds(), is(equalTo(300L)));
+        // negative timeouts are disabled
+        assertThat(sessionConfig.getMaxSessionLifetimeSeconds(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void GIVEN_configured_session_memory_limit_WHEN_get_limit_THEN_returns_configured_limit() {
+        assertThat(sessionConfig.getMaxSessionMemoryBytes(), is(equalTo(0L)));
+
+        configurationTopics.lookup(PERFORMANCE_TOPIC, MAX_SESSION_MEMORY_BYTES_TOPIC).withValue(1048576);
+        configurationTopics.context.waitForPublishQueueToClear();
+        assertThat(sessionConfig.getMaxSessionMemoryBytes(), is(equalTo(1048576L)));
+
+        // negative limits are disabled
+        configurationTopics.lookup(PERFORMANCE_TOPIC, MAX_SESSION_MEMORY_BYTES_TOPIC).withValue(-1);
+        configurationTopics.context.waitForPublishQueueToClear();
+        assertThat(sessionConfig.getMaxSessionMemoryBytes(), is(equalTo(0L)));
+    }
+
+    @Test
+    public void GIVEN_subscribedListener_WHEN_update_configuration_THEN_listenerSeesUpdatedValues() {
+        List<Long> idleTimeouts = new ArrayList<>();
+        sessionConfig.subscribe(() -> idleTimeouts.add(sessionConfig.getSessionIdleTimeoutSeconds()));
+
+        configurationTopics.lookup(PERFORMANCE_TOPIC, SESSION_IDLE_TIMEOUT_SECONDS_TOPIC).withValue(60);
+        configurationTopics.context.waitForPublishQueueToClear();
+
+        assertThat(idleTimeouts.get(idleTimeouts.size() - 1), is(equalTo(60L)));
+    }
 }
@@ -7,7 +7,6 @@ package com.aws.greengrass.clientdevices.auth.session;
 
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -29,16 +29,12 @@ public class SessionCreatorTest {
 
     @Mock
     private MqttSessionFactory mqttSessionFactory;
-
-    @AfterEach
-    void afterEach() {
-        SessionCreator.unregisterSessionFactory(mqttCredentialType);
-    }
+    private final SessionCreator sessionCreator = new SessionCreator();
 
     @Test
     void GIVEN_noRegisteredFactories_WHEN_createSession_THEN_throwsException() {
         Assertions.assertThrows(IllegalArgumentException.class,
-                () -> SessionCreator.createSession(mqttCredentialType, new HashMap<>()));
+                () -> sessionCreator.createSession(mqttCredentialType, new HashMap<>()));
     }
 
     @Test
@@ -47,14 +43,37 @@ public class SessionCreatorTest {
         Session mockSession = mock(SessionImpl.class);
         when(mqttSessionFactory.createSession(any())).thenReturn(mockSession);
 
-        SessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
-        assertThat(SessionCreator.createSession(mqttCredentialType, new HashMap<>()), is(mockSession));
+        sessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
+        assertThat(sessionCreator.createSession(mqttCredentialType, new HashMap<>()), is(mockSession));
+    }
+
+    @Test
+    void GIVEN_registeredMqttSessionFactory_WHEN_createSessionAsync_THEN_factoryCreatesSession() throws Exception {
+        Session mockSession = mock(SessionImpl.class);
+        when(mqttSessionFactory.createSessionAsync(any())).thenReturn(CompletableFuture.completedFuture(mockSession));
+
+        sessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
+        assertThat(sessionCreator.createSessionAsync(mqttCredentialType, new HashMap<>()).get(), is(mockSession));
+    }
+
+    @Test
+    void GIVEN_noRegisteredFactories_WHEN_createSessionAsync_THEN_throwsException() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> sessionCreator.createSessionAsync(mqttCredentialType, new HashMap<>()));
     }
 
     @Test
     void GIVEN_registeredMqttSessionFactory_WHEN_createSession_WithNonMqttCredentials_THEN_throwsException() {
-        SessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
+        sessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> sessionCreator.createSession(unknownCredentialType, new HashMap<>()));
+    }
+
+    @Test
+    void GIVEN_unregisteredFactory_WHEN_createSession_THEN_throwsException() {
+        sessionCreator.registerSessionFactory(mqttCredentialType, mqttSessionFactory);
+        sessionCreator.unregisterSessionFactory(mqttCredentialType);
         Assertions.assertThrows(IllegalArgumentException.class,
-                () -> SessionCreator.createSession(unknownCredentialType, new HashMap<>()));
+                () -> sessionCreator.createSession(mqttCredentialType, new HashMap<>()));
     }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(GGExtension.class)
+class SessionIdGeneratorTest {
+
+    @Test
+    void GIVEN_generator_WHEN_generate_THEN_returnsUniqueBase64UrlIds() {
+        Set<String> sessionIds = new HashSet<>();
+        // spans several buffer refills
+        for (int i = 0; i < 1000; i++) {
+            String sessionId = SessionIdGenerator.generate();
+            assertThat(sessionId.matches("[A-Za-z0-9_-]{22}"), is(true));
+            assertThat(Base64.getUrlDecoder().decode(sessionId).length, is(SessionIdGenerator.SESSION_ID_BYTES));
+            sessionIds.add(sessionId);
+        }
+        assertThat(sessionIds.size(), is(1000));
+    }
+}
@@ -9,6 +9,9 @@ import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.CertificateFake;
 import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
 import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
+import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeSlots;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -30,4 +33,54 @@ public class SessionImplTest {
         Assertions.assertEquals(session.getSessionAttribute("Thing", "ThingName").toString(),
                 thing.getDeviceAttributes().get("ThingName").toString());
     }
+
+    @Test
+    public void GIVEN_sessionWithThingAndCert_WHEN_getSessionAttributeBySlot_THEN_sameAttributesAreReturned()
+            throws InvalidCertificateException {
+        Certificate cert = CertificateFake.of("FAKE_CERT_ID");
+        Thing thing = Thing.of("MyThing");
+        Session session = new SessionImpl(cert, thing);
+
+        Assertions.assertSame(session.getSessionAttribute("Certificate", "CertificateId"),
+                session.getSessionAttribute(AttributeSlots.of("Certificate", "CertificateId")));
+        Assertions.assertSame(session.getSessionAttribute("Thing", "ThingName"),
+                session.getSessionAttribute(AttributeSlots.of("Thing", "ThingName")));
+        Assertions.assertNull(session.getSessionAttribute(AttributeSlots.of("Component", "component")));
+        Assertions.assertNull(session.getSessionAttribute("Thing", "Unknown"));
+    }
+
+    @Test
+    public void GIVEN_sessionWithThingAndCert_WHEN_modifyAttributeProviders_THEN_throwsException()
+            throws InvalidCertificateException {
+        Thing thing = Thing.of("MyThing");
+        SessionImpl session = new SessionImpl(CertificateFake.of("FAKE_CERT_ID"), thing);
+
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> session.getAttributeProviders().remove(thing));
+        Assertions.assertSame(session.getSessionAttribute("Thing", "ThingName"),
+                session.getSessionAttribute(AttributeSlots.of("Thing", "ThingName")));
+    }
+
+    @Test
+    public void GIVEN_sessionOnlyImplementingAttributeLookup_WHEN_getSessionAttributeBySlot_THEN_lookedUpByName() {
+        Thing thing = Thing.of("MyThing");
+        Session session = new Session() {
+            @Override
+            public AttributeProvider getAttributeProvider(String attributeProviderNameSpace) {
+                return thing;
+            }
+
+            @Override
+            public DeviceAttribute getSessionAttribute(String attributeNamespace, String attributeName) {
+                return thing.getDeviceAttributes().get(attributeName);
+            }
+        };
+
+        Assertions.assertSame(thing.getDeviceAttributes().get("ThingName"),
+                session.getSessionAttribute(AttributeSlots.of("Thing", "ThingName")));
+        Assertions.assertNull(session.getSessionAttribute(AttributeSlots.NO_SLOT));
+        Assertions.assertNull(session.getAuthorizationDecisionCache());
+        session.setGroupMembership(null);
+        Assertions.assertNull(session.getGroupMembership());
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class SessionJournalTest {
+    @TempDir
+    Path workDir;
+
+    private static SessionJournal.Record record(String sessionId) {
+        return new SessionJournal.Record(sessionId, "thing-" + sessionId, "cert-" + sessionId,
+                Instant.ofEpochMilli(1000));
+    }
+
+    @Test
+    void GIVEN_journaledSessions_WHEN_reopen_THEN_liveSessionsReturnedInOrder() throws IOException {
+        SessionJournal journal = new SessionJournal(workDir);
+        assertThat(journal.open(), is(empty()));
+        journal.recordCreated(record("1"));
+        journal.recordCreated(record("2"));
+        journal.recordRemoved("1");
+        journal.recordCreated(record("3"));
+        journal.close();
+
+        assertThat(new SessionJournal(workDir).open(), contains(record("2"), record("3")));
+    }
+
+    @Test
+    void GIVEN_moreSessionsThanInitialSize_WHEN_compactIfNeeded_THEN_journalGrowsAndKeepsLiveSessions()
+            throws IOException {
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        int sessions = SessionJournal.INITIAL_SIZE / 32;
+        for (int i = 0; i < sessions; i++) {
+            journal.recordCreated(record(String.valueOf(i)));
+        }
+        for (int i = 1; i < sessions; i++) {
+            journal.recordRemoved(String.valueOf(i));
+        }
+        journal.compactIfNeeded();
+        journal.close();
+
+        List<SessionJournal.Record> records = new SessionJournal(workDir).open();
+        assertThat(records, contains(record("0")));
+    }
+
+    @Test
+    void GIVEN_openJournal_WHEN_openAgain_THEN_liveSessionsReturned() throws IOException {
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.recordCreated(record("1"));
+        journal.recordCreated(record("2"));
+        journal.recordRemoved("1");
+
+        assertThat(journal.open(), contains(record("2")));
+        journal.close();
+    }
+
+    @Test
+    void GIVEN_posixFileSystem_WHEN_open_THEN_journalOnlyAccessibleToOwner() throws IOException {
+        assumeTrue(workDir.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path journalPath = workDir.resolve("sessions").resolve("sessions.journal");
+        Files.createDirectories(journalPath.getParent());
+        Files.createFile(journalPath);
+        Files.setPosixFilePermissions(journalPath, PosixFilePermissions.fromString("rw-rw-rw-"));
+
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.close();
+
+        assertThat(Files.getPosixFilePermissions(journalPath), is(SessionJournal.OWNER_ONLY));
+    }
+
+    @Test
+    void GIVEN_unrecognizedFile_WHEN_open_THEN_journalIsEmpty() throws IOException {
+        Path journalPath = workDir.resolve("sessions").resolve("sessions.journal");
+        Files.createDirectories(journalPath.getParent());
+        Files.write(journalPath, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        assertThat(new SessionJournal(workDir).open(), is(empty()));
+    }
+
+    @Test
+    void GIVEN_closedJournal_WHEN_delete_THEN_fileIsDeleted() throws IOException {
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.close();
+
+        journal.delete();
+
+        assertThat(Files.exists(workDir.resolve("sessions").resolve("sessions.journal")), is(false));
+    }
+}
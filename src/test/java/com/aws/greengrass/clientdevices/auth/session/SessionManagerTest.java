@@ -8,28 +8,56 @@ package com.aws.greengrass.clientdevices.auth.session;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateFake;
+import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.dto.RestoreSessionDTO;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.RestoreIoTThingSession;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionCreationEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent;
+import com.aws.greengrass.clientdevices.auth.session.events.SessionStoreSizeEvent;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.utils.ImmutableMap;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNot.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 class SessionManagerTest {
@@ -37,12 +65,15 @@ class SessionManagerTest {
     private static final int MOCK_SESSION_CAPACITY = 10;
 
     private SessionManager sessionManager;
+    private SessionCreator sessionCreator;
     private DomainEvents domainEvents;
     @Mock
     private MqttSessionFactory mockSessionFactory;
     @Mock
     private SessionConfig mockSessionConfig;
     @Mock
+    private ScheduledExecutorService mockSes;
+    @Mock
     private Session mockSession;
     @Mock
     private Session mockSession2;
@@ -57,20 +88,16 @@ class SessionManagerTest {
     void beforeEach() throws AuthenticationException {
         lenient().when(mockSessionConfig.getSessionCapacity()).thenReturn(MOCK_SESSION_CAPACITY);
         domainEvents = new DomainEvents();
-        sessionManager = new SessionManager(domainEvents);
+        sessionCreator = new SessionCreator();
+        sessionCreator.registerSessionFactory(CREDENTIAL_TYPE, mockSessionFactory);
+        sessionManager = new SessionManager(domainEvents, mockSes, sessionCreator);
         sessionManager.setSessionConfig(mockSessionConfig);
-        SessionCreator.registerSessionFactory(CREDENTIAL_TYPE, mockSessionFactory);
         lenient().when(mockSessionFactory.createSession(credentialMap)).thenReturn(mockSession);
         lenient().when(mockSessionFactory.createSession(credentialMap2)).thenReturn(mockSession2);
         lenient().when(mockSessionFactory.createSession(invalidCredentialMap))
                 .thenThrow(new AuthenticationException(""));
     }
 
-    @AfterEach
-    void afterEach() {
-        SessionCreator.unregisterSessionFactory(CREDENTIAL_TYPE);
-    }
-
     @Test
     void GIVEN_validDeviceCredentials_WHEN_createSession_THEN_sessionCreatedWithUniqueIds()
             throws AuthenticationException {
@@ -103,6 +130,32 @@ class SessionManagerTest {
                 () -> sessionManager.createSession(CREDENTIAL_TYPE, invalidCredentialMap));
     }
 
+    @Test
+    void GIVEN_validDeviceCredentials_WHEN_createSessionAsync_THEN_sessionCreated() throws Exception {
+        when(mockSessionFactory.createSessionAsync(credentialMap))
+                .thenReturn(CompletableFuture.completedFuture(mockSession));
+
+        String id = sessionManager.createSessionAsync(CREDENTIAL_TYPE, credentialMap).get();
+
+        assertThat(sessionManager.findSession(id), is(mockSession));
+    }
+
+    @Test
+    void GIVEN_invalidDeviceCredentials_WHEN_createSessionAsync_THEN_completesWithAuthenticationException() {
+        List<SessionCreationEvent> events = new ArrayList<>();
+        domainEvents.registerListener(events::add, SessionCreationEvent.class);
+        CompletableFuture<Session> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new AuthenticationException(""));
+        when(mockSessionFactory.createSessionAsync(invalidCredentialMap)).thenReturn(failed);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> sessionManager.createSessionAsync(CREDENTIAL_TYPE, invalidCredentialMap).get());
+
+        assertThat(e.getCause() instanceof AuthenticationException, is(true));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getSessionCreationStatus(), is(SessionCreationEvent.SessionCreationStatus.FAILURE));
+    }
+
     @Test
     void GIVEN_validDeviceCredentials_WHEN_createSession_beyond_capacity_THEN_passes_evicting_eldest_session()
             throws AuthenticationException {
@@ -129,7 +182,7 @@ class SessionManagerTest {
 
         int mockSessionCapacity = 3;
         when(mockSessionConfig.getSessionCapacity()).thenReturn(mockSessionCapacity);
-        SessionManager sessionManager = new SessionManager(domainEvents);
+        SessionManager sessionManager = new SessionManager(domainEvents, mockSes, sessionCreator);
         sessionManager.setSessionConfig(mockSessionConfig);
 
         // fill session cache to its capacity
@@ -162,6 +215,262 @@ class SessionManagerTest {
         assertThat(sessionManager.findSession(id1), is(nullValue()));
     }
 
+    @Test
+    void GIVEN_liveThingSession_WHEN_createSessionWithSameThingAndCertificate_THEN_sessionIsReused()
+            throws AuthenticationException, InvalidCertificateException {
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        when(mockSessionFactory.createSession(credentialMap)).thenReturn(session,
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+
+        String id1 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+        String id2 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+
+        assertThat(id2, is(not(id1)));
+        assertThat(sessionManager.findSession(id1), is(session));
+        assertThat(sessionManager.findSession(id2), is(session));
+        // the session is shared, so it is removed once both authentications are closed
+        sessionManager.closeSession(id1);
+        assertThat(sessionManager.findSession(id1), is(nullValue()));
+        assertThat(sessionManager.findSession(id2), is(session));
+        sessionManager.closeSession(id2);
+        assertThat(sessionManager.findSession(id2), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_sharedThingSession_WHEN_closeSessionTwice_THEN_sessionKeptForOtherAuthentication()
+            throws AuthenticationException, InvalidCertificateException {
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        when(mockSessionFactory.createSession(credentialMap)).thenReturn(session,
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+        String id1 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+        String id2 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+
+        sessionManager.closeSession(id1);
+        sessionManager.closeSession(id1);
+
+        assertThat(sessionManager.findSession(id2), is(session));
+        sessionManager.closeSession(id2);
+        assertThat(sessionManager.findSession(id2), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_liveThingSession_WHEN_createSessionPastCapacity_THEN_oldestAuthTokensReleased()
+            throws AuthenticationException, InvalidCertificateException {
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        when(mockSessionFactory.createSession(credentialMap)).thenReturn(session);
+        List<String> ids = new ArrayList<>();
+
+        for (int i = 0; i < MOCK_SESSION_CAPACITY * 2; i++) {
+            ids.add(sessionManager.createSession(CREDENTIAL_TYPE, credentialMap));
+        }
+
+        for (int i = 0; i < MOCK_SESSION_CAPACITY; i++) {
+            assertThat(sessionManager.findSession(ids.get(i)), is(nullValue()));
+        }
+        for (int i = MOCK_SESSION_CAPACITY; i < MOCK_SESSION_CAPACITY * 2; i++) {
+            assertThat(sessionManager.findSession(ids.get(i)), is(session));
+        }
+    }
+
+    @Test
+    void GIVEN_liveThingSession_WHEN_createSessionWithOtherCertificate_THEN_newSessionCreated()
+            throws AuthenticationException, InvalidCertificateException {
+        when(mockSessionFactory.createSession(credentialMap)).thenReturn(
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+        when(mockSessionFactory.createSession(credentialMap2)).thenReturn(
+                new SessionImpl(CertificateFake.of("PEM2"), Thing.of("thing")));
+
+        String id1 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+        String id2 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap2);
+
+        assertThat(id2, is(not(id1)));
+    }
+
+    @Test
+    void GIVEN_closedThingSession_WHEN_createSessionWithSameThingAndCertificate_THEN_newSessionCreated()
+            throws AuthenticationException, InvalidCertificateException {
+        when(mockSessionFactory.createSession(credentialMap)).thenReturn(
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")),
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+
+        String id1 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+        sessionManager.closeSession(id1);
+        String id2 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+
+        assertThat(id2, is(not(id1)));
+        assertThat(sessionManager.findSession(id2), is(not(nullValue())));
+    }
+
+    @Test
+    void GIVEN_idleTimeout_WHEN_sessionUnused_THEN_sessionExpires() throws AuthenticationException {
+        when(mockSessionConfig.getSessionIdleTimeoutSeconds()).thenReturn(2L);
+        sessionManager.setSessionConfig(mockSessionConfig);
+        List<SessionExpiredEvent> events = new ArrayList<>();
+        domainEvents.registerListener(events::add, SessionExpiredEvent.class);
+        ArgumentCaptor<Runnable> expiryTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockSes).scheduleAtFixedRate(expiryTask.capture(), anyLong(), anyLong(), any(TimeUnit.class));
+
+        String id1 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+        String id2 = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap2);
+        expiryTask.getValue().run();
+        sessionManager.findSession(id2);
+        expiryTask.getValue().run();
+
+        assertThat(sessionManager.findSession(id1), is(nullValue()));
+        assertThat(sessionManager.findSession(id2), is(mockSession2));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getExpiryReason(), is(SessionExpiredEvent.ExpiryReason.IDLE_TIMEOUT));
+    }
+
+    @Test
+    void GIVEN_sessionsNeitherExpiringNorLimitedByMemory_WHEN_setSessionConfig_THEN_noExpiryTask() {
+        verify(mockSes, never()).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void GIVEN_expiryConfigured_WHEN_expiryTurnedOff_THEN_expiryTaskCancelledAfterLastRun()
+            throws AuthenticationException {
+        ScheduledFuture<?> expiryFuture = mock(ScheduledFuture.class);
+        doReturn(expiryFuture).when(mockSes)
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        ArgumentCaptor<Runnable> configListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockSessionConfig).subscribe(configListener.capture());
+        List<SessionStoreSizeEvent> events = new ArrayList<>();
+        domainEvents.registerListener(events::add, SessionStoreSizeEvent.class);
+        sessionManager.createSession(CREDENTIAL_TYPE, credentialMap);
+
+        when(mockSessionConfig.getMaxSessionMemoryBytes()).thenReturn(1_000_000L);
+        configListener.getValue().run();
+        configListener.getValue().run();
+        ArgumentCaptor<Runnable> expiryTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockSes, times(1)).scheduleAtFixedRate(expiryTask.capture(), anyLong(), anyLong(),
+                any(TimeUnit.class));
+        expiryTask.getValue().run();
+        verify(expiryFuture, never()).cancel(anyBoolean());
+        assertThat(events.get(events.size() - 1).getSessionCount(), is(1L));
+
+        when(mockSessionConfig.getMaxSessionMemoryBytes()).thenReturn(0L);
+        configListener.getValue().run();
+        expiryTask.getValue().run();
+
+        // the last run reports that the size is no longer tracked
+        verify(expiryFuture).cancel(false);
+        assertThat(events.get(events.size() - 1).getSessionCount(), is(0L));
+    }
+
+    @Test
+    void GIVEN_expiryTask_WHEN_stopExpiringSessions_THEN_expiryTaskCancelledUntilConfigSetAgain() {
+        ScheduledFuture<?> expiryFuture = mock(ScheduledFuture.class);
+        doReturn(expiryFuture).when(mockSes)
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        when(mockSessionConfig.getSessionIdleTimeoutSeconds()).thenReturn(2L);
+        sessionManager.setSessionConfig(mockSessionConfig);
+
+        sessionManager.stopExpiringSessions();
+        verify(expiryFuture).cancel(false);
+        ArgumentCaptor<Runnable> configListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockSessionConfig, times(2)).subscribe(configListener.capture());
+        configListener.getValue().run();
+        verify(mockSes, times(1)).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(),
+                any(TimeUnit.class));
+
+        sessionManager.setSessionConfig(mockSessionConfig);
+        verify(mockSes, times(2)).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(),
+                any(TimeUnit.class));
+    }
+
+    @Test
+    void GIVEN_persistedSessions_WHEN_restoreSessions_THEN_trustedSessionsRestoredAndNewSessionsJournaled(
+            @TempDir Path workDir) throws Exception {
+        when(mockSessionConfig.isPersistSessions()).thenReturn(true);
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        RestoreIoTThingSession mockRestoreSession = mock(RestoreIoTThingSession.class);
+        when(mockRestoreSession.apply(new RestoreSessionDTO("thing", "cert"))).thenReturn(session);
+        when(mockRestoreSession.apply(new RestoreSessionDTO("untrusted", "cert")))
+                .thenThrow(new AuthenticationException(""));
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.recordCreated(new SessionJournal.Record("restored", "thing", "cert", Instant.now()));
+        journal.recordCreated(new SessionJournal.Record("dropped", "untrusted", "cert", Instant.now()));
+        journal.close();
+
+        sessionManager.restoreSessions(journal, mockRestoreSession);
+        when(mockSessionFactory.createSession(credentialMap2)).thenReturn(
+                new SessionImpl(CertificateFake.of("PEM2"), Thing.of("thing2")));
+        String id = sessionManager.createSession(CREDENTIAL_TYPE, credentialMap2);
+        journal.close();
+
+        assertThat(sessionManager.findSession("restored"), is(session));
+        assertThat(sessionManager.findSession("dropped"), is(nullValue()));
+        List<String> journaled = new ArrayList<>();
+        new SessionJournal(workDir).open().forEach(record -> journaled.add(record.getSessionId()));
+        assertThat(journaled, contains("restored", id));
+    }
+
+    @Test
+    void GIVEN_restoredSessions_WHEN_restoreSessionsAgain_THEN_liveSessionsKeptInJournal(@TempDir Path workDir)
+            throws Exception {
+        when(mockSessionConfig.isPersistSessions()).thenReturn(true);
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        RestoreIoTThingSession mockRestoreSession = mock(RestoreIoTThingSession.class);
+        when(mockRestoreSession.apply(new RestoreSessionDTO("thing", "cert"))).thenReturn(session);
+        when(mockRestoreSession.apply(new RestoreSessionDTO("untrusted", "cert")))
+                .thenThrow(new AuthenticationException(""));
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.recordCreated(new SessionJournal.Record("restored", "thing", "cert", Instant.now()));
+        journal.recordCreated(new SessionJournal.Record("dropped", "untrusted", "cert", Instant.now()));
+        journal.close();
+
+        sessionManager.restoreSessions(journal, mockRestoreSession);
+        sessionManager.closeJournal();
+        sessionManager.restoreSessions(journal, mockRestoreSession);
+        sessionManager.closeJournal();
+
+        assertThat(sessionManager.findSession("restored"), is(session));
+        verify(mockRestoreSession, times(1)).apply(new RestoreSessionDTO("thing", "cert"));
+        List<String> journaled = new ArrayList<>();
+        new SessionJournal(workDir).open().forEach(record -> journaled.add(record.getSessionId()));
+        assertThat(journaled, contains("restored"));
+    }
+
+    @Test
+    void GIVEN_journaledSharedSession_WHEN_restoreSessions_THEN_holdersShareSessionAndReleaseOwnIds(
+            @TempDir Path workDir) throws Exception {
+        when(mockSessionConfig.isPersistSessions()).thenReturn(true);
+        Session session = new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing"));
+        RestoreIoTThingSession mockRestoreSession = mock(RestoreIoTThingSession.class);
+        when(mockRestoreSession.apply(new RestoreSessionDTO("thing", "cert"))).thenReturn(session,
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.recordCreated(new SessionJournal.Record("holder1", "thing", "cert", Instant.now()));
+        journal.recordCreated(new SessionJournal.Record("holder2", "thing", "cert", Instant.now()));
+        journal.close();
+
+        sessionManager.restoreSessions(journal, mockRestoreSession);
+        sessionManager.closeSession("holder1");
+        sessionManager.closeJournal();
+
+        assertThat(sessionManager.findSession("holder1"), is(nullValue()));
+        assertThat(sessionManager.findSession("holder2"), is(session));
+        List<String> journaled = new ArrayList<>();
+        new SessionJournal(workDir).open().forEach(record -> journaled.add(record.getSessionId()));
+        assertThat(journaled, contains("holder2"));
+    }
+
+    @Test
+    void GIVEN_sessionsNotPersisted_WHEN_restoreSessions_THEN_journalDeleted(@TempDir Path workDir)
+            throws IOException {
+        SessionJournal journal = new SessionJournal(workDir);
+        journal.open();
+        journal.close();
+
+        sessionManager.restoreSessions(journal, mock(RestoreIoTThingSession.class));
+
+        assertThat(Files.exists(workDir.resolve("sessions").resolve("sessions.journal")), is(false));
+    }
+
     @Test
     void GIVEN_invalidExternalSessionID_WHEN_closeSession_THEN_noActionNeeded() {
         // Should not throw
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.configuration.GroupMembership;
+import com.aws.greengrass.clientdevices.auth.configuration.Permission;
+import com.aws.greengrass.clientdevices.auth.configuration.PermissionIndex;
+import com.aws.greengrass.clientdevices.auth.configuration.PolicyVariable;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateFake;
+import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class SessionSizeEstimatorTest {
+
+    @Test
+    void GIVEN_sessionWithoutProviders_WHEN_estimate_THEN_fixedSessionSize() {
+        assertThat(SessionSizeEstimator.estimate(new SessionImpl()), is(SessionSizeEstimator.SESSION_BYTES));
+    }
+
+    @Test
+    void GIVEN_thingAndComponentSessions_WHEN_estimate_THEN_sizeGrowsWithAttributes()
+            throws InvalidCertificateException {
+        long componentSession = SessionSizeEstimator.estimate(new SessionImpl(new Component()));
+        long thingSession = SessionSizeEstimator.estimate(
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("thing")));
+        long longThingNameSession = SessionSizeEstimator.estimate(
+                new SessionImpl(CertificateFake.of("PEM"), Thing.of("a-much-longer-thing-name")));
+
+        assertThat(componentSession, greaterThan(SessionSizeEstimator.SESSION_BYTES));
+        assertThat(thingSession, greaterThan(componentSession));
+        assertThat(longThingNameSession - thingSession, is(2L * ("a-much-longer-thing-name".length() - 5)));
+    }
+
+    @Test
+    void GIVEN_cachedDecisionsAndGroupMembership_WHEN_estimate_THEN_theyAreCounted() {
+        SessionImpl session = new SessionImpl();
+        session.getAuthorizationDecisionCache().put(1L, "mqtt:publish", "mqtt:topic:a", true);
+        long withDecision = SessionSizeEstimator.estimate(session);
+
+        Map<PolicyVariable, String> values = new EnumMap<>(PolicyVariable.class);
+        values.put(PolicyVariable.THING_NAME, "thing");
+        PermissionIndex bound = PermissionIndex.compile(Collections.singletonList(Permission.builder()
+                .principal("group").operation("mqtt:publish").resource("mqtt:topic:${iot:Connection.Thing.ThingName}")
+                .build())).bind(values);
+        session.setGroupMembership(new GroupMembership(1L, Collections.singleton("group"),
+                Collections.singletonList(bound)));
+        long withMembership = SessionSizeEstimator.estimate(session);
+
+        assertThat(withDecision - SessionSizeEstimator.SESSION_BYTES, is(AuthorizationDecisionCache.DECISION_BYTES
+                + 2L * "mqtt:topic:a".length()));
+        assertThat(withMembership - withDecision, is(SessionSizeEstimator.GROUP_MEMBERSHIP_BYTES
+                + 2 * SessionSizeEstimator.REFERENCE_BYTES + SessionSizeEstimator.BOUND_INDEX_BYTES
+                + SessionSizeEstimator.BOUND_PERMISSION_BYTES + SessionSizeEstimator.STRING_BYTES
+                + 2L * "mqtt:topic:thing".length()));
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.session.events.SessionExpiredEvent.ExpiryReason;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class SessionStoreTest {
+
+    @Test
+    void GIVEN_storeAtCapacity_WHEN_put_THEN_leastRecentlyUsedSessionIsEvicted() {
+        SessionStore store = new SessionStore(() -> 3);
+        Session session1 = new SessionImpl();
+        Session session3 = new SessionImpl();
+        Session session4 = new SessionImpl();
+        store.put("1", session1);
+        store.put("2", new SessionImpl());
+        store.put("3", session3);
+        store.get("1");
+
+        store.put("4", session4);
+
+        assertThat(store.size(), is(3));
+        assertThat(store.get("1"), is(session1));
+        assertThat(store.get("2"), is(nullValue()));
+        assertThat(store.get("3"), is(session3));
+        assertThat(store.get("4"), is(session4));
+    }
+
+    @Test
+    void GIVEN_storeOverWeightLimit_WHEN_put_THEN_leastRecentlyUsedSessionsEvictedUntilUnderLimit() {
+        SessionStore store = new SessionStore(() -> 10, () -> 100, session -> 30L, () -> 0, () -> 0);
+        Session session1 = new SessionImpl();
+        Session session3 = new SessionImpl();
+        Session session4 = new SessionImpl();
+        store.put("1", session1);
+        store.put("2", new SessionImpl());
+        store.put("3", session3);
+        store.get("1");
+
+        store.put("4", session4);
+
+        assertThat(store.size(), is(3));
+        assertThat(store.get("2"), is(nullValue()));
+        assertThat(store.get("1"), is(session1));
+        assertThat(store.get("3"), is(session3));
+        assertThat(store.get("4"), is(session4));
+        assertThat(store.weight(), is(90L));
+        store.remove("1");
+        assertThat(store.weight(), is(60L));
+    }
+
+    @Test
+    void GIVEN_sessionHeavierThanWeightLimit_WHEN_put_THEN_sessionKept() {
+        SessionStore store = new SessionStore(() -> 10, () -> 100, session -> 200L, () -> 0, () -> 0);
+        store.put("1", new SessionImpl());
+
+        store.put("2", new SessionImpl());
+
+        assertThat(store.size(), is(1));
+        assertThat(store.containsKey("2"), is(true));
+        assertThat(store.weight(), is(200L));
+    }
+
+    @Test
+    void GIVEN_sessionGrewWhileUsed_WHEN_reweigh_THEN_weightUpdatedAndLeastRecentlyUsedSessionEvicted() {
+        Map<Session, Long> weights = new HashMap<>();
+        SessionStore store = new SessionStore(() -> 10, () -> 100, weights::get, () -> 0, () -> 0);
+        Session session1 = new SessionImpl();
+        Session session2 = new SessionImpl();
+        weights.put(session1, 30L);
+        weights.put(session2, 30L);
+        store.put("1", session1);
+        store.put("2", session2);
+        store.reweigh();
+        assertThat(store.weight(), is(60L));
+
+        weights.put(session2, 80L);
+        store.reweigh();
+
+        assertThat(store.get("1"), is(nullValue()));
+        assertThat(store.get("2"), is(session2));
+        assertThat(store.weight(), is(80L));
+        store.remove("2");
+        assertThat(store.weight(), is(0L));
+    }
+
+    @Test
+    void GIVEN_sessionWithIdentity_WHEN_acquireAndRelease_THEN_sessionRemovedAfterLastRelease() {
+        SessionStore store = new SessionStore(() -> 3);
+        Session session = new SessionImpl();
+        store.put("1", session, "device");
+
+        assertThat(store.acquire("device", "2"), is(true));
+        assertThat(store.get("2"), is(session));
+        store.release("1");
+        assertThat(store.containsKey("1"), is(false));
+        assertThat(store.get("2"), is(session));
+        store.release("2");
+        assertThat(store.containsKey("2"), is(false));
+        assertThat(store.size(), is(0));
+        assertThat(store.acquire("device", "3"), is(false));
+    }
+
+    @Test
+    void GIVEN_sharedSession_WHEN_releasedTwiceByOneHolder_THEN_sessionKeptForOtherHolder() {
+        SessionStore store = new SessionStore(() -> 3);
+        Session session = new SessionImpl();
+        store.put("1", session, "device");
+        store.acquire("device", "2");
+
+        store.release("1");
+        store.release("1");
+
+        assertThat(store.get("1"), is(nullValue()));
+        assertThat(store.get("2"), is(session));
+        store.release("2");
+        assertThat(store.size(), is(0));
+    }
+
+    @Test
+    void GIVEN_storeAtCapacity_WHEN_sessionAcquiredRepeatedly_THEN_oldestHoldersReleased() {
+        SessionStore store = new SessionStore(() -> 3);
+        Session session = new SessionImpl();
+        store.put("1", session, "device");
+
+        for (int i = 2; i <= 10; i++) {
+            assertThat(store.acquire("device", String.valueOf(i)), is(true));
+        }
+
+        for (int i = 1; i <= 7; i++) {
+            assertThat(store.containsKey(String.valueOf(i)), is(false));
+        }
+        assertThat(store.get("8"), is(session));
+        assertThat(store.get("9"), is(session));
+        assertThat(store.get("10"), is(session));
+        assertThat(store.size(), is(1));
+    }
+
+    @Test
+    void GIVEN_storeAtWeightLimit_WHEN_sessionAcquired_THEN_sharedIdsWeighedAndOldestHoldersReleased() {
+        SessionStore store = new SessionStore(() -> 10, () -> 100 + 2 * SessionStore.SHARED_ID_BYTES,
+                session -> 100, () -> 0, () -> 0);
+        store.put("1", new SessionImpl(), "device");
+        store.acquire("device", "2");
+        store.acquire("device", "3");
+        assertThat(store.weight(), is(100 + 2 * SessionStore.SHARED_ID_BYTES));
+
+        store.acquire("device", "4");
+
+        assertThat(store.containsKey("1"), is(false));
+        assertThat(store.containsKey("2"), is(false));
+        assertThat(store.containsKey("3"), is(true));
+        assertThat(store.containsKey("4"), is(true));
+        assertThat(store.weight(), is(100 + 2 * SessionStore.SHARED_ID_BYTES));
+        store.release("3");
+        store.release("4");
+        assertThat(store.weight(), is(0L));
+    }
+
+    @Test
+    void GIVEN_sessionIdInUse_WHEN_acquire_THEN_sessionNotShared() {
+        SessionStore store = new SessionStore(() -> 3);
+        store.put("1", new SessionImpl(), "device");
+        store.put("2", new SessionImpl(), "other");
+
+        assertThat(store.acquire("device", "2"), is(false));
+        store.release("1");
+
+        assertThat(store.containsKey("1"), is(false));
+        assertThat(store.containsKey("2"), is(true));
+    }
+
+    @Test
+    void GIVEN_acquiredSession_WHEN_evicted_THEN_identityAndHoldersAreRemoved() {
+        SessionStore store = new SessionStore(() -> 1);
+        store.put("1", new SessionImpl(), "device");
+        store.acquire("device", "2");
+
+        store.put("3", new SessionImpl());
+
+        assertThat(store.containsKey("1"), is(false));
+        assertThat(store.containsKey("2"), is(false));
+        assertThat(store.acquire("device", "4"), is(false));
+    }
+
+    @Test
+    void GIVEN_idleTimeout_WHEN_expireSessions_THEN_onlyUnusedSessionsExpire() {
+        SessionStore store = new SessionStore(() -> 10, () -> 3, () -> 0);
+        List<String> expired = new ArrayList<>();
+        store.put("unused", new SessionImpl());
+        store.put("used", new SessionImpl());
+
+        for (int tick = 1; tick <= 5; tick++) {
+            store.get("used");
+            store.expireSessions((sessionId, reason) -> expired.add(sessionId + ":" + reason));
+        }
+
+        assertThat(expired, contains("unused:" + ExpiryReason.IDLE_TIMEOUT));
+        assertThat(store.containsKey("unused"), is(false));
+        assertThat(store.containsKey("used"), is(true));
+    }
+
+    @Test
+    void GIVEN_lifetime_WHEN_expireSessions_THEN_usedSessionsExpire() {
+        SessionStore store = new SessionStore(() -> 10, () -> 2, () -> 4);
+        List<String> expired = new ArrayList<>();
+        store.put("1", new SessionImpl());
+
+        for (int tick = 1; tick <= 3; tick++) {
+            store.get("1");
+            store.expireSessions((sessionId, reason) -> expired.add(sessionId + ":" + reason));
+        }
+        assertThat(store.containsKey("1"), is(true));
+        store.get("1");
+        store.expireSessions((sessionId, reason) -> expired.add(sessionId + ":" + reason));
+
+        assertThat(expired, contains("1:" + ExpiryReason.LIFETIME_EXCEEDED));
+        assertThat(store.containsKey("1"), is(false));
+    }
+
+    @Test
+    void GIVEN_timeoutLongerThanWheel_WHEN_expireSessions_THEN_sessionExpiresAtDeadline() {
+        long timeout = SessionStore.EXPIRY_WHEEL_SIZE * 2L + 5;
+        SessionStore store = new SessionStore(() -> 10, () -> timeout, () -> 0);
+        store.put("1", new SessionImpl());
+
+        for (long tick = 1; tick < timeout; tick++) {
+            store.expireSessions((sessionId, reason) -> { });
+        }
+        assertThat(store.containsKey("1"), is(true));
+        store.expireSessions((sessionId, reason) -> { });
+
+        assertThat(store.containsKey("1"), is(false));
+    }
+
+    @Test
+    void GIVEN_sessionIdInUse_WHEN_putIfAbsent_THEN_sessionIsNotReplaced() {
+        SessionStore store = new SessionStore(() -> 3);
+        Session session = new SessionImpl();
+
+        assertThat(store.putIfAbsent("1", session, null), is(true));
+        assertThat(store.putIfAbsent("1", new SessionImpl(), null), is(false));
+
+        assertThat(store.size(), is(1));
+        assertThat(store.get("1"), is(session));
+    }
+
+    @Test
+    void GIVEN_capacityReduced_WHEN_put_THEN_storeShrinksToCapacity() {
+        AtomicInteger capacity = new AtomicInteger(100);
+        SessionStore store = new SessionStore(capacity::get);
+        for (int i = 0; i < 100; i++) {
+            store.put(String.valueOf(i), new SessionImpl());
+        }
+
+        capacity.set(10);
+        store.put("new", new SessionImpl());
+
+        assertThat(store.size(), is(10));
+        assertThat(store.get("new"), is(notNullValue()));
+    }
+
+    @Test
+    void GIVEN_largeStore_WHEN_put_THEN_recentlyUsedSessionsAreKept() {
+        int capacity = 1000;
+        SessionStore store = new SessionStore(() -> capacity);
+        for (int i = 0; i < capacity; i++) {
+            store.put(String.valueOf(i), new SessionImpl());
+        }
+        // keep a hot set in use while the rest of the store is replaced
+        for (int i = 0; i < capacity; i++) {
+            for (int hot = 0; hot < 10; hot++) {
+                store.get(String.valueOf(hot));
+            }
+            store.put("new-" + i, new SessionImpl());
+        }
+
+        assertThat(store.size(), is(capacity));
+        int hotSessionsKept = 0;
+        for (int hot = 0; hot < 10; hot++) {
+            if (store.get(String.valueOf(hot)) != null) {
+                hotSessionsKept++;
+            }
+        }
+        assertThat(hotSessionsKept, is(10));
+    }
+
+    @Test
+    void GIVEN_concurrentReadersAndWriters_WHEN_storeIsUsed_THEN_capacityIsHonored() throws Exception {
+        int capacity = 500;
+        int threads = 16;
+        SessionStore store = new SessionStore(() -> capacity);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String prefix = "thread-" + t + "-";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2000; i++) {
+                        store.put(prefix + i, new SessionImpl());
+                        store.get(prefix + (i / 2));
+                        if (i % 10 == 0) {
+                            store.remove(prefix + (i - 5));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(store.size(), is(lessThanOrEqualTo(capacity)));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session.attribute;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+public class AttributeTableTest {
+
+    private static AttributeProvider provider(String namespace, Map<String, DeviceAttribute> attributes) {
+        return new AttributeProvider() {
+            @Override
+            public String getNamespace() {
+                return namespace;
+            }
+
+            @Override
+            public Map<String, DeviceAttribute> getDeviceAttributes() {
+                return attributes;
+            }
+        };
+    }
+
+    @Test
+    public void GIVEN_providers_WHEN_of_THEN_attributesAreFoundBySlot() {
+        DeviceAttribute name = new WildcardSuffixAttribute("name");
+        DeviceAttribute id = new StringLiteralAttribute("id");
+        DeviceAttribute other = new StringLiteralAttribute("other");
+        Map<String, DeviceAttribute> attributes = new HashMap<>();
+        attributes.put("Name", name);
+        attributes.put("Id", id);
+
+        AttributeTable table = AttributeTable.of(Arrays.asList(provider("TableTestA", attributes),
+                provider("TableTestB", Collections.singletonMap("Name", other))));
+
+        Assertions.assertSame(name, table.get(AttributeSlots.find("TableTestA", "Name")));
+        Assertions.assertSame(id, table.get(AttributeSlots.find("TableTestA", "Id")));
+        Assertions.assertSame(other, table.get(AttributeSlots.find("TableTestB", "Name")));
+    }
+
+    @Test
+    public void GIVEN_attributeNotProvided_WHEN_get_THEN_returnsNull() {
+        AttributeTable table = AttributeTable.of(Collections.singletonList(
+                provider("TableTestC", Collections.singletonMap("Name", new StringLiteralAttribute("name")))));
+
+        Assertions.assertNull(table.get(AttributeSlots.of("TableTestC", "Missing")));
+        Assertions.assertNull(table.get(AttributeSlots.find("TableTestD", "Name")));
+        Assertions.assertNull(AttributeTable.EMPTY.get(AttributeSlots.find("TableTestC", "Name")));
+    }
+
+    @Test
+    public void GIVEN_sameAttribute_WHEN_slotRequestedAgain_THEN_sameSlotIsReturned() {
+        int slot = AttributeSlots.of("TableTestE", "Name");
+
+        Assertions.assertEquals(slot, AttributeSlots.of("TableTestE", "Name"));
+        Assertions.assertEquals(slot, AttributeSlots.find("TableTestE", "Name"));
+        Assertions.assertNotEquals(slot, AttributeSlots.of("TableTestE", "Other"));
+        Assertions.assertEquals(AttributeSlots.NO_SLOT, AttributeSlots.find("TableTestF", "Name"));
+    }
+}
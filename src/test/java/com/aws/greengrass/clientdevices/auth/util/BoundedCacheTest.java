@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class BoundedCacheTest {
+    private static final int CAPACITY = 16;
+
+    @Test
+    void GIVEN_fullCache_WHEN_put_THEN_oneEntryEvicted() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put("key" + i, i);
+        }
+
+        cache.put("new", -1);
+
+        assertThat(cache.size(), is(CAPACITY));
+        assertThat(cache.get("new"), is(-1));
+    }
+
+    @Test
+    void GIVEN_entriesInUse_WHEN_burstOfOneOffEntries_THEN_entriesInUseKept() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(CAPACITY);
+        cache.put("hot", 0);
+
+        for (int i = 0; i < 10 * CAPACITY; i++) {
+            assertThat(cache.get("hot"), is(0));
+            cache.put("oneOff" + i, i);
+        }
+
+        assertThat(cache.size(), is(CAPACITY));
+        assertThat(cache.get("hot"), is(0));
+    }
+
+    @Test
+    void GIVEN_cachedEntry_WHEN_removed_THEN_getReturnsNull() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(CAPACITY);
+        cache.put("key", 1);
+
+        cache.remove("key");
+
+        assertThat(cache.get("key"), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+public class PrefixTrieMapTest {
+
+    @Test
+    void GIVEN_prefixes_WHEN_forEachPrefixOf_THEN_values_of_matching_prefixes_returned_shortest_first() {
+        Map<String, String> prefixes = new HashMap<>();
+        prefixes.put("", "all");
+        prefixes.put("sensor", "sensors");
+        prefixes.put("sensor-kitchen", "kitchen sensors");
+        prefixes.put("light", "lights");
+        PrefixTrieMap<String> trie = PrefixTrieMap.of(prefixes);
+
+        assertThat(valuesForPrefixesOf(trie, "sensor-kitchen-1"),
+                is(Arrays.asList("all", "sensors", "kitchen sensors")));
+        assertThat(valuesForPrefixesOf(trie, "sensor"), is(Arrays.asList("all", "sensors")));
+        assertThat(valuesForPrefixesOf(trie, "actuator"), is(Collections.singletonList("all")));
+    }
+
+    @Test
+    void GIVEN_no_prefixes_WHEN_forEachPrefixOf_THEN_nothing_returned() {
+        PrefixTrieMap<String> trie = PrefixTrieMap.of(Collections.emptyMap());
+
+        assertThat(trie.isEmpty(), is(true));
+        assertThat(valuesForPrefixesOf(trie, "anything"), is(Collections.emptyList()));
+    }
+
+    private static List<String> valuesForPrefixesOf(PrefixTrieMap<String> trie, String value) {
+        List<String> values = new ArrayList<>();
+        trie.forEachPrefixOf(value, values::add);
+        return values;
+    }
+}
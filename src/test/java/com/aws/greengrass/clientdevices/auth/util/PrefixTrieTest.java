@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+public class PrefixTrieTest {
+
+    @Test
+    void GIVEN_prefixes_WHEN_matchesPrefixOf_THEN_only_values_with_stored_prefix_match() {
+        PrefixTrie trie = PrefixTrie.of(Arrays.asList("sensors/", "sensors/temp", "lights"));
+
+        assertTrue(trie.matchesPrefixOf("sensors/"));
+        assertTrue(trie.matchesPrefixOf("sensors/humidity"));
+        assertTrue(trie.matchesPrefixOf("lights/kitchen"));
+        assertFalse(trie.matchesPrefixOf("sensors"));
+        assertFalse(trie.matchesPrefixOf("light"));
+        assertFalse(trie.matchesPrefixOf("actuators/valve"));
+    }
+
+    @Test
+    void GIVEN_empty_prefix_WHEN_matchesPrefixOf_THEN_every_value_matches() {
+        PrefixTrie trie = PrefixTrie.of(Collections.singletonList(""));
+
+        assertTrue(trie.matchesPrefixOf(""));
+        assertTrue(trie.matchesPrefixOf("anything"));
+    }
+
+    @Test
+    void GIVEN_no_prefixes_WHEN_matchesPrefixOf_THEN_nothing_matches() {
+        PrefixTrie trie = PrefixTrie.of(Collections.emptyList());
+
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.matchesPrefixOf(""));
+        assertFalse(trie.matchesPrefixOf("anything"));
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_callInFlight_WHEN_executeSameKey_THEN_callersShareOneCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            awaitUninterruptibly(release);
+            return "result";
+        }));
+        while (singleFlight.inFlight() == 0) {
+            Thread.sleep(1);
+        }
+
+        List<Future<String>> followers = new ArrayList<>();
+        List<Thread> followerThreads = new CopyOnWriteArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> {
+                followerThreads.add(Thread.currentThread());
+                return singleFlight.execute("key", () -> {
+                    calls.incrementAndGet();
+                    return "other result";
+                });
+            }));
+        }
+        // Release the call once every follower waits for it
+        while (followerThreads.size() < CALLERS - 1
+                || followerThreads.stream().anyMatch(t -> t.getState() != Thread.State.WAITING)) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS), is("result"));
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS), is("result"));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test
+    void GIVEN_completedCall_WHEN_executeSameKey_THEN_callRunsAgain() {
+        assertThat(singleFlight.execute("key", () -> "first"), is("first"));
+        assertThat(singleFlight.execute("key", () -> "second"), is("second"));
+    }
+
+    @Test
+    void GIVEN_callThrows_WHEN_execute_THEN_exceptionThrownAndKeyReleased() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(singleFlight.inFlight(), is(0));
+        assertThat(singleFlight.execute("key", () -> "result"), is("result"));
+    }
+
+    @Test
+    void GIVEN_retention_WHEN_requestedBeforeCallCompleted_THEN_resultReused() {
+        AtomicLong ticker = new AtomicLong(1000L);
+        SingleFlight<String, String> retaining = new SingleFlight<>(Duration.ofSeconds(5), ticker::get);
+        long queuedAt = ticker.get();
+
+        ticker.set(2000L);
+        assertThat(retaining.execute("key", () -> "first"), is("first"));
+
+        // Requested while the first call was made, but only run after it completed
+        assertThat(retaining.execute("key", queuedAt, () -> "second"), is("first"));
+        assertThat(retaining.inFlight(), is(0));
+    }
+
+    @Test
+    void GIVEN_retention_WHEN_requestedAfterCallCompleted_THEN_callRunsAgain() {
+        AtomicLong ticker = new AtomicLong(1000L);
+        SingleFlight<String, String> retaining = new SingleFlight<>(Duration.ofSeconds(5), ticker::get);
+        assertThat(retaining.execute("key", () -> "first"), is("first"));
+
+        ticker.set(2000L);
+        assertThat(retaining.execute("key", () -> "second"), is("second"));
+    }
+
+    @Test
+    void GIVEN_retention_WHEN_callThrows_THEN_exceptionNotRetained() {
+        AtomicLong ticker = new AtomicLong(1000L);
+        SingleFlight<String, String> retaining = new SingleFlight<>(Duration.ofSeconds(5), ticker::get);
+        long queuedAt = ticker.get() - 1;
+
+        assertThrows(IllegalStateException.class, () -> retaining.execute("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(retaining.execute("key", queuedAt, () -> "result"), is("result"));
+    }
+
+    @Test
+    void GIVEN_retainedResults_WHEN_retentionPassed_THEN_expiredResultsRemoved() {
+        AtomicLong ticker = new AtomicLong(0L);
+        SingleFlight<String, String> retaining = new SingleFlight<>(Duration.ofNanos(5000L), ticker::get);
+        ticker.set(1000L);
+        retaining.execute("a", () -> "a");
+        retaining.execute("b", () -> "b");
+        assertThat(retaining.size(), is(2));
+
+        ticker.set(7000L);
+        retaining.execute("c", () -> "c");
+
+        assertThat(retaining.size(), is(1));
+    }
+
+    @Test
+    void GIVEN_asyncCallInFlight_WHEN_executeAsyncSameKey_THEN_callersShareOneCallWithoutThreads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        List<Runnable> submitted = new ArrayList<>();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(singleFlight.executeAsync("key", System.nanoTime(), () -> {
+                calls.incrementAndGet();
+                return "result";
+            }, submitted::add));
+        }
+
+        // Only the first caller submitted a task, and the others wait for it without holding a thread
+        assertThat(submitted.size(), is(1));
+        assertThat(futures.stream().anyMatch(CompletableFuture::isDone), is(false));
+
+        submitted.get(0).run();
+
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS), is("result"));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test
+    void GIVEN_asyncCallInFlight_WHEN_callerCancels_THEN_otherCallersNotAffected() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        CompletableFuture<String> cancelled = singleFlight.executeAsync("key", System.nanoTime(), () -> "result",
+                submitted::add);
+        CompletableFuture<String> other = singleFlight.executeAsync("key", System.nanoTime(), () -> "other result",
+                submitted::add);
+
+        cancelled.cancel(true);
+        submitted.get(0).run();
+
+        assertThat(other.get(5, TimeUnit.SECONDS), is("result"));
+    }
+
+    @Test
+    void GIVEN_asyncCallThrows_WHEN_executeAsync_THEN_futureFailedAndKeyReleased() throws Exception {
+        CompletableFuture<String> future = singleFlight.executeAsync("key", System.nanoTime(), () -> {
+            throw new IllegalStateException();
+        }, Runnable::run);
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        assertThat(singleFlight.inFlight(), is(0));
+        assertThat(singleFlight.executeAsync("key", System.nanoTime(), () -> "result", Runnable::run)
+                .get(5, TimeUnit.SECONDS), is("result"));
+    }
+
+    @Test
+    void GIVEN_executorRejectsCall_WHEN_executeAsync_THEN_futureFailedAndKeyReleased() {
+        CompletableFuture<String> future = singleFlight.executeAsync("key", System.nanoTime(), () -> "result",
+                task -> {
+                    throw new RejectedExecutionException();
+                });
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), is(instanceOf(RejectedExecutionException.class)));
+        assertThat(singleFlight.size(), is(0));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.util;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+public class TopicFilterTrieTest {
+
+    @Test
+    void GIVEN_single_level_wildcard_filter_WHEN_matches_THEN_exactly_one_level_matched() {
+        TopicFilterTrie trie = TopicFilterTrie.of(Collections.singletonList("sensors/+/temp"));
+
+        assertTrue(trie.matches("sensors/kitchen/temp"));
+        assertTrue(trie.matches("sensors//temp"));
+        assertTrue(trie.matches("sensors/+/temp"));
+        assertFalse(trie.matches("sensors/kitchen/humidity"));
+        assertFalse(trie.matches("sensors/kitchen/oven/temp"));
+        assertFalse(trie.matches("sensors/#"));
+    }
+
+    @Test
+    void GIVEN_multi_level_wildcard_filter_WHEN_matches_THEN_parent_and_all_children_matched() {
+        TopicFilterTrie trie = TopicFilterTrie.of(Arrays.asList("home/#", "sensors/temp"));
+
+        assertTrue(trie.matches("home"));
+        assertTrue(trie.matches("home/kitchen/lights"));
+        assertTrue(trie.matches("home/+/lights"));
+        assertTrue(trie.matches("home/#"));
+        assertTrue(trie.matches("sensors/temp"));
+        assertFalse(trie.matches("sensors/humidity"));
+        assertFalse(trie.matches("office/lights"));
+    }
+
+    @Test
+    void GIVEN_leading_wildcard_filter_WHEN_matches_system_topic_THEN_not_matched() {
+        TopicFilterTrie trie = TopicFilterTrie.of(Arrays.asList("#", "+/status"));
+
+        assertTrue(trie.matches("devices/status"));
+        assertFalse(trie.matches("$SYS/broker"));
+        assertFalse(trie.matches("$SYS/status"));
+    }
+
+    @Test
+    void GIVEN_invalid_filter_WHEN_build_THEN_exception_thrown() {
+        assertFalse(TopicFilterTrie.isValidTopicFilter("home/#/lights"));
+        assertFalse(TopicFilterTrie.isValidTopicFilter("home#"));
+        assertTrue(TopicFilterTrie.isValidTopicFilter("#"));
+        assertThrows(IllegalArgumentException.class, () -> TopicFilterTrie.of(Collections.singletonList("a/#/b")));
+    }
+}